@@ -0,0 +1,91 @@
+package com.felipe.spring_techincal_review_z.domain.service;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the use case itself: validation, reactive assembly and the not-found path, against a
+ * repository that answers immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingServiceBenchmark {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private PricingService found;
+    private PricingService notFound;
+
+    @Setup
+    public void setUp() {
+        Price price = new Price(2L, 1L, 35455L, 2,
+                LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30),
+                new BigDecimal("25.45"), "EUR", 1);
+        found = new PricingService(new StubPriceRepository(price));
+        notFound = new PricingService(new StubPriceRepository(null));
+    }
+
+    // The stub answers synchronously, so subscribing runs the whole pipeline on the benchmark thread
+    @Benchmark
+    public void getApplicablePrice(Blackhole blackhole) {
+        found.getApplicablePrice(APPLICATION_DATE, 35455L, 1L).subscribe(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public void getApplicablePriceNotFound(Blackhole blackhole) {
+        notFound.getApplicablePrice(APPLICATION_DATE, 99999L, 1L).subscribe(blackhole::consume, blackhole::consume);
+    }
+
+    private static final class StubPriceRepository implements PriceRepository {
+
+        private final Mono<Price> answer;
+        private final Mono<ApplicablePrice> compactAnswer;
+
+        private StubPriceRepository(Price price) {
+            this.answer = Mono.justOrEmpty(price);
+            this.compactAnswer = price == null ? Mono.empty() : Mono.just(new ApplicablePrice(CompactPrice.of(price), price.endDate().plusNanos(1)));
+        }
+
+        @Override
+        public Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+            return compactAnswer;
+        }
+
+        @Override
+        public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+            return Mono.just(Map.of());
+        }
+
+        @Override
+        public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+            return answer.map(price -> PriceTimeline.of(List.of(price))).defaultIfEmpty(PriceTimeline.empty());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.felipe.api.model.PriceBatchResponse;
+import com.felipe.api.model.PriceBatchResult;
+import com.felipe.api.model.PriceResponse;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a full round trip, server encoding plus client decoding, of the single and batch lookup
+ * bodies in JSON and in CBOR, each with the date settings the application negotiates for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceCodecBenchmark {
+
+    private static final int BATCH_SIZE = 200;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private PriceResponse single;
+    private PriceBatchResponse batch;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot writes JSON dates as ISO strings
+        jsonMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cborMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        PriceController controller = new PriceController(null, null, null, null, null, null);
+        single = controller.mapToResponse(CompactPrice.of(new Price(2L, 1L, 35455L, 2,
+                LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30),
+                new BigDecimal("25.45"), "EUR", 1)));
+        batch = new PriceBatchResponse();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.addResultsItem(new PriceBatchResult().found(true).price(single));
+        }
+    }
+
+    @Benchmark
+    public PriceResponse jsonSingle() throws Exception {
+        return jsonMapper.readValue(jsonMapper.writeValueAsBytes(single), PriceResponse.class);
+    }
+
+    @Benchmark
+    public PriceResponse cborSingle() throws Exception {
+        return cborMapper.readValue(cborMapper.writeValueAsBytes(single), PriceResponse.class);
+    }
+
+    @Benchmark
+    public PriceBatchResponse jsonBatch() throws Exception {
+        return jsonMapper.readValue(jsonMapper.writeValueAsBytes(batch), PriceBatchResponse.class);
+    }
+
+    @Benchmark
+    public PriceBatchResponse cborBatch() throws Exception {
+        return cborMapper.readValue(cborMapper.writeValueAsBytes(batch), PriceBatchResponse.class);
+    }
+}
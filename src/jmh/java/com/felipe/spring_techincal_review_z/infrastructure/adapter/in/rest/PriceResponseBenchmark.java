@@ -0,0 +1,94 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.api.model.PriceResponse;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the response edge: domain price to generated DTO, then Jackson serialization with the
+ * same defaults Spring Boot applies to WebFlux. The compact variant is what single lookups use,
+ * and {@link #encodeCachedBody()} what they cost once the body of the price has been cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceResponseBenchmark {
+
+    private static final ResolvableType RESPONSE_TYPE = ResolvableType.forClass(PriceResponse.class);
+
+    private PriceController controller;
+    private ObjectMapper objectMapper;
+    private Price price;
+    private CompactPrice compactPrice;
+    private PriceResponseBodies bodies;
+    private PreEncodedJsonEncoder encoder;
+
+    @Setup
+    public void setUp() {
+        controller = new PriceController(null, null, null, null, null, null);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        price = new Price(1L, 1L, 35455L, 1,
+                LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                new BigDecimal("35.50"), "EUR", 0);
+        compactPrice = CompactPrice.of(price);
+        bodies = new PriceResponseBodies(new PriceResponseBodyProperties(true, 1_000),
+                objectMapper.writerFor(PriceResponse.class), new SimpleMeterRegistry(), "benchmark");
+        encoder = new PreEncodedJsonEncoder(objectMapper);
+    }
+
+    @Benchmark
+    public PriceResponse mapToResponse() {
+        return controller.mapToResponse(price);
+    }
+
+    @Benchmark
+    public PriceResponse mapCompactToResponse() {
+        return controller.mapToResponse(compactPrice);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(controller.mapToResponse(price));
+    }
+
+    @Benchmark
+    public DataBuffer mapAndEncodeCompact() {
+        return encoder.encodeValue(controller.mapToResponse(compactPrice), DefaultDataBufferFactory.sharedInstance,
+                RESPONSE_TYPE, MediaType.APPLICATION_JSON, Map.of());
+    }
+
+    @Benchmark
+    public DataBuffer encodeCachedBody() {
+        // A new but equal key, as a repository read would hand over
+        CompactPrice read = new CompactPrice(compactPrice.id(), compactPrice.brandId(), compactPrice.productId(),
+                compactPrice.priceList(), compactPrice.startEpochSecond(), compactPrice.endEpochSecond(),
+                compactPrice.priceMinor(), compactPrice.currency(), compactPrice.priority());
+        return encoder.encodeValue(bodies.get(read, controller::mapToResponse), DefaultDataBufferFactory.sharedInstance,
+                RESPONSE_TYPE, MediaType.APPLICATION_JSON, Map.of());
+    }
+}
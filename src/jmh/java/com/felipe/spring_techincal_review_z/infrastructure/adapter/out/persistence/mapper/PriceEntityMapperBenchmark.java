@@ -0,0 +1,52 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of copying a persistence entity into the domain model on every lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceEntityMapperBenchmark {
+
+    private final PriceEntityMapper mapper = new PriceEntityMapper();
+    private PriceEntity entity;
+
+    @Setup
+    public void setUp() {
+        entity = new PriceEntity();
+        entity.setId(1L);
+        entity.setBrandId(1L);
+        entity.setProductId(35455L);
+        entity.setPriceList(1);
+        entity.setStartDate(LocalDateTime.of(2020, 6, 14, 0, 0));
+        entity.setEndDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        entity.setPrice(new BigDecimal("35.50"));
+        entity.setCurrency("EUR");
+        entity.setPriority(0);
+    }
+
+    @Benchmark
+    public Price toDomain() {
+        return mapper.toDomain(entity);
+    }
+}
@@ -0,0 +1,99 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.SinglePriceLookup;
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.SchemaMigrations;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the production lookup query against H2 as the catalog grows.
+ *
+ * <p>The catalog is generated inside the database, four overlapping prices per product mirroring
+ * the shape of {@code data.sql}, and probed with random products and instants so each invocation
+ * is a full connection acquire, index walk and row read into the compact read model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class R2dbcPriceRepositoryBenchmark {
+
+    private static final long FIRST_PRODUCT = 100_000L;
+    private static final int PRICES_PER_PRODUCT = 4;
+
+    private static final LocalDateTime[] PROBES = {
+            LocalDateTime.of(2020, 6, 14, 10, 0),
+            LocalDateTime.of(2020, 6, 14, 16, 0),
+            LocalDateTime.of(2020, 6, 15, 10, 0),
+            LocalDateTime.of(2020, 6, 16, 21, 0)
+    };
+
+    private static final String GENERATE_PRICES = "INSERT INTO PRICES " +
+            "(BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+            "SELECT 1 + MOD(PRODUCT_ID, 5), " +
+            "CASE V WHEN 0 THEN TIMESTAMP '2020-06-14 00:00:00' WHEN 1 THEN TIMESTAMP '2020-06-14 15:00:00' " +
+            "WHEN 2 THEN TIMESTAMP '2020-06-15 00:00:00' ELSE TIMESTAMP '2020-06-15 16:00:00' END, " +
+            "CASE V WHEN 0 THEN TIMESTAMP '2020-12-31 23:59:59' WHEN 1 THEN TIMESTAMP '2020-06-14 18:30:00' " +
+            "WHEN 2 THEN TIMESTAMP '2020-06-15 11:00:00' ELSE TIMESTAMP '2020-12-31 23:59:59' END, " +
+            "V + 1, PRODUCT_ID, CASE V WHEN 0 THEN 0 ELSE 1 END, 10 + MOD(PRODUCT_ID, 90) + V, 'EUR' " +
+            "FROM (SELECT " + FIRST_PRODUCT + " + (X - 1) / " + PRICES_PER_PRODUCT + " AS PRODUCT_ID, " +
+            "MOD(X - 1, " + PRICES_PER_PRODUCT + ") AS V FROM SYSTEM_RANGE(1, :rows))";
+
+    @Param({"10000", "1000000", "10000000"})
+    private long rows;
+
+    private CloseableConnectionFactory database;
+    private ConnectionPool pool;
+    private SinglePriceLookup lookup;
+    private long products;
+
+    @Setup
+    public void setUp() {
+        database = H2ConnectionFactory.inMemory("pricing_benchmark_" + rows);
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(database).maxSize(10).build());
+
+        new SchemaMigrations(pool).migrate().block();
+        DatabaseClient.create(pool).sql(GENERATE_PRICES).bind("rows", rows).then().block();
+
+        lookup = new SinglePriceLookup(DatabaseClient.create(pool), new PriceLookupMetrics(new SimpleMeterRegistry()));
+        products = rows / PRICES_PER_PRODUCT;
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.disposeLater().block();
+        database.close();
+    }
+
+    @Benchmark
+    public ApplicablePrice findApplicablePrice() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long productId = FIRST_PRODUCT + random.nextLong(products);
+        return lookup.fromPrices(PROBES[random.nextInt(PROBES.length)], productId, 1 + productId % 5)
+                .block();
+    }
+}
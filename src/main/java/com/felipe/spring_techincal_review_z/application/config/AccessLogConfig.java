@@ -0,0 +1,22 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.AccessLogProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.AccessLogWebFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the sampled, single-line access log in front of every endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+@ConditionalOnProperty(prefix = "pricing.access-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogConfig {
+
+    @Bean
+    public AccessLogWebFilter accessLogWebFilter(AccessLogProperties properties) {
+        return new AccessLogWebFilter(properties);
+    }
+}
@@ -1,15 +1,37 @@
 package com.felipe.spring_techincal_review_z.application.config;
 
 import com.felipe.spring_techincal_review_z.domain.port.in.GetApplicablePriceUseCase;
+import com.felipe.spring_techincal_review_z.domain.port.in.WatchPricesUseCase;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceCatalogChanges;
 import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import com.felipe.spring_techincal_review_z.domain.service.PriceWatchService;
 import com.felipe.spring_techincal_review_z.domain.service.PricingService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
 
 @Configuration
 public class ApplicationConfig {
     @Bean
-    public GetApplicablePriceUseCase getApplicablePriceUseCase(PriceRepository priceRepository) {
-        return new PricingService(priceRepository);
+    public GetApplicablePriceUseCase getApplicablePriceUseCase(PriceRepository priceRepository,
+                                                               ObjectProvider<PriceRepositoryDecorator> decorators) {
+        return new PricingService(decorate(priceRepository, decorators));
+    }
+
+    @Bean
+    public WatchPricesUseCase watchPricesUseCase(PriceRepository priceRepository,
+                                                 ObjectProvider<PriceRepositoryDecorator> decorators,
+                                                 PriceCatalogChanges catalogChanges) {
+        return new PriceWatchService(decorate(priceRepository, decorators), catalogChanges, Schedulers.parallel());
+    }
+
+    private static PriceRepository decorate(PriceRepository priceRepository,
+                                            ObjectProvider<PriceRepositoryDecorator> decorators) {
+        PriceRepository decorated = priceRepository;
+        for (PriceRepositoryDecorator decorator : decorators.orderedStream().toList()) {
+            decorated = decorator.decorate(decorated);
+        }
+        return decorated;
     }
 }
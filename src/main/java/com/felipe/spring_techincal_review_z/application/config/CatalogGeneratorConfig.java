@@ -0,0 +1,24 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.PriceBulkWriter;
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.CatalogGeneratorProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.SyntheticCatalogGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the synthetic catalog generator run by the data initializer after the sample data.
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogGeneratorProperties.class)
+@ConditionalOnProperty(prefix = "pricing.generator", name = "enabled", havingValue = "true")
+public class CatalogGeneratorConfig {
+
+    @Bean
+    public SyntheticCatalogGenerator syntheticCatalogGenerator(CatalogGeneratorProperties properties,
+                                                               PriceBulkWriter writer) {
+        return new SyntheticCatalogGenerator(properties, writer);
+    }
+}
@@ -0,0 +1,34 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.CborValueDecoder;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.CborValueEncoder;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Registers CBOR codecs so internal callers can negotiate {@code application/cbor} instead of JSON.
+ *
+ * <p>The mapper starts from Spring Boot's Jackson settings, but writes dates as epoch seconds rather
+ * than ISO strings, which is what makes CBOR cheaper to produce and parse. JSON stays the default:
+ * it comes first in every operation's {@code produces}.
+ */
+@Configuration
+public class CborCodecConfig {
+
+    @Bean
+    public CodecCustomizer cborCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper = builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        return configurer -> {
+            configurer.customCodecs().register(new CborValueEncoder(cborMapper));
+            configurer.customCodecs().register(new CborValueDecoder(cborMapper));
+        };
+    }
+}
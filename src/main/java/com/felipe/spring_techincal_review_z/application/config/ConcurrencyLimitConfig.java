@@ -0,0 +1,28 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.ConcurrencyLimitProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.ConcurrencyLimitWebFilter;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.GradientConcurrencyLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the adaptive concurrency limit in front of the lookup endpoints.
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "pricing.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimitWebFilter concurrencyLimitWebFilter(ConcurrencyLimitProperties properties,
+                                                               MeterRegistry meterRegistry,
+                                                               ObjectMapper objectMapper) {
+        return new ConcurrencyLimitWebFilter(new GradientConcurrencyLimit(properties), properties, meterRegistry,
+                objectMapper);
+    }
+}
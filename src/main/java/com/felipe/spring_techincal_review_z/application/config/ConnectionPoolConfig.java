@@ -0,0 +1,94 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool.AdaptivePoolSizer;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool.AdjustableAllocationStrategy;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool.ConnectionPoolSizingProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool.MicrometerPoolMetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Option;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Builds the primary R2DBC connection pool from {@code spring.r2dbc.*} in place of Spring Boot, so
+ * that it can record acquire and allocation timings and, with {@code pricing.connection-pool.adaptive},
+ * size itself between {@code min-size} and {@code spring.r2dbc.pool.max-size}.
+ *
+ * <p>The bean keeps Spring Boot's name, so the {@code r2dbc.pool.*} gauges bind to it unchanged.
+ */
+@Configuration
+@EnableConfigurationProperties(ConnectionPoolSizingProperties.class)
+@ConditionalOnProperty(prefix = "spring.r2dbc.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionPoolConfig {
+
+    static final String POOL_NAME = "connectionFactory";
+
+    @Bean
+    public MicrometerPoolMetricsRecorder connectionPoolMetricsRecorder(MeterRegistry meterRegistry) {
+        return new MicrometerPoolMetricsRecorder(meterRegistry, POOL_NAME);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "pricing.connection-pool", name = "adaptive", havingValue = "true")
+    public AdjustableAllocationStrategy connectionPoolAllocationStrategy(R2dbcProperties r2dbcProperties,
+                                                                         ConnectionPoolSizingProperties properties) {
+        R2dbcProperties.Pool pool = r2dbcProperties.getPool();
+        int minimum = Math.min(properties.minSize(), pool.getMaxSize());
+        return new AdjustableAllocationStrategy(minimum, pool.getMaxSize(), pool.getInitialSize());
+    }
+
+    @Bean(name = POOL_NAME, destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(R2dbcProperties r2dbcProperties, MicrometerPoolMetricsRecorder recorder,
+                                            ObjectProvider<AdjustableAllocationStrategy> allocationStrategy) {
+        R2dbcProperties.Pool pool = r2dbcProperties.getPool();
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration
+                .builder(ConnectionFactoryBuilder.withUrl(r2dbcProperties.getUrl())
+                        .username(r2dbcProperties.getUsername())
+                        .password(r2dbcProperties.getPassword())
+                        .configure(options -> r2dbcProperties.getProperties()
+                                .forEach((key, value) -> options.option(Option.valueOf(key), value)))
+                        .build())
+                .metricsRecorder(recorder);
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
+        map.from(pool.getInitialSize()).to(builder::initialSize);
+        map.from(pool.getMaxSize()).to(builder::maxSize);
+        map.from(pool.getMinIdle()).to(builder::minIdle);
+        map.from(pool.getAcquireRetry()).to(builder::acquireRetry);
+        map.from(pool.getValidationQuery()).whenHasText().to(builder::validationQuery);
+        map.from(pool.getValidationDepth()).to(builder::validationDepth);
+        map.from(r2dbcProperties.getName()).whenHasText().to(builder::name);
+
+        AdjustableAllocationStrategy strategy = allocationStrategy.getIfAvailable();
+        if (strategy != null) {
+            Duration maxIdleTime = pool.getMaxIdleTime() != null ? pool.getMaxIdleTime() : Duration.ofMinutes(30);
+            Duration maxLifeTime = pool.getMaxLifeTime() != null ? pool.getMaxLifeTime() : Duration.ofMillis(-1);
+            builder.customizer(poolBuilder -> poolBuilder
+                    .allocationStrategy(strategy)
+                    .evictionPredicate(strategy.evictionPredicate(maxIdleTime, maxLifeTime)));
+        }
+        return new ConnectionPool(builder.build());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "pricing.connection-pool", name = "adaptive", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(ConnectionPool connectionFactory, AdjustableAllocationStrategy strategy,
+                                               MicrometerPoolMetricsRecorder recorder,
+                                               ConnectionPoolSizingProperties properties, MeterRegistry meterRegistry) {
+        return new AdaptivePoolSizer(connectionFactory, POOL_NAME, strategy, recorder, properties, meterRegistry);
+    }
+}
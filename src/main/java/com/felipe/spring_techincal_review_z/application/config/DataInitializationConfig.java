@@ -0,0 +1,13 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.DataInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds the startup initialization settings read by the data initializer.
+ */
+@Configuration
+@EnableConfigurationProperties(DataInitializationProperties.class)
+public class DataInitializationConfig {
+}
@@ -0,0 +1,64 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience.LastKnownPrices;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience.LookupResilienceProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience.ResilientPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogListener;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import reactor.core.publisher.Mono;
+
+/**
+ * Wires the timeout, bulkhead and circuit breaker around single lookups, outermost so that they
+ * cover every other decorator, with the last known prices as fallback.
+ *
+ * <p>The Resilience4j instances are named {@value #INSTANCE} and configured under
+ * {@code resilience4j.*}; their metrics are published by the Resilience4j auto-configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(LookupResilienceProperties.class)
+@ConditionalOnProperty(prefix = "pricing.resilience", name = "enabled", havingValue = "true")
+public class LookupResilienceConfig {
+
+    static final String INSTANCE = "priceLookup";
+    static final String CACHE_NAME = "price-last-known";
+
+    @Bean
+    public LastKnownPrices lastKnownPrices(LookupResilienceProperties properties, MeterRegistry meterRegistry) {
+        return new LastKnownPrices(properties.lastKnownMaximumSize(), properties.maxStaleness(), meterRegistry, CACHE_NAME);
+    }
+
+    @Bean
+    @Order(400)
+    public PriceRepositoryDecorator resilientPriceRepositoryDecorator(
+            LastKnownPrices lastKnownPrices, LookupResilienceProperties properties,
+            CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads, TimeLimiterRegistry timeLimiters,
+            MeterRegistry meterRegistry) {
+        return delegate -> new ResilientPriceRepository(delegate,
+                circuitBreakers.circuitBreaker(INSTANCE),
+                bulkheads.bulkhead(INSTANCE),
+                timeLimiters.timeLimiter(INSTANCE),
+                lastKnownPrices, properties, meterRegistry);
+    }
+
+    // A changed key must not be answered from a price the catalog no longer has
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public PriceCatalogListener lastKnownPricesInvalidator(LastKnownPrices lastKnownPrices) {
+        return event -> Mono.fromRunnable(() -> {
+            if (event.fullReload()) {
+                lastKnownPrices.invalidateAll();
+            } else {
+                event.keys().forEach(lastKnownPrices::invalidate);
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache.KnownPriceKeys;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache.NegativeLookupPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache.NegativeLookupProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogWrites;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Wires the known-key filter that short-circuits lookups for product/brand pairs without prices.
+ */
+@Configuration
+@EnableConfigurationProperties(NegativeLookupProperties.class)
+@ConditionalOnProperty(prefix = "pricing.negative-lookup", name = "enabled", havingValue = "true")
+public class NegativeLookupConfig {
+
+    @Bean
+    @Order(100)
+    public KnownPriceKeys knownPriceKeys(DatabaseClient databaseClient, PriceCatalogWrites catalogWrites,
+                                         NegativeLookupProperties properties) {
+        return new KnownPriceKeys(databaseClient, catalogWrites::pending, properties.expectedKeys(),
+                properties.falsePositiveProbability());
+    }
+
+    @Bean
+    @Order(300)
+    public PriceRepositoryDecorator negativeLookupPriceRepositoryDecorator(KnownPriceKeys knownPriceKeys,
+                                                                           MeterRegistry meterRegistry) {
+        Counter shortCircuited = Counter.builder("pricing.lookup.short.circuited")
+                .description("Lookups answered as not found because the product/brand pair has no prices")
+                .register(meterRegistry);
+        return delegate -> new NegativeLookupPriceRepository(delegate, knownPriceKeys, shortCircuited);
+    }
+}
@@ -0,0 +1,56 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache.CachingPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache.CaffeinePriceTimelineCache;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache.LruPriceTimelineCache;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache.PriceCacheProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache.PriceTimelineCache;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import reactor.core.publisher.Mono;
+
+/**
+ * Wires the price timeline cache between the use case and the repository adapter.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceCacheProperties.class)
+@ConditionalOnProperty(prefix = "pricing.cache", name = "enabled", havingValue = "true")
+public class PriceCacheConfig {
+
+    static final String CACHE_NAME = "price-timelines";
+
+    @Bean
+    public PriceTimelineCache priceTimelineCache(PriceCacheProperties properties, MeterRegistry meterRegistry) {
+        return switch (properties.eviction()) {
+            case LRU -> new LruPriceTimelineCache(
+                    properties.maximumSize(), properties.ttl().toNanos(), meterRegistry, CACHE_NAME);
+            case W_TINY_LFU -> new CaffeinePriceTimelineCache(
+                    properties.maximumSize(), properties.ttl(), meterRegistry, CACHE_NAME);
+        };
+    }
+
+    @Bean
+    @Order(200)
+    public PriceRepositoryDecorator cachingPriceRepositoryDecorator(PriceTimelineCache cache) {
+        return delegate -> new CachingPriceRepository(delegate, cache);
+    }
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public PriceCatalogListener priceTimelineCacheInvalidator(PriceTimelineCache cache, PriceRepository priceRepository) {
+        return event -> {
+            if (event.fullReload()) {
+                // Runs after the adapter has reloaded; lookups keep hitting the old timelines until then
+                return cache.reloadAll(key -> priceRepository.findTimeline(key.productId(), key.brandId()));
+            }
+            return Mono.fromRunnable(() -> event.keys().forEach(cache::invalidate));
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.PriceHttpCacheProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.PriceResponseCaching;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Wires the validity-based HTTP caching of single lookups; {@code pricing.http-cache.enabled=false}
+ * leaves responses without caching headers.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceHttpCacheProperties.class)
+public class PriceHttpCacheConfig {
+
+    @Bean
+    public PriceResponseCaching priceResponseCaching(PriceHttpCacheProperties properties) {
+        return new PriceResponseCaching(properties, Clock.systemUTC());
+    }
+}
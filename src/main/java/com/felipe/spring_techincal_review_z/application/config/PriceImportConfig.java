@@ -0,0 +1,36 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.PriceBulkWriter;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogEvents;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogWrites;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImportFileRunner;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImportProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the streaming bulk price import and catalog replacement behind the admin endpoints and the
+ * startup or watched file source.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceImportProperties.class)
+@ConditionalOnProperty(prefix = "pricing.import", name = "enabled", havingValue = "true")
+public class PriceImportConfig {
+
+    @Bean
+    public PriceImporter priceImporter(PriceBulkWriter writer, PriceCatalogEvents catalogEvents,
+                                       PriceCatalogWrites catalogWrites, ObjectMapper objectMapper,
+                                       PriceImportProperties properties) {
+        return new PriceImporter(writer, catalogEvents, catalogWrites, objectMapper, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "pricing.import", name = "file")
+    public PriceImportFileRunner priceImportFileRunner(PriceImporter importer, PriceImportProperties properties) {
+        return new PriceImportFileRunner(importer, properties);
+    }
+}
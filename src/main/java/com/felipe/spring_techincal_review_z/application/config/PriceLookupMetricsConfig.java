@@ -0,0 +1,21 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Guards the lookup timers against tag explosion.
+ */
+@Configuration
+public class PriceLookupMetricsConfig {
+
+    // Brand ids come straight from the request, so cap the distinct values a client can create
+    static final int MAX_BRAND_TAGS = 100;
+
+    @Bean
+    public MeterFilter priceLookupBrandTagLimit() {
+        return MeterFilter.maximumAllowableTags(PriceLookupMetrics.METRIC, "brand", MAX_BRAND_TAGS, MeterFilter.deny());
+    }
+}
@@ -0,0 +1,15 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+
+/**
+ * Wraps the active {@link PriceRepository} adapter with an optional cross-cutting layer.
+ *
+ * <p>Decorator beans are applied in {@link org.springframework.core.annotation.Order} order: the
+ * first one wraps the adapter directly and the last one is what the use case talks to.
+ */
+@FunctionalInterface
+public interface PriceRepositoryDecorator {
+
+    PriceRepository decorate(PriceRepository delegate);
+}
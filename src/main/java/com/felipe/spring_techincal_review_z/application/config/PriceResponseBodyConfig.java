@@ -0,0 +1,38 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.api.model.PriceResponse;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.PreEncodedJsonEncoder;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.PriceResponseBodies;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.PriceResponseBodyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Wires the pre-serialized single lookup bodies and the JSON encoder that writes them out;
+ * {@code pricing.response-bodies.enabled=false} serializes every response with Jackson.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceResponseBodyProperties.class)
+public class PriceResponseBodyConfig {
+
+    static final String CACHE_NAME = "price-response-bodies";
+
+    @Bean
+    public PriceResponseBodies priceResponseBodies(PriceResponseBodyProperties properties, ObjectMapper objectMapper,
+                                                   MeterRegistry meterRegistry) {
+        // Same mapper and root type as the Jackson encoder, so cached and encoded bodies are identical
+        return new PriceResponseBodies(properties, objectMapper.writerFor(PriceResponse.class), meterRegistry, CACHE_NAME);
+    }
+
+    // Ordered after Spring Boot's Jackson customizer, whose encoder it replaces
+    @Bean
+    @Order(1)
+    public CodecCustomizer preEncodedJsonCodecCustomizer(ObjectMapper objectMapper) {
+        return configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new PreEncodedJsonEncoder(objectMapper));
+    }
+}
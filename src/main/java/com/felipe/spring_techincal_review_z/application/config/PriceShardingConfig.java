@@ -0,0 +1,67 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool.MicrometerPoolMetricsRecorder;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShard;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShardReplicator;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShardingProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShards;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wires the lookup shards of the R2DBC repository, one pool per configured URL.
+ *
+ * <p>The pools are deliberately not beans: the primary {@code ConnectionFactory} stays the only one
+ * Spring Boot sees, and keeps serving writes, transactions and every other repository type. Their
+ * {@code r2dbc.pool.*} meters are bound here instead, tagged {@code name=price-shard-<index>}.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceShardingProperties.class)
+@ConditionalOnProperty(prefix = "pricing.sharding", name = "enabled", havingValue = "true")
+public class PriceShardingConfig {
+
+    @Bean
+    public PriceShards priceShards(PriceShardingProperties properties, R2dbcConverter converter,
+                                   PriceEntityMapper mapper, PriceLookupMetrics metrics,
+                                   MeterRegistry meterRegistry) {
+        if (properties.urls().isEmpty()) {
+            throw new IllegalStateException("pricing.sharding.enabled requires at least one pricing.sharding.urls entry");
+        }
+        List<PriceShard> shards = new ArrayList<>();
+        for (int i = 0; i < properties.urls().size(); i++) {
+            String name = "price-shard-" + i;
+            ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration
+                    .builder(ConnectionFactories.get(properties.urls().get(i)))
+                    .name(name)
+                    .initialSize(properties.poolInitialSize())
+                    .maxSize(properties.poolMaxSize())
+                    .maxIdleTime(properties.poolMaxIdleTime())
+                    .metricsRecorder(new MicrometerPoolMetricsRecorder(meterRegistry, name))
+                    .build());
+            new ConnectionPoolMetrics(pool, name, Tags.empty()).bindTo(meterRegistry);
+            shards.add(new PriceShard(i, pool, converter, mapper, metrics));
+        }
+        return new PriceShards(shards, properties.strategy());
+    }
+
+    @Bean
+    public PriceShardReplicator priceShardReplicator(PriceShards shards, R2dbcPriceRepository r2dbcRepository,
+                                                     PriceEntityMapper mapper) {
+        return new PriceShardReplicator(shards, r2dbcRepository, mapper);
+    }
+}
@@ -0,0 +1,15 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot.PriceSnapshotProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the snapshot settings used by the memory-mapped repository adapter.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "pricing.repository", name = "type", havingValue = "mapped")
+public class PriceSnapshotConfig {
+}
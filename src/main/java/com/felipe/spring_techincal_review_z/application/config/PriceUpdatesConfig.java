@@ -0,0 +1,21 @@
+package com.felipe.spring_techincal_review_z.application.config;
+
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.PriceUpdateHeartbeat;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest.PriceUpdatesProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Wires the heartbeat of the price update SSE stream ({@code pricing.updates.heartbeat}).
+ */
+@Configuration
+@EnableConfigurationProperties(PriceUpdatesProperties.class)
+public class PriceUpdatesConfig {
+
+    @Bean
+    public PriceUpdateHeartbeat priceUpdateHeartbeat(PriceUpdatesProperties properties) {
+        return new PriceUpdateHeartbeat(properties.heartbeat(), Schedulers.parallel());
+    }
+}
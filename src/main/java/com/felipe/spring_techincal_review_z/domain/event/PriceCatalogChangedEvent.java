@@ -0,0 +1,30 @@
+package com.felipe.spring_techincal_review_z.domain.event;
+
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+
+import java.util.Set;
+
+/**
+ * Signals that the stored price catalog has changed.
+ *
+ * <p>Either the whole catalog was (re)loaded, or only the prices of the listed keys were written.
+ * Derived read structures (indexes, caches, materialized views) use it to rebuild themselves.
+ */
+public record PriceCatalogChangedEvent(boolean fullReload, Set<PriceKey> keys) {
+
+    public PriceCatalogChangedEvent {
+        keys = keys == null ? Set.of() : Set.copyOf(keys);
+    }
+
+    public static PriceCatalogChangedEvent all() {
+        return new PriceCatalogChangedEvent(true, Set.of());
+    }
+
+    public static PriceCatalogChangedEvent forKeys(Set<PriceKey> keys) {
+        return new PriceCatalogChangedEvent(false, keys);
+    }
+
+    public boolean affects(PriceKey key) {
+        return fullReload || keys.contains(key);
+    }
+}
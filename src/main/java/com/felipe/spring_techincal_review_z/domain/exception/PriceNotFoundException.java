@@ -1,7 +1,41 @@
 package com.felipe.spring_techincal_review_z.domain.exception;
 
+import java.time.LocalDateTime;
+
+/**
+ * Signals that no price applies to the requested product, brand and date.
+ *
+ * <p>A miss is an expected outcome rather than a fault, so the exception captures no stack trace
+ * and only formats its message if something actually reads it.
+ */
 public class PriceNotFoundException extends RuntimeException {
+
+    private final Long productId;
+    private final Long brandId;
+    private final LocalDateTime applicationDate;
+    private String message;
+
     public PriceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.productId = null;
+        this.brandId = null;
+        this.applicationDate = null;
+        this.message = message;
+    }
+
+    public PriceNotFoundException(Long productId, Long brandId, LocalDateTime applicationDate) {
+        super(null, null, false, false);
+        this.productId = productId;
+        this.brandId = brandId;
+        this.applicationDate = applicationDate;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = "No applicable price found for productId=" + productId
+                    + ", brandId=" + brandId + ", date=" + applicationDate;
+        }
+        return message;
     }
-}
\ No newline at end of file
+}
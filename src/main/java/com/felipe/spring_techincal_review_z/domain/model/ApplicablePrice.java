@@ -0,0 +1,28 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of a single lookup: the winning price and how long it keeps winning.
+ *
+ * <p>{@code validUntil} is exclusive, like {@link PriceSegment#validUntil()}: the first instant after
+ * the looked-up one at which another price may apply, either because the winner ends or because a
+ * price taking precedence over it starts. Catalog changes may of course end it sooner.
+ *
+ * <p>{@code stale} marks a result served from the last one known instead of the catalog, because
+ * the catalog could not be read in time; a catalog change since then may have replaced it.
+ */
+public record ApplicablePrice(
+        CompactPrice price,
+        LocalDateTime validUntil,
+        boolean stale
+) {
+
+    public ApplicablePrice(CompactPrice price, LocalDateTime validUntil) {
+        this(price, validUntil, false);
+    }
+
+    public ApplicablePrice asStale() {
+        return stale ? this : new ApplicablePrice(price, validUntil, true);
+    }
+}
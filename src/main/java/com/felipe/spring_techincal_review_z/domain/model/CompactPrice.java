@@ -0,0 +1,95 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Primitive read model of a {@link Price}, used on the single lookup path and by in-memory indexes.
+ *
+ * <p>Every field is a primitive except the currency, which is interned so a catalog shares one
+ * instance per code: dates are UTC epoch seconds and the amount is a count of minor units at
+ * {@value #PRICE_SCALE} decimals. An instance takes about a fifth of the heap of the equivalent
+ * {@code Price}, which boxes its ids and holds two {@code LocalDateTime}s and a {@code BigDecimal}.
+ *
+ * <p>Catalog prices have whole-second periods, which the {@code PRICES} table enforces and imports
+ * truncate to, and amounts of at most {@value #PRICE_SCALE} decimals.
+ */
+public record CompactPrice(
+        long id,
+        long brandId,
+        long productId,
+        int priceList,
+        long startEpochSecond,
+        long endEpochSecond,
+        long priceMinor,
+        String currency,
+        int priority
+) {
+
+    public static final int PRICE_SCALE = 2;
+
+    private static final double MINOR_UNITS = 100.0;
+    private static final ConcurrentMap<String, String> CURRENCIES = new ConcurrentHashMap<>();
+
+    public CompactPrice {
+        currency = intern(currency);
+    }
+
+    /**
+     * Converts a persisted price.
+     *
+     * @throws ArithmeticException when the amount has more than {@value #PRICE_SCALE} decimals
+     */
+    public static CompactPrice of(Price price) {
+        return new CompactPrice(
+                price.id(),
+                price.brandId(),
+                price.productId(),
+                price.priceList(),
+                price.startDate().toEpochSecond(ZoneOffset.UTC),
+                price.endDate().toEpochSecond(ZoneOffset.UTC),
+                toMinor(price.price()),
+                price.currency(),
+                price.priority());
+    }
+
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(PRICE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public LocalDateTime startDate() {
+        return LocalDateTime.ofEpochSecond(startEpochSecond, 0, ZoneOffset.UTC);
+    }
+
+    public LocalDateTime endDate() {
+        return LocalDateTime.ofEpochSecond(endEpochSecond, 0, ZoneOffset.UTC);
+    }
+
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(priceMinor, PRICE_SCALE);
+    }
+
+    /**
+     * Returns the amount as the nearest double, exactly as {@code amount().doubleValue()} would.
+     */
+    public double amountAsDouble() {
+        // Both operands are exact doubles, so the correctly rounded quotient is the nearest double
+        return priceMinor / MINOR_UNITS;
+    }
+
+    public Price toPrice() {
+        return new Price(id, brandId, productId, priceList, startDate(), endDate(), amount(), currency, priority);
+    }
+
+    private static String intern(String currency) {
+        if (currency == null) {
+            return null;
+        }
+        String shared = CURRENCIES.putIfAbsent(currency, currency);
+        return shared != null ? shared : currency;
+    }
+}
@@ -0,0 +1,14 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+/**
+ * Identifies the set of prices belonging to a single product of a single brand.
+ *
+ * <p>Priority resolution only ever happens between prices sharing the same key, so this is
+ * the natural grouping unit for indexes, caches and change notifications.
+ */
+public record PriceKey(long productId, long brandId) {
+
+    public static PriceKey of(Price price) {
+        return new PriceKey(price.productId(), price.brandId());
+    }
+}
@@ -0,0 +1,13 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single applicable-price question: which price applies to this product of this brand at this instant.
+ */
+public record PriceQuery(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+) {
+}
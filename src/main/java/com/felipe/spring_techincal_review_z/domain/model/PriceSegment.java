@@ -0,0 +1,20 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A disjoint slice of a {@link PriceTimeline} during which a single price is the applicable one.
+ *
+ * <p>Unlike the inclusive {@code startDate/endDate} of a {@link Price}, a segment is half-open:
+ * {@code validFrom} is inclusive and {@code validUntil} is exclusive. This keeps adjacent segments
+ * gap-free and makes {@code validUntil} the exact instant at which the applicable price may change.
+ */
+public record PriceSegment(
+        LocalDateTime validFrom,
+        LocalDateTime validUntil,
+        Price price
+) {
+    public boolean contains(LocalDateTime instant) {
+        return !instant.isBefore(validFrom) && instant.isBefore(validUntil);
+    }
+}
@@ -0,0 +1,232 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable, priority-resolved view of all prices of a single {@link PriceKey}.
+ *
+ * <p>Overlapping prices are flattened once, at construction time, into disjoint segments sorted
+ * by their start. Each segment already carries the price that wins inside it, so resolving an
+ * instant is a binary search with no priority comparison.
+ *
+ * <p>Resolution rules match the SQL lookup: a price applies when
+ * {@code startDate <= instant <= endDate}; among applicable prices the highest {@code priority}
+ * wins, ties going to the lowest {@code id}.
+ *
+ * <p>Timelines are held by the in-memory index and the cache for every key of the catalog, so
+ * they are stored compactly: segment bounds are primitive {@code long}s and winners are
+ * {@link CompactPrice}s, shared by the segments they win. {@link PriceSegment}s and
+ * {@link Price}s are only materialized when asked for; the single lookup path uses
+ * {@link #applicableAt} and allocates nothing but its result.
+ */
+public final class PriceTimeline {
+
+    /**
+     * Ordering in which competing prices win: highest priority first, then lowest id.
+     */
+    public static final Comparator<CompactPrice> PRECEDENCE = Comparator
+            .comparingInt(CompactPrice::priority).reversed()
+            .thenComparingLong(CompactPrice::id);
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(new long[0], new long[0], new CompactPrice[0]);
+
+    // Bounds are ticks, see tick(LocalDateTime); froms are inclusive and untils exclusive
+    private final long[] froms;
+    private final long[] untils;
+    private final CompactPrice[] winners;
+
+    private PriceTimeline(long[] froms, long[] untils, CompactPrice[] winners) {
+        this.froms = froms;
+        this.untils = untils;
+        this.winners = winners;
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Flattens the given prices into disjoint segments.
+     *
+     * <p>Prices are expected to share the same {@link PriceKey}; prices whose end date precedes
+     * their start date can never apply and are ignored.
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        CompactPrice[] sorted = prices.stream()
+                .map(CompactPrice::of)
+                .filter(price -> price.endEpochSecond() >= price.startEpochSecond())
+                .sorted(Comparator.comparingLong(CompactPrice::startEpochSecond))
+                .toArray(CompactPrice[]::new);
+        if (sorted.length == 0) {
+            return EMPTY;
+        }
+
+        // Every start and every instant right after an end is a point where the winner may change
+        long[] boundaries = Arrays.stream(sorted)
+                .flatMapToLong(price -> LongStream.of(startTick(price), exclusiveEndTick(price)))
+                .sorted()
+                .distinct()
+                .toArray();
+
+        long[] froms = new long[boundaries.length];
+        long[] untils = new long[boundaries.length];
+        CompactPrice[] winners = new CompactPrice[boundaries.length];
+        int count = 0;
+
+        PriorityQueue<CompactPrice> active = new PriorityQueue<>(PRECEDENCE);
+        int next = 0;
+        for (int i = 0; i < boundaries.length; i++) {
+            long boundary = boundaries[i];
+            CompactPrice winner = active.peek();
+            if (i > 0 && winner != null) {
+                long from = boundaries[i - 1];
+                if (count > 0 && winners[count - 1].equals(winner) && untils[count - 1] == from) {
+                    untils[count - 1] = boundary;
+                } else {
+                    froms[count] = from;
+                    untils[count] = boundary;
+                    winners[count++] = winner;
+                }
+            }
+            while (next < sorted.length && startTick(sorted[next]) <= boundary) {
+                active.add(sorted[next++]);
+            }
+            // Expired prices are only evicted once they reach the head; the rest cannot win anyway
+            while (!active.isEmpty() && exclusiveEndTick(active.peek()) <= boundary) {
+                active.poll();
+            }
+        }
+
+        return new PriceTimeline(Arrays.copyOf(froms, count), Arrays.copyOf(untils, count), Arrays.copyOf(winners, count));
+    }
+
+    /**
+     * Finds the segment containing the given instant.
+     *
+     * @param instant the instant to resolve
+     * @return the containing segment, or empty if no price applies at that instant
+     */
+    public Optional<PriceSegment> segmentAt(LocalDateTime instant) {
+        int index = indexOf(instant);
+        return index < 0 ? Optional.empty() : Optional.of(segment(index));
+    }
+
+    /**
+     * Resolves the applicable price at the given instant.
+     *
+     * @param instant the instant to resolve
+     * @return the winning price, or empty if no price applies at that instant
+     */
+    public Optional<Price> priceAt(LocalDateTime instant) {
+        int index = indexOf(instant);
+        return index < 0 ? Optional.empty() : Optional.of(winners[index].toPrice());
+    }
+
+    /**
+     * Resolves the applicable price at the given instant without materializing a {@link Price},
+     * along with the end of the segment it wins.
+     *
+     * @param instant the instant to resolve
+     * @return the winning price, or empty if no price applies at that instant
+     */
+    public Optional<ApplicablePrice> applicableAt(LocalDateTime instant) {
+        int index = indexOf(instant);
+        return index < 0 ? Optional.empty() : Optional.of(new ApplicablePrice(winners[index], instant(untils[index])));
+    }
+
+    /**
+     * Returns the segments overlapping the half-open period {@code [from, until)}, in order, with
+     * the first and last one clipped to the period.
+     *
+     * @param from first instant of the period, inclusive
+     * @param until end of the period, exclusive
+     * @return the clipped segments, empty if no price applies anywhere in the period
+     */
+    public List<PriceSegment> segmentsBetween(LocalDateTime from, LocalDateTime until) {
+        // First segment still running at 'from': the one after the last segment ending at or before it
+        int low = 0;
+        int high = winners.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (instant(untils[mid]).isAfter(from)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        List<PriceSegment> result = new ArrayList<>();
+        for (int i = low; i < winners.length && instant(froms[i]).isBefore(until); i++) {
+            LocalDateTime validFrom = instant(froms[i]);
+            LocalDateTime validUntil = instant(untils[i]);
+            result.add(new PriceSegment(
+                    validFrom.isBefore(from) ? from : validFrom,
+                    validUntil.isAfter(until) ? until : validUntil,
+                    winners[i].toPrice()));
+        }
+        return result;
+    }
+
+    public List<PriceSegment> segments() {
+        List<PriceSegment> result = new ArrayList<>(winners.length);
+        for (int i = 0; i < winners.length; i++) {
+            result.add(segment(i));
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return winners.length == 0;
+    }
+
+    private int indexOf(LocalDateTime instant) {
+        long tick = tick(instant);
+        int low = 0;
+        int high = winners.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (tick < froms[mid]) {
+                high = mid - 1;
+            } else if (tick >= untils[mid]) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private PriceSegment segment(int index) {
+        return new PriceSegment(instant(froms[index]), instant(untils[index]), winners[index].toPrice());
+    }
+
+    /*
+     * Prices start and end on whole seconds, so every bound is either a whole second s or the
+     * instant right after one, s + 1ns. Ticks number them 2s and 2s + 1; any instant strictly
+     * between s and s + 1 resolves like s + 1ns, hence also maps to 2s + 1.
+     */
+    private static long tick(LocalDateTime instant) {
+        return instant.toEpochSecond(ZoneOffset.UTC) * 2 + (instant.getNano() == 0 ? 0 : 1);
+    }
+
+    private static LocalDateTime instant(long tick) {
+        return LocalDateTime.ofEpochSecond(tick >> 1, (int) (tick & 1), ZoneOffset.UTC);
+    }
+
+    private static long startTick(CompactPrice price) {
+        return price.startEpochSecond() * 2;
+    }
+
+    private static long exclusiveEndTick(CompactPrice price) {
+        return price.endEpochSecond() * 2 + 1;
+    }
+}
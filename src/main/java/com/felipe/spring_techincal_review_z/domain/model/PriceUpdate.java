@@ -0,0 +1,32 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * The price applicable to a {@link PriceKey} from a given instant on, pushed to subscribers.
+ *
+ * @param key the product and brand the update is about
+ * @param price the applicable price, or {@code null} when no price applies
+ * @param effectiveFrom instant from which the price applies
+ * @param reason what caused the update
+ */
+public record PriceUpdate(
+        PriceKey key,
+        Price price,
+        LocalDateTime effectiveFrom,
+        Reason reason
+) {
+    public enum Reason {
+        /** Current price when the subscription starts. */
+        INITIAL,
+        /** Prices of the key were loaded or written. */
+        CATALOG_CHANGED,
+        /** A price period started or ended. */
+        BOUNDARY
+    }
+
+    public Optional<Price> applicablePrice() {
+        return Optional.ofNullable(price);
+    }
+}
@@ -1,8 +1,15 @@
 package com.felipe.spring_techincal_review_z.domain.port.in;
 
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
 import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceSegment;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Use case for retrieving the applicable price for a product.
@@ -12,10 +19,37 @@ public interface GetApplicablePriceUseCase {
     /**
      * Retrieves the most applicable price based on date range and priority.
      *
+     * <p>This is the hot path, so the price comes as the primitive {@link CompactPrice} read model.
+     *
      * @param applicationDate the date/time when the price should be applicable
      * @param productId the product identifier
      * @param brandId the brand identifier
      * @return Mono emitting the applicable price, or error if not found
      */
-    Mono<Price> getApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
-}
\ No newline at end of file
+    Mono<ApplicablePrice> getApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Retrieves the most applicable price for each query of a batch.
+     *
+     * <p>The whole batch is resolved with a single repository call; a query without an
+     * applicable price yields an empty {@code Optional} rather than failing the batch.
+     *
+     * @param queries the queries to resolve
+     * @return Mono emitting one result per query, in the same order as {@code queries}
+     */
+    Mono<List<Optional<Price>>> getApplicablePrices(List<PriceQuery> queries);
+
+    /**
+     * Retrieves the effective price segments of a product over a period.
+     *
+     * <p>Segments are disjoint, in chronological order and clipped to the period; each carries the
+     * price that wins throughout it after priority resolution.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param from first instant of the period, inclusive
+     * @param to last instant of the period, inclusive
+     * @return Flux emitting the segments, empty if no price applies in the period
+     */
+    Flux<PriceSegment> getPriceSegments(Long productId, Long brandId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,22 @@
+package com.felipe.spring_techincal_review_z.domain.port.in;
+
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceUpdate;
+import reactor.core.publisher.Flux;
+
+import java.util.Set;
+
+/**
+ * Use case for following the applicable price of products over time.
+ */
+public interface WatchPricesUseCase {
+
+    /**
+     * Streams the applicable price of each key: once on subscription, then whenever the catalog of
+     * the key changes or one of its price periods starts or ends. The stream never completes on its own.
+     *
+     * @param keys the products and brands to watch
+     * @return Flux emitting updates for all keys, interleaved
+     */
+    Flux<PriceUpdate> watchPrices(Set<PriceKey> keys);
+}
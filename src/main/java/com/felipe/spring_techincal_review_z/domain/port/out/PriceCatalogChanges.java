@@ -0,0 +1,15 @@
+package com.felipe.spring_techincal_review_z.domain.port.out;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import reactor.core.publisher.Flux;
+
+/**
+ * Output port notifying catalog changes once every derived read structure has caught up with them.
+ */
+public interface PriceCatalogChanges {
+
+    /**
+     * Hot stream of applied catalog changes; subscribers only see changes applied after they subscribe.
+     */
+    Flux<PriceCatalogChangedEvent> changes();
+}
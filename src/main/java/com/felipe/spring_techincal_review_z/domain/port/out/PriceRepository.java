@@ -1,14 +1,21 @@
 package com.felipe.spring_techincal_review_z.domain.port.out;
 
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
 import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
 import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Repository port for price data access.
  * 
- * <p>Implementation Note: The repository implementation should handle priority-based
- * selection at the database level for optimal performance (ORDER BY PRIORITY DESC LIMIT 1).
+ * <p>Implementation Note: Implementations are responsible for priority-based selection, either
+ * in the database (ORDER BY PRIORITY DESC LIMIT 1) or over a precomputed
+ * {@link com.felipe.spring_techincal_review_z.domain.model.PriceTimeline}.
  */
 public interface PriceRepository {
     
@@ -19,7 +26,8 @@ public interface PriceRepository {
      * <ul>
      *   <li>Filter by product ID, brand ID, and date range</li>
      *   <li>Return only the price with the highest priority if multiple match</li>
-     *   <li>Optimize the query to return a single result (avoid fetching all and filtering in memory)</li>
+     *   <li>Avoid fetching every candidate per call and filtering it in memory</li>
+     *   <li>Produce the {@link CompactPrice} read model directly, without an intermediate {@link Price}</li>
      * </ul>
      *
      * @param applicationDate the date to check price applicability
@@ -27,5 +35,28 @@ public interface PriceRepository {
      * @param brandId the brand identifier
      * @return Mono emitting the applicable price, or empty if none found
      */
-    Mono<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+    Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Finds the most applicable price for every query of a batch.
+     *
+     * <p>The implementation must resolve the whole batch in a single statement or a single pass
+     * over its data, never by calling {@link #findApplicablePrice} once per query.
+     *
+     * @param queries the queries to resolve; duplicates are allowed
+     * @return Mono emitting the winning price per query; queries without an applicable price are absent
+     */
+    Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries);
+
+    /**
+     * Loads the priority-resolved timeline of a single product and brand.
+     *
+     * <p>Lets callers resolve any number of instants for the same key in memory, without
+     * another repository call per instant.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @return Mono emitting the timeline, which is empty (never absent) when the key has no prices
+     */
+    Mono<PriceTimeline> findTimeline(Long productId, Long brandId);
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.felipe.spring_techincal_review_z.domain.service;
+
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceSegment;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.model.PriceUpdate;
+import com.felipe.spring_techincal_review_z.domain.model.PriceUpdate.Reason;
+import com.felipe.spring_techincal_review_z.domain.port.in.WatchPricesUseCase;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceCatalogChanges;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service pushing applicable price changes to watchers.
+ *
+ * <p>Each watched key loads its {@link PriceTimeline} once and schedules a wake-up at every future
+ * segment boundary, so watchers learn about promotion starts and ends without polling. A catalog
+ * change for the key reloads the timeline and replaces the pending wake-ups. Instants are UTC.
+ */
+public class PriceWatchService implements WatchPricesUseCase {
+
+    private final PriceRepository priceRepository;
+    private final PriceCatalogChanges catalogChanges;
+    private final Scheduler scheduler;
+
+    public PriceWatchService(PriceRepository priceRepository, PriceCatalogChanges catalogChanges, Scheduler scheduler) {
+        if (priceRepository == null || catalogChanges == null || scheduler == null) {
+            throw new IllegalArgumentException("PriceWatchService dependencies cannot be null");
+        }
+        this.priceRepository = priceRepository;
+        this.catalogChanges = catalogChanges;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Flux<PriceUpdate> watchPrices(Set<PriceKey> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("Watched keys cannot be empty");
+        }
+        for (PriceKey key : keys) {
+            if (key.productId() <= 0) {
+                throw new IllegalArgumentException("Product ID must be positive");
+            }
+            if (key.brandId() <= 0) {
+                throw new IllegalArgumentException("Brand ID must be positive");
+            }
+        }
+
+        return Flux.fromIterable(keys).flatMap(this::watch, keys.size());
+    }
+
+    private Flux<PriceUpdate> watch(PriceKey key) {
+        return catalogChanges.changes()
+                .filter(event -> event.affects(key))
+                .map(event -> Reason.CATALOG_CHANGED)
+                .startWith(Reason.INITIAL)
+                .switchMap(reason -> priceRepository
+                        .findTimeline(key.productId(), key.brandId())
+                        .flatMapMany(timeline -> updates(key, timeline, reason)));
+    }
+
+    private Flux<PriceUpdate> updates(PriceKey key, PriceTimeline timeline, Reason reason) {
+        LocalDateTime now = now();
+        PriceUpdate current = new PriceUpdate(key, timeline.priceAt(now).orElse(null), now, reason);
+
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        for (PriceSegment segment : timeline.segments()) {
+            boundaries.add(segment.validFrom());
+            boundaries.add(segment.validUntil());
+        }
+
+        return Flux.fromIterable(boundaries.tailSet(now, false))
+                .concatMap(boundary -> Mono.defer(() -> Mono.delay(untilBoundary(boundary), scheduler))
+                        .map(tick -> new PriceUpdate(key, timeline.priceAt(boundary).orElse(null), boundary, Reason.BOUNDARY)))
+                .startWith(current);
+    }
+
+    private Duration untilBoundary(LocalDateTime boundary) {
+        Duration remaining = Duration.between(now(), boundary);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(scheduler.now(TimeUnit.MILLISECONDS)), ZoneOffset.UTC);
+    }
+}
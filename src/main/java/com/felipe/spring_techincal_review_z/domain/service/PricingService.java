@@ -1,12 +1,19 @@
 package com.felipe.spring_techincal_review_z.domain.service;
 
 import com.felipe.spring_techincal_review_z.domain.exception.PriceNotFoundException;
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
 import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceSegment;
 import com.felipe.spring_techincal_review_z.domain.port.in.GetApplicablePriceUseCase;
 import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Service implementing the pricing business logic.
@@ -24,17 +31,48 @@ public class PricingService implements GetApplicablePriceUseCase {
     }
 
     @Override
-    public Mono<Price> getApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+    public Mono<ApplicablePrice> getApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
         // Input validation at domain level
         validateInputs(applicationDate, productId, brandId);
 
         return priceRepository
                 .findApplicablePrice(applicationDate, productId, brandId)
-                .switchIfEmpty(Mono.defer(() ->
-                        Mono.error(new PriceNotFoundException(
-                                String.format("No applicable price found for productId=%d, brandId=%d, date=%s",
-                                        productId, brandId, applicationDate)))
-                ));
+                .switchIfEmpty(Mono.error(() -> new PriceNotFoundException(productId, brandId, applicationDate)));
+    }
+
+    @Override
+    public Mono<List<Optional<Price>>> getApplicablePrices(List<PriceQuery> queries) {
+        if (queries == null || queries.isEmpty()) {
+            throw new IllegalArgumentException("Price queries cannot be empty");
+        }
+        for (PriceQuery query : queries) {
+            if (query == null) {
+                throw new IllegalArgumentException("Price query cannot be null");
+            }
+            validateInputs(query.applicationDate(), query.productId(), query.brandId());
+        }
+
+        return priceRepository
+                .findApplicablePrices(queries)
+                .map(found -> queries.stream()
+                        .map(query -> Optional.ofNullable(found.get(query)))
+                        .toList());
+    }
+
+    @Override
+    public Flux<PriceSegment> getPriceSegments(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        validateInputs(from, productId, brandId);
+        if (to == null) {
+            throw new IllegalArgumentException("End of period cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End of period cannot precede its start");
+        }
+
+        // Segments are half-open, so the inclusive end becomes the instant right after it
+        return priceRepository
+                .findTimeline(productId, brandId)
+                .flatMapIterable(timeline -> timeline.segmentsBetween(from, to.plusNanos(1)));
     }
 
     private void validateInputs(LocalDateTime applicationDate, Long productId, Long brandId) {
@@ -0,0 +1,28 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the sampled access log ({@code pricing.access-log.*}).
+ *
+ * @param enabled whether requests produce access records at all
+ * @param sampleRate share of ordinary requests logged, from 0 (none) to 1 (all)
+ * @param slowThreshold requests at least this slow are always logged
+ */
+@ConfigurationProperties(prefix = "pricing.access-log")
+public record AccessLogProperties(
+        boolean enabled,
+        Double sampleRate,
+        Duration slowThreshold
+) {
+    public AccessLogProperties {
+        if (sampleRate == null || sampleRate < 0 || sampleRate > 1) {
+            sampleRate = 0.01;
+        }
+        if (slowThreshold == null) {
+            slowThreshold = Duration.ofMillis(500);
+        }
+    }
+}
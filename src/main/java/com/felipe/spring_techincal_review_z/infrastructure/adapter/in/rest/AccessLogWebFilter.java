@@ -0,0 +1,106 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Writes one structured line per sampled request to the {@value #LOGGER} logger.
+ *
+ * <p>Requests that fail with a 5xx, or with an error that propagates past this filter before any
+ * status is set, and requests that take longer than the slow threshold are always logged;
+ * the rest are sampled at {@code pricing.access-log.sample-rate}. The sampling decision is a
+ * random draw and a comparison, so skipped requests cost no formatting.
+ *
+ * <pre>
+ * method=GET path=/api/v1/prices query="applicationDate=...&amp;productId=35455&amp;brandId=1" status=200 duration_ms=1.42 reason=sampled
+ * </pre>
+ */
+public class AccessLogWebFilter implements WebFilter, Ordered {
+
+    public static final String LOGGER = "pricing.access";
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(LOGGER);
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final DoubleSupplier random;
+
+    public AccessLogWebFilter(AccessLogProperties properties) {
+        this(properties, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    AccessLogWebFilter(AccessLogProperties properties, DoubleSupplier random) {
+        this.sampleRate = properties.sampleRate();
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+        this.random = random;
+    }
+
+    // Right behind the concurrency limit, which counts shed requests instead of logging them
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return chain.filter(exchange);
+        }
+        long started = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    long elapsedNanos = System.nanoTime() - started;
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    String reason = reason(status, signal == SignalType.ON_ERROR, elapsedNanos);
+                    if (reason != null) {
+                        ACCESS_LOG.info(format(exchange.getRequest(), status, elapsedNanos, reason));
+                    }
+                });
+    }
+
+    /**
+     * Why the request is logged, or {@code null} when it is not.
+     */
+    String reason(HttpStatusCode status, boolean failed, long elapsedNanos) {
+        if (failed || status != null && status.is5xxServerError()) {
+            return "error";
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            return "slow";
+        }
+        if (sampleRate > 0 && random.getAsDouble() < sampleRate) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    private static String format(ServerHttpRequest request, HttpStatusCode status, long elapsedNanos, String reason) {
+        StringBuilder line = new StringBuilder(160)
+                .append("method=").append(request.getMethod().name())
+                .append(" path=").append(request.getPath().value());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            line.append(" query=\"").append(query).append('"');
+        }
+        long hundredthsOfMillis = elapsedNanos / 10_000;
+        line.append(" status=").append(status == null ? "-" : String.valueOf(status.value()))
+                .append(" duration_ms=").append(hundredthsOfMillis / 100).append('.');
+        if (hundredthsOfMillis % 100 < 10) {
+            line.append('0');
+        }
+        return line.append(hundredthsOfMillis % 100)
+                .append(" reason=").append(reason)
+                .toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Jackson2CborDecoder} counterpart of {@link CborValueEncoder}: a {@link Flux} is decoded from
+ * one CBOR array, since Spring's decoder only reads single values.
+ */
+public class CborValueDecoder extends Jackson2CborDecoder {
+
+    public CborValueDecoder(ObjectMapper mapper) {
+        super(mapper, MediaType.APPLICATION_CBOR);
+    }
+
+    @Override
+    public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType,
+                               Map<String, Object> hints) {
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+        return decodeToMono(input, listType, mimeType, hints)
+                .flatMapIterable(values -> (List<?>) values);
+    }
+}
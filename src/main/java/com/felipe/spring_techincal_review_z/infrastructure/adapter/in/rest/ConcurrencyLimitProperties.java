@@ -0,0 +1,64 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the adaptive concurrency limit of the lookup endpoints ({@code pricing.concurrency-limit.*}).
+ *
+ * @param enabled whether requests beyond the limit are shed
+ * @param paths request paths sharing the limit, matched exactly
+ * @param initialLimit limit until the first latency samples are in
+ * @param minLimit lowest limit, kept even when latency keeps rising
+ * @param maxLimit highest limit
+ * @param rttTolerance how many times the long-term latency the recent one may reach before the limit shrinks
+ * @param smoothing share of each new estimate blended into the limit, from 0 (frozen) to 1 (no smoothing)
+ * @param window minimum time over which latencies are averaged before the limit moves
+ * @param longWindow number of windows the long-term latency averages over
+ * @param retryAfter {@code Retry-After} sent with shed requests
+ */
+@ConfigurationProperties(prefix = "pricing.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        boolean enabled,
+        List<String> paths,
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double rttTolerance,
+        double smoothing,
+        Duration window,
+        int longWindow,
+        Duration retryAfter
+) {
+    public ConcurrencyLimitProperties {
+        if (paths == null || paths.isEmpty()) {
+            paths = List.of("/api/v1/prices", "/api/v1/prices/batch");
+        }
+        if (minLimit <= 0) {
+            minLimit = 4;
+        }
+        if (maxLimit < minLimit) {
+            maxLimit = Math.max(minLimit, 500);
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            initialLimit = Math.min(Math.max(minLimit, 50), maxLimit);
+        }
+        if (rttTolerance < 1) {
+            rttTolerance = 1.5;
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            smoothing = 0.2;
+        }
+        if (window == null || window.isZero() || window.isNegative()) {
+            window = Duration.ofMillis(200);
+        }
+        if (longWindow <= 0) {
+            longWindow = 50;
+        }
+        if (retryAfter == null) {
+            retryAfter = Duration.ofSeconds(1);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.api.model.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Sheds lookup requests beyond a {@link GradientConcurrencyLimit}, answering them at once with 503
+ * and {@code Retry-After} instead of letting them queue behind the ones being served.
+ *
+ * <p>Shed requests get the same JSON {@link ErrorResponse} body as every other 503 of these
+ * endpoints, see {@link GlobalExceptionHandler}, so clients handle a single contract.
+ *
+ * <p>Only the configured paths share the limit; streaming endpoints such as the timeline and the
+ * update subscriptions hold a request open for long by design and are left out. A request counts
+ * as in flight until its response is written, and its full latency feeds the limit. It runs first,
+ * before the access log, so that a burst of shed requests shows up in
+ * {@value #SHED_METRIC} rather than as one error line each.
+ */
+public class ConcurrencyLimitWebFilter implements WebFilter, Ordered {
+
+    public static final String LIMIT_METRIC = "pricing.concurrency.limit";
+    public static final String IN_FLIGHT_METRIC = "pricing.concurrency.in.flight";
+    public static final String SHED_METRIC = "pricing.concurrency.shed";
+
+    private final GradientConcurrencyLimit limit;
+    private final Set<String> paths;
+    private final String retryAfter;
+    private final Counter shed;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier nanoTime;
+
+    public ConcurrencyLimitWebFilter(GradientConcurrencyLimit limit, ConcurrencyLimitProperties properties,
+                                     MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this(limit, properties, meterRegistry, objectMapper, System::nanoTime);
+    }
+
+    ConcurrencyLimitWebFilter(GradientConcurrencyLimit limit, ConcurrencyLimitProperties properties,
+                              MeterRegistry meterRegistry, ObjectMapper objectMapper, LongSupplier nanoTime) {
+        this.limit = limit;
+        this.objectMapper = objectMapper;
+        this.paths = Set.copyOf(properties.paths());
+        this.retryAfter = String.valueOf(Math.max(1, properties.retryAfter().toSeconds()));
+        this.nanoTime = nanoTime;
+        Gauge.builder(LIMIT_METRIC, limit, GradientConcurrencyLimit::limit)
+                .description("Concurrent lookup requests currently admitted")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, limit, GradientConcurrencyLimit::inFlight)
+                .description("Lookup requests being served")
+                .register(meterRegistry);
+        this.shed = Counter.builder(SHED_METRIC)
+                .description("Lookup requests rejected with 503 because the concurrency limit was reached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!paths.contains(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        int inFlight = limit.tryAcquire();
+        if (inFlight == 0) {
+            shed.increment();
+            return shed(exchange);
+        }
+        long started = nanoTime.getAsLong();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        limit.release();
+                    } else {
+                        long now = nanoTime.getAsLong();
+                        limit.release(now - started, inFlight, now);
+                    }
+                });
+    }
+
+    private Mono<Void> shed(ServerWebExchange exchange) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setTimestamp(OffsetDateTime.now());
+        errorResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.setError(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase());
+        errorResponse.setMessage("Too many concurrent price lookups, retry later");
+        errorResponse.setPath(exchange.getRequest().getPath().value());
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromCallable(() ->
+                response.bufferFactory().wrap(objectMapper.writeValueAsBytes(errorResponse))));
+    }
+}
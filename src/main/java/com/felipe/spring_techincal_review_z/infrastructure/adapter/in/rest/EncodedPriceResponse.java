@@ -0,0 +1,30 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.felipe.api.model.PriceResponse;
+
+/**
+ * {@link PriceResponse} carrying its own JSON encoding, written as is by {@link PreEncodedJsonEncoder}.
+ *
+ * <p>Instances are shared by every request answered with the same price and must not be modified;
+ * the fields stay populated only so the response can still be inspected and logged.
+ */
+public final class EncodedPriceResponse extends PriceResponse {
+
+    private final byte[] json;
+
+    EncodedPriceResponse(PriceResponse response, byte[] json) {
+        setProductId(response.getProductId());
+        setBrandId(response.getBrandId());
+        setPriceList(response.getPriceList());
+        setStartDate(response.getStartDate());
+        setEndDate(response.getEndDate());
+        setPrice(response.getPrice());
+        setCurrency(response.getCurrency());
+        this.json = json;
+    }
+
+    // Not a bean property, so Jackson never picks it up should the instance reach a plain encoder
+    byte[] json() {
+        return json;
+    }
+}
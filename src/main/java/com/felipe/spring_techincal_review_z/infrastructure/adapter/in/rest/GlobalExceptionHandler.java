@@ -2,12 +2,17 @@ package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
 
 import com.felipe.api.model.ErrorResponse;
 import com.felipe.spring_techincal_review_z.domain.exception.PriceNotFoundException;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience.PriceLookupUnavailableException;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImporter;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
@@ -26,8 +31,11 @@ public class GlobalExceptionHandler {
             PriceNotFoundException ex,
             ServerWebExchange exchange) {
         
-        log.info("Price not found - Path: {}, Message: {}", 
-                exchange.getRequest().getPath().value(), ex.getMessage());
+        // Misses are routine (crawlers, stale links), so keep them off the INFO hot path
+        if (log.isDebugEnabled()) {
+            log.debug("Price not found - Path: {}, Message: {}",
+                    exchange.getRequest().getPath().value(), ex.getMessage());
+        }
         
         ErrorResponse errorResponse = new ErrorResponse();
         errorResponse.setTimestamp(OffsetDateTime.now());
@@ -58,6 +66,87 @@ public class GlobalExceptionHandler {
         return Mono.just(errorResponse);
     }
 
+    @ExceptionHandler(ServerWebInputException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleServerWebInputException(
+            ServerWebInputException ex,
+            ServerWebExchange exchange) {
+
+        log.warn("Malformed request - Path: {}, Reason: {}",
+                exchange.getRequest().getPath().value(), ex.getReason());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setTimestamp(OffsetDateTime.now());
+        errorResponse.setStatus(HttpStatus.BAD_REQUEST.value());
+        errorResponse.setError(HttpStatus.BAD_REQUEST.getReasonPhrase());
+        errorResponse.setMessage(ex.getReason());
+        errorResponse.setPath(exchange.getRequest().getPath().value());
+
+        return Mono.just(errorResponse);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<ErrorResponse> handleConstraintViolationException(
+            ConstraintViolationException ex,
+            ServerWebExchange exchange) {
+
+        log.warn("Constraint violation - Path: {}, Message: {}",
+                exchange.getRequest().getPath().value(), ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setTimestamp(OffsetDateTime.now());
+        errorResponse.setStatus(HttpStatus.BAD_REQUEST.value());
+        errorResponse.setError(HttpStatus.BAD_REQUEST.getReasonPhrase());
+        errorResponse.setMessage(ex.getMessage());
+        errorResponse.setPath(exchange.getRequest().getPath().value());
+
+        return Mono.just(errorResponse);
+    }
+
+    @ExceptionHandler(PriceImporter.ReplacementInProgressException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Mono<ErrorResponse> handleReplacementInProgressException(
+            PriceImporter.ReplacementInProgressException ex,
+            ServerWebExchange exchange) {
+
+        log.warn("Catalog replacement refused - Path: {}, Message: {}",
+                exchange.getRequest().getPath().value(), ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setTimestamp(OffsetDateTime.now());
+        errorResponse.setStatus(HttpStatus.CONFLICT.value());
+        errorResponse.setError(HttpStatus.CONFLICT.getReasonPhrase());
+        errorResponse.setMessage(ex.getMessage());
+        errorResponse.setPath(exchange.getRequest().getPath().value());
+
+        return Mono.just(errorResponse);
+    }
+
+    @ExceptionHandler(PriceLookupUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Mono<ErrorResponse> handlePriceLookupUnavailableException(
+            PriceLookupUnavailableException ex,
+            ServerWebExchange exchange) {
+
+        // A stalled database fails every lookup at once, so leave the signal to the breaker and metrics
+        if (log.isDebugEnabled()) {
+            log.debug("Price lookup unavailable - Path: {}, Message: {}",
+                    exchange.getRequest().getPath().value(), ex.getMessage());
+        }
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, ex.retryAfter().toSeconds())));
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setTimestamp(OffsetDateTime.now());
+        errorResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.setError(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase());
+        errorResponse.setMessage(ex.getMessage());
+        errorResponse.setPath(exchange.getRequest().getPath().value());
+
+        return Mono.just(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public Mono<ErrorResponse> handleGenericException(
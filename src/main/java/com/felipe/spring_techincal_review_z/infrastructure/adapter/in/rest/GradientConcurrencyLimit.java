@@ -0,0 +1,135 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit learned from request latency, in the style of a gradient limiter.
+ *
+ * <p>Latencies are averaged over windows of at least {@code window} and {@value #MIN_WINDOW_SAMPLES}
+ * samples. Each window's average (the short-term latency) is compared with an exponential average
+ * of the previous ones (the long-term latency), and the limit moves by the gradient between them:
+ * <pre>
+ * gradient = clamp(rttTolerance * longRtt / shortRtt, 0.5, 1)
+ * estimate = limit * gradient + sqrt(limit)
+ * limit    = limit * (1 - smoothing) + estimate * smoothing
+ * </pre>
+ * While latency stays within the tolerance the limit creeps up by the square root term, probing
+ * for headroom; once requests start to queue the latency rises and the gradient pulls the limit
+ * down, by at most half per window. The limit does not grow in windows where fewer than half of it
+ * was in use, since those say nothing about what more concurrency would cost.
+ */
+public class GradientConcurrencyLimit {
+
+    static final int MIN_WINDOW_SAMPLES = 10;
+
+    // When the recent latency drops far below the long-term one, for example after a stall, let the
+    // long-term average recover faster than its window alone would
+    private static final double LONG_RTT_RECOVERY = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final double longRttWeight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowStartNanos = -1;
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public GradientConcurrencyLimit(ConcurrencyLimitProperties properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.rttTolerance = properties.rttTolerance();
+        this.smoothing = properties.smoothing();
+        this.windowNanos = properties.window().toNanos();
+        this.longRttWeight = 2.0 / (properties.longWindow() + 1);
+        this.limit = properties.initialLimit();
+        this.estimatedLimit = properties.initialLimit();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Admits a request if fewer than the limit are in flight.
+     *
+     * @return the number of requests in flight including this one, or {@code 0} when it must be shed
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request without a sample, for requests whose latency means nothing
+     * (cancelled by the client).
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Releases an admitted request and feeds its latency to the limit.
+     *
+     * @param inFlightAtStart what {@link #tryAcquire()} returned for it
+     */
+    public void release(long rttNanos, int inFlightAtStart, long nowNanos) {
+        inFlight.decrementAndGet();
+        sample(rttNanos, inFlightAtStart, nowNanos);
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightAtStart, long nowNanos) {
+        if (windowStartNanos < 0) {
+            windowStartNanos = nowNanos;
+        }
+        windowRttSumNanos += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        if (nowNanos - windowStartNanos < windowNanos || windowSamples < MIN_WINDOW_SAMPLES) {
+            return;
+        }
+
+        double shortRttNanos = Math.max(1.0, (double) windowRttSumNanos / windowSamples);
+        boolean appLimited = windowMaxInFlight < limit / 2;
+        windowStartNanos = nowNanos;
+        windowRttSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRttNanos;
+            return;
+        }
+        longRttNanos += (shortRttNanos - longRttNanos) * longRttWeight;
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos *= LONG_RTT_RECOVERY;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+        double estimate = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        if (appLimited && estimate > estimatedLimit) {
+            return;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - smoothing) + estimate * smoothing));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,39 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * JSON encoder that writes {@link EncodedPriceResponse}s from their cached bytes and everything else
+ * through Jackson as usual.
+ *
+ * <p>The cached bytes are wrapped, not copied, into the response buffer. They are UTF-8, so a
+ * request negotiating another charset falls back to Jackson.
+ */
+public class PreEncodedJsonEncoder extends Jackson2JsonEncoder {
+
+    public PreEncodedJsonEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        if (value instanceof EncodedPriceResponse encoded && isUtf8(mimeType)) {
+            return bufferFactory.wrap(encoded.json());
+        }
+        return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+    }
+
+    private static boolean isUtf8(MimeType mimeType) {
+        return mimeType == null || mimeType.getCharset() == null
+                || StandardCharsets.UTF_8.equals(mimeType.getCharset());
+    }
+}
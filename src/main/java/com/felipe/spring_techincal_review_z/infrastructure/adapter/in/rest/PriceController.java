@@ -1,25 +1,62 @@
 package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
 
 import com.felipe.api.DefaultApi;
+import com.felipe.api.model.PriceBatchRequest;
+import com.felipe.api.model.PriceBatchResponse;
+import com.felipe.api.model.PriceBatchResult;
 import com.felipe.api.model.PriceResponse;
+import com.felipe.api.model.PriceSegmentResponse;
+import com.felipe.api.model.PriceUpdateResponse;
+import com.felipe.spring_techincal_review_z.domain.exception.PriceNotFoundException;
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
 import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceSegment;
+import com.felipe.spring_techincal_review_z.domain.model.PriceUpdate;
 import com.felipe.spring_techincal_review_z.domain.port.in.GetApplicablePriceUseCase;
+import com.felipe.spring_techincal_review_z.domain.port.in.WatchPricesUseCase;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience.PriceLookupUnavailableException;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class PriceController implements DefaultApi {
 
+    // Stands for a 304 until the body is dropped, so the lookup still counts as found in the metrics
+    private static final PriceResponse NOT_MODIFIED = new PriceResponse();
+
+    static final String STALE_HEADER = "X-Price-Stale";
+
     private final GetApplicablePriceUseCase getApplicablePriceUseCase;
+    private final WatchPricesUseCase watchPricesUseCase;
+    private final PriceLookupMetrics metrics;
+    private final PriceResponseCaching responseCaching;
+    private final PriceResponseBodies responseBodies;
+    private final PriceUpdateHeartbeat heartbeat;
 
     @Override
     public Mono<PriceResponse> getApplicablePrice(
@@ -28,23 +65,179 @@ public class PriceController implements DefaultApi {
             Long brandId,
             ServerWebExchange exchange) {
 
-        log.info("Incoming price request - endpoint: GET /api/v1/prices, productId: {}, brandId: {}, date: {}",
+        log.debug("Incoming price request - endpoint: GET /api/v1/prices, productId: {}, brandId: {}, date: {}",
                 productId, brandId, applicationDate);
 
-        // Convert OffsetDateTime to LocalDateTime (normalized to UTC)
-        LocalDateTime localDateTime = applicationDate.atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        LocalDateTime localDateTime = toUtc(applicationDate);
         log.debug("Converted request date to UTC LocalDateTime: {}", localDateTime);
 
+        // Deferred so that inputs the use case rejects while assembling the lookup are timed as errors too
+        Mono<PriceResponse> lookup = Mono.defer(() -> getApplicablePriceUseCase
+                        .getApplicablePrice(localDateTime, productId, brandId))
+                .map(applicable -> mapToResponse(applicable, exchange));
+
+        return metrics.time(PriceLookupMetrics.Stage.CONTROLLER, brandId, lookup)
+                .doOnSuccess(response -> {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Price request fulfilled successfully - productId: {}, brandId: {}, priceList: {}, price: {} {}",
+                                productId, brandId, response.getPriceList(), response.getPrice(), response.getCurrency());
+                    }
+                })
+                // Misses and unavailable lookups are answered and logged by GlobalExceptionHandler;
+                // only unexpected failures are errors here
+                .doOnError(error -> !(error instanceof PriceNotFoundException)
+                                && !(error instanceof PriceLookupUnavailableException),
+                        error -> log.error("Price request failed - productId: {}, brandId: {}, error: {}",
+                                productId, brandId, error.getMessage()))
+                // A 304 keeps the status and headers set by PriceResponseCaching and drops the body
+                .filter(response -> response != NOT_MODIFIED);
+    }
+
+    @Override
+    public Mono<PriceBatchResponse> getApplicablePrices(
+            Mono<PriceBatchRequest> priceBatchRequest,
+            ServerWebExchange exchange) {
+
+        return priceBatchRequest
+                .map(request -> request.getItems().stream()
+                        .map(item -> new PriceQuery(toUtc(item.getApplicationDate()), item.getProductId(), item.getBrandId()))
+                        .toList())
+                .doOnNext(queries -> log.debug("Incoming batch price request - endpoint: POST /api/v1/prices/batch, items: {}",
+                        queries.size()))
+                .flatMap(getApplicablePriceUseCase::getApplicablePrices)
+                .map(this::mapToBatchResponse)
+                .doOnError(error -> log.error("Batch price request failed - error: {}", error.getMessage()));
+    }
+
+    @Override
+    public Flux<PriceSegmentResponse> getPriceTimeline(
+            Long productId,
+            Long brandId,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            ServerWebExchange exchange) {
+
+        log.debug("Incoming price timeline request - endpoint: GET /api/v1/prices/timeline, productId: {}, brandId: {}, from: {}, to: {}",
+                productId, brandId, from, to);
+
         return getApplicablePriceUseCase
-                .getApplicablePrice(localDateTime, productId, brandId)
-                .map(this::mapToResponse)
-                .doOnSuccess(response -> log.info("Price request fulfilled successfully - productId: {}, brandId: {}, priceList: {}, price: {} {}",
-                        productId, brandId, response.getPriceList(), response.getPrice(), response.getCurrency()))
-                .doOnError(error -> log.error("Price request failed - productId: {}, brandId: {}, error: {}",
+                .getPriceSegments(productId, brandId, toUtc(from), toUtc(to))
+                .map(this::mapToSegmentResponse)
+                .doOnError(error -> log.error("Price timeline request failed - productId: {}, brandId: {}, error: {}",
                         productId, brandId, error.getMessage()));
     }
 
-    private PriceResponse mapToResponse(Price price) {
+    // Narrows the generated mapping to NDJSON; server-sent events are served by watchPriceEvents
+    @Override
+    @GetMapping(value = "/api/v1/prices/updates", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PriceUpdateResponse> watchPrices(
+            List<String> key,
+            ServerWebExchange exchange) {
+
+        Set<PriceKey> keys = parseKeys(key);
+        log.debug("Incoming price watch - endpoint: GET /api/v1/prices/updates, keys: {}", keys.size());
+
+        return watchPricesUseCase
+                .watchPrices(keys)
+                .map(this::mapToUpdateResponse)
+                .doOnError(error -> log.error("Price watch failed - keys: {}, error: {}", keys, error.getMessage()));
+    }
+
+    /**
+     * SSE flavour of {@link #watchPrices}, with heartbeat comments between updates.
+     */
+    @GetMapping(value = "/api/v1/prices/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PriceUpdateResponse>> watchPriceEvents(
+            @NotNull @Size(min = 1, max = 100) @RequestParam(value = "key") List<@Pattern(regexp = "^\\d+:\\d+$") String> key,
+            ServerWebExchange exchange) {
+
+        return heartbeat.events(watchPrices(key, exchange));
+    }
+
+    // Parse productId:brandId pairs; malformed keys surface as 400 through GlobalExceptionHandler
+    private Set<PriceKey> parseKeys(List<String> keys) {
+        Set<PriceKey> parsed = new LinkedHashSet<>();
+        for (String key : keys) {
+            int separator = key.indexOf(':');
+            try {
+                parsed.add(new PriceKey(
+                        Long.parseLong(key.substring(0, Math.max(separator, 0))),
+                        Long.parseLong(key.substring(separator + 1))));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Watched key must be productId:brandId, got: " + key);
+            }
+        }
+        return parsed;
+    }
+
+    // Convert OffsetDateTime to LocalDateTime (normalized to UTC)
+    private LocalDateTime toUtc(OffsetDateTime dateTime) {
+        return dateTime.atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
+    private PriceBatchResponse mapToBatchResponse(List<Optional<Price>> prices) {
+        PriceBatchResponse response = new PriceBatchResponse();
+        for (Optional<Price> price : prices) {
+            PriceBatchResult result = new PriceBatchResult();
+            result.setFound(price.isPresent());
+            price.map(this::mapToResponse).ifPresent(result::setPrice);
+            response.addResultsItem(result);
+        }
+        return response;
+    }
+
+    private PriceSegmentResponse mapToSegmentResponse(PriceSegment segment) {
+        Price price = segment.price();
+        PriceSegmentResponse response = new PriceSegmentResponse();
+        response.setProductId(price.productId());
+        response.setBrandId(price.brandId());
+        response.setPriceList(price.priceList());
+        response.setStartDate(segment.validFrom().atOffset(ZoneOffset.UTC));
+        // Back from the exclusive segment end to the inclusive convention of the API
+        response.setEndDate(segment.validUntil().minusNanos(1).atOffset(ZoneOffset.UTC));
+        response.setPrice(price.price().doubleValue());
+        response.setCurrency(price.currency());
+        return response;
+    }
+
+    private PriceUpdateResponse mapToUpdateResponse(PriceUpdate update) {
+        PriceUpdateResponse response = new PriceUpdateResponse();
+        response.setProductId(update.key().productId());
+        response.setBrandId(update.key().brandId());
+        response.setReason(switch (update.reason()) {
+            case INITIAL -> PriceUpdateResponse.ReasonEnum.INITIAL;
+            case CATALOG_CHANGED -> PriceUpdateResponse.ReasonEnum.CATALOG_CHANGED;
+            case BOUNDARY -> PriceUpdateResponse.ReasonEnum.BOUNDARY;
+        });
+        response.setEffectiveFrom(update.effectiveFrom().atOffset(ZoneOffset.UTC));
+        update.applicablePrice().map(this::mapToResponse).ifPresent(response::setPrice);
+        return response;
+    }
+
+    private PriceResponse mapToResponse(ApplicablePrice applicable, ServerWebExchange exchange) {
+        if (applicable.stale()) {
+            exchange.getResponse().getHeaders().set(STALE_HEADER, "true");
+        }
+        if (responseCaching.notModified(exchange, applicable)) {
+            return NOT_MODIFIED;
+        }
+        return responseBodies.get(applicable.price(), this::mapToResponse);
+    }
+
+    // The single lookup hands over the compact read model; it is only widened here, at the edge
+    PriceResponse mapToResponse(CompactPrice price) {
+        PriceResponse response = new PriceResponse();
+        response.setProductId(price.productId());
+        response.setBrandId(price.brandId());
+        response.setPriceList(price.priceList());
+        response.setStartDate(price.startDate().atOffset(ZoneOffset.UTC));
+        response.setEndDate(price.endDate().atOffset(ZoneOffset.UTC));
+        response.setPrice(price.amountAsDouble());
+        response.setCurrency(price.currency());
+        return response;
+    }
+
+    PriceResponse mapToResponse(Price price) {
         log.debug("Mapping domain price to response DTO - priceList: {}, price: {}",
                 price.priceList(), price.price());
 
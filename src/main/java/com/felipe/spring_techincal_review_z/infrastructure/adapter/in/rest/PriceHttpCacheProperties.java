@@ -0,0 +1,24 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the HTTP caching headers of single lookups ({@code pricing.http-cache.*}).
+ *
+ * @param enabled whether lookups carry {@code ETag} and {@code Cache-Control} and answer 304
+ * @param maxAge upper bound of {@code max-age}, which is also how stale a cached price may get
+ *               after a catalog change
+ */
+@ConfigurationProperties(prefix = "pricing.http-cache")
+public record PriceHttpCacheProperties(
+        boolean enabled,
+        Duration maxAge
+) {
+    public PriceHttpCacheProperties {
+        if (maxAge == null || maxAge.isNegative()) {
+            maxAge = Duration.ofMinutes(10);
+        }
+    }
+}
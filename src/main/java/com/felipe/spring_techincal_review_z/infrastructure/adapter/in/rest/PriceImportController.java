@@ -0,0 +1,52 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImportFormat;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImportResult;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImporter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Admin endpoints streaming an uploaded price list into the catalog, either appended to it or
+ * replacing it as a whole.
+ *
+ * <p>Kept outside the OpenAPI contract on purpose: the generated interface would aggregate the
+ * body in memory, while here the request body is consumed as it arrives.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pricing.import", name = "enabled", havingValue = "true")
+public class PriceImportController {
+
+    private final PriceImporter importer;
+
+    @PostMapping(
+            path = "/api/v1/admin/prices/import",
+            consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PriceImportResult> importPrices(ServerHttpRequest request) {
+        PriceImportFormat format = PriceImportFormat.of(request.getHeaders().getContentType());
+        log.info("Incoming price import - endpoint: POST /api/v1/admin/prices/import, format: {}", format);
+
+        return importer.importPrices(request.getBody(), format);
+    }
+
+    @PutMapping(
+            path = "/api/v1/admin/prices",
+            consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PriceImportResult> replacePrices(ServerHttpRequest request) {
+        PriceImportFormat format = PriceImportFormat.of(request.getHeaders().getContentType());
+        log.info("Incoming catalog replacement - endpoint: PUT /api/v1/admin/prices, format: {}", format);
+
+        return importer.replacePrices(request.getBody(), format);
+    }
+}
@@ -0,0 +1,61 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.felipe.api.model.PriceResponse;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Single lookup response bodies, mapped and serialized once per price rather than once per request.
+ *
+ * <p>The body of a single lookup depends on the winning price alone, so it is cached under the
+ * {@link CompactPrice} itself. Since the key holds every field of the body, an entry can never go
+ * stale: a catalog change yields a different key, and entries of prices no longer served are simply
+ * evicted once {@code maximumSize} is reached. When disabled, every request maps a new response that
+ * Jackson serializes.
+ */
+public class PriceResponseBodies {
+
+    private final Cache<CompactPrice, EncodedPriceResponse> cache;
+    private final ObjectWriter writer;
+
+    public PriceResponseBodies(PriceResponseBodyProperties properties, ObjectWriter writer,
+                               MeterRegistry meterRegistry, String name) {
+        this.writer = writer;
+        if (properties.enabled()) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(properties.maximumSize())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name, List.of());
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Returns the response of the given price, mapping and serializing it on first use.
+     */
+    public PriceResponse get(CompactPrice price, Function<CompactPrice, PriceResponse> mapper) {
+        if (cache == null) {
+            return mapper.apply(price);
+        }
+        return cache.get(price, key -> encode(mapper.apply(key)));
+    }
+
+    private EncodedPriceResponse encode(PriceResponse response) {
+        try {
+            return new EncodedPriceResponse(response, writer.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize price response", e);
+        }
+    }
+}
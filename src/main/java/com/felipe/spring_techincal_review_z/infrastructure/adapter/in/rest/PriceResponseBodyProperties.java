@@ -0,0 +1,21 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the pre-serialized single lookup bodies ({@code pricing.response-bodies.*}).
+ *
+ * @param enabled whether single lookups are answered from cached JSON bytes
+ * @param maximumSize maximum number of distinct prices whose body is kept
+ */
+@ConfigurationProperties(prefix = "pricing.response-bodies")
+public record PriceResponseBodyProperties(
+        boolean enabled,
+        long maximumSize
+) {
+    public PriceResponseBodyProperties {
+        if (maximumSize <= 0) {
+            maximumSize = 10_000;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP caching of single lookups, derived from how long the returned price stays applicable.
+ *
+ * <p>{@code Cache-Control: max-age} runs up to {@link ApplicablePrice#validUntil()}, capped by
+ * {@link PriceHttpCacheProperties#maxAge()}; a price that is not applicable any more by now, or that
+ * is a {@link ApplicablePrice#stale() stale} stand-in for the catalog, is sent with {@code no-cache}. The
+ * {@code ETag} is a hash of every field of the winning price, so it is the same on every node and for
+ * every instant the price wins, and requests whose {@code If-None-Match} matches it are answered with
+ * 304 and no body. Stale answers carry no {@code ETag} and are never turned into a 304: they are not
+ * read from the catalog, so they cannot confirm that a cached copy is still current.
+ *
+ * <p>The lookup is served as JSON or CBOR depending on {@code Accept}, so responses carry
+ * {@code Vary: Accept} and the negotiated media type is part of the {@code ETag}: a shared cache
+ * keeps one entry per representation, and a tag of one never validates the other.
+ */
+public class PriceResponseCaching {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // In the order of the lookup operation's produces, JSON being the default
+    private static final List<MediaType> PRODUCIBLE = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
+    private final PriceHttpCacheProperties properties;
+    private final Clock clock;
+
+    public PriceResponseCaching(PriceHttpCacheProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the caching headers of the lookup response and checks the request preconditions.
+     *
+     * @return whether the response was turned into a 304, in which case no body must be written
+     */
+    public boolean notModified(ServerWebExchange exchange, ApplicablePrice applicable) {
+        if (!properties.enabled()) {
+            return false;
+        }
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        if (applicable.stale()) {
+            headers.setCacheControl(CacheControl.noCache());
+            return false;
+        }
+        headers.setCacheControl(cacheControl(applicable.validUntil()));
+        return exchange.checkNotModified(etag(applicable.price(), negotiatedType(exchange)));
+    }
+
+    // Mirrors the selection of the response encoder: the most specific acceptable type wins, and
+    // wildcards resolve to the first producible type they match
+    static MediaType negotiatedType(ServerWebExchange exchange) {
+        List<MediaType> acceptable = new ArrayList<>(exchange.getRequest().getHeaders().getAccept());
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType accepted : acceptable) {
+            for (MediaType producible : PRODUCIBLE) {
+                if (accepted.isCompatibleWith(producible)) {
+                    return producible;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    CacheControl cacheControl(LocalDateTime validUntil) {
+        Duration remaining = Duration.between(LocalDateTime.now(clock), validUntil);
+        if (remaining.getSeconds() <= 0) {
+            return CacheControl.noCache();
+        }
+        Duration maxAge = remaining.compareTo(properties.maxAge()) > 0 ? properties.maxAge() : remaining;
+        return CacheControl.maxAge(Duration.ofSeconds(maxAge.getSeconds())).cachePublic();
+    }
+
+    // FNV-1a over the fields; unlike hashCode() it is specified, hence stable across JVMs and restarts
+    static String etag(CompactPrice price, MediaType mediaType) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, price.id());
+        hash = mix(hash, price.brandId());
+        hash = mix(hash, price.productId());
+        hash = mix(hash, price.priceList());
+        hash = mix(hash, price.startEpochSecond());
+        hash = mix(hash, price.endEpochSecond());
+        hash = mix(hash, price.priceMinor());
+        hash = mix(hash, price.priority());
+        for (int i = 0; i < price.currency().length(); i++) {
+            hash = mix(hash, price.currency().charAt(i));
+        }
+        String type = mediaType.getType() + "/" + mediaType.getSubtype();
+        for (int i = 0; i < type.length(); i++) {
+            hash = mix(hash, type.charAt(i));
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
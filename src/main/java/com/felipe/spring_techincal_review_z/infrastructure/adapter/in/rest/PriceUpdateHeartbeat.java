@@ -0,0 +1,37 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+
+/**
+ * Turns price updates into server-sent events, merged with a comment every {@code heartbeat}.
+ *
+ * <p>Updates of a watched key can be hours apart, and an idle connection is closed by most proxies
+ * and load balancers well before that. The comments keep it busy without reaching the client's event
+ * handlers, and surface a dead client as a write error instead of a watch leaking until the next
+ * update. They stop with the updates, so a failed or completed watch still ends the stream.
+ */
+public class PriceUpdateHeartbeat {
+
+    static final String COMMENT = "heartbeat";
+
+    private final Duration interval;
+    private final Scheduler scheduler;
+
+    public PriceUpdateHeartbeat(Duration interval, Scheduler scheduler) {
+        this.interval = interval;
+        this.scheduler = scheduler;
+    }
+
+    public <T> Flux<ServerSentEvent<T>> events(Flux<T> updates) {
+        return updates
+                .map(update -> ServerSentEvent.builder(update).build())
+                .publish(events -> Flux.merge(events, Flux.interval(interval, scheduler)
+                        .onBackpressureDrop()
+                        .map(tick -> ServerSentEvent.<T>builder().comment(COMMENT).build())
+                        .takeUntilOther(events.then())));
+    }
+}
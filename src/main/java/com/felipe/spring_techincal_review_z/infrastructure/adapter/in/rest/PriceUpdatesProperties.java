@@ -0,0 +1,22 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the price update stream ({@code pricing.updates.*}).
+ *
+ * @param heartbeat interval of the comment events sent on an otherwise idle SSE stream, short enough
+ *                  for proxies and load balancers not to close it as idle
+ */
+@ConfigurationProperties(prefix = "pricing.updates")
+public record PriceUpdatesProperties(
+        Duration heartbeat
+) {
+    public PriceUpdatesProperties {
+        if (heartbeat == null || heartbeat.isZero() || heartbeat.isNegative()) {
+            heartbeat = Duration.ofSeconds(15);
+        }
+    }
+}
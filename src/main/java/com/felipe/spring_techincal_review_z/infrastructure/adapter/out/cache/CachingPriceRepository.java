@@ -0,0 +1,68 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator caching the resolved {@link PriceTimeline} of each product and brand.
+ *
+ * <p>A miss loads the whole timeline of the key once through {@link PriceRepository#findTimeline};
+ * every later instant for that key is resolved in memory. Batches resolve cached keys locally and
+ * forward only the remaining queries to the delegate, still as a single call.
+ */
+public class CachingPriceRepository implements PriceRepository {
+
+    private final PriceRepository delegate;
+    private final PriceTimelineCache cache;
+
+    public CachingPriceRepository(PriceRepository delegate, PriceTimelineCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return findTimeline(productId, brandId)
+                .flatMap(timeline -> Mono.justOrEmpty(timeline.applicableAt(applicationDate)));
+    }
+
+    @Override
+    public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+        Map<PriceQuery, Price> found = new HashMap<>();
+        List<PriceQuery> uncached = new ArrayList<>();
+        for (PriceQuery query : queries) {
+            PriceTimeline timeline = cache.getIfPresent(new PriceKey(query.productId(), query.brandId()));
+            if (timeline == null) {
+                uncached.add(query);
+            } else {
+                timeline.priceAt(query.applicationDate()).ifPresent(price -> found.put(query, price));
+            }
+        }
+        if (uncached.isEmpty()) {
+            return Mono.just(found);
+        }
+        return delegate.findApplicablePrices(uncached)
+                .map(loaded -> {
+                    found.putAll(loaded);
+                    return found;
+                });
+    }
+
+    @Override
+    public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+        return cache.get(new PriceKey(productId, brandId), key -> delegate.findTimeline(key.productId(), key.brandId()));
+    }
+}
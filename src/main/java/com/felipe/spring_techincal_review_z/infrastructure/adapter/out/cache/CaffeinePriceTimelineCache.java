@@ -0,0 +1,78 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link PriceTimelineCache} backed by Caffeine, whose W-TinyLFU policy keeps frequently requested
+ * keys resident even when a crawl sweeps through many cold ones.
+ */
+public class CaffeinePriceTimelineCache implements PriceTimelineCache {
+
+    private static final int RELOAD_CONCURRENCY = 16;
+
+    private final AsyncCache<PriceKey, PriceTimeline> cache;
+
+    public CaffeinePriceTimelineCache(long maximumSize, Duration ttl, MeterRegistry meterRegistry, String name) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name, List.of());
+    }
+
+    @Override
+    public Mono<PriceTimeline> get(PriceKey key, Function<PriceKey, Mono<PriceTimeline>> loader) {
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.apply(k).toFuture()), true);
+    }
+
+    @Override
+    public PriceTimeline getIfPresent(PriceKey key) {
+        CompletableFuture<PriceTimeline> future = cache.getIfPresent(key);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    @Override
+    public void invalidate(PriceKey key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public Mono<Void> reloadAll(Function<PriceKey, Mono<PriceTimeline>> loader) {
+        return Mono.defer(() -> {
+            Map<PriceKey, CompletableFuture<PriceTimeline>> previous = Map.copyOf(cache.asMap());
+            return Flux.fromIterable(previous.keySet())
+                    .flatMap(key -> loader.apply(key)
+                            .defaultIfEmpty(PriceTimeline.empty())
+                            .map(timeline -> Map.entry(key, Optional.of(timeline)))
+                            .onErrorResume(error -> Mono.just(Map.entry(key, Optional.empty()))), RELOAD_CONCURRENCY)
+                    .collectList()
+                    .doOnNext(reloaded -> reloaded.forEach(entry -> {
+                        CompletableFuture<PriceTimeline> seen = previous.get(entry.getKey());
+                        entry.getValue().ifPresentOrElse(
+                                timeline -> cache.asMap().replace(entry.getKey(), seen, CompletableFuture.completedFuture(timeline)),
+                                () -> cache.asMap().remove(entry.getKey(), seen));
+                    }))
+                    .then();
+        });
+    }
+}
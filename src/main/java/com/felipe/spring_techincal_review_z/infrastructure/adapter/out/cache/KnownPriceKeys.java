@@ -0,0 +1,116 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bloom filter of every product/brand pair present in {@code PRICES}, rebuilt on each full catalog load.
+ *
+ * <p>Keyed writes only add keys to the current filter; keys that disappear stay in it until the
+ * next full load, which costs a wasted lookup but never a wrong answer. Keys added while a rebuild
+ * scans the table are also collected and replayed into the rebuilt filter when it is swapped in,
+ * since the scan may have missed their rows. Until the first load completes, and while any catalog
+ * write has rows committed that the filter has not been told about yet, the set never reports a
+ * key as absent.
+ */
+@Slf4j
+public class KnownPriceKeys implements PriceCatalogListener {
+
+    private final DatabaseClient databaseClient;
+    private final BooleanSupplier writesPending;
+    private final long expectedKeys;
+    private final double falsePositiveProbability;
+
+    private volatile PriceKeyBloomFilter filter;
+
+    // Guarded by this: keys added while each running rebuild scans, and the newest rebuild swapped in
+    private final List<Set<PriceKey>> addedDuringRebuild = new ArrayList<>();
+    private long rebuildsStarted;
+    private long swappedRebuild;
+
+    public KnownPriceKeys(DatabaseClient databaseClient, BooleanSupplier writesPending, long expectedKeys,
+                          double falsePositiveProbability) {
+        this.databaseClient = databaseClient;
+        this.writesPending = writesPending;
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Returns {@code true} when the key certainly has no prices; always {@code false} before the first
+     * load and while a catalog write is pending.
+     */
+    public boolean isCertainlyAbsent(PriceKey key) {
+        PriceKeyBloomFilter current = filter;
+        return current != null && !writesPending.getAsBoolean() && !current.mightContain(key);
+    }
+
+    @Override
+    public Mono<Void> onCatalogChanged(PriceCatalogChangedEvent event) {
+        if (!event.fullReload() && filter != null) {
+            return Mono.fromRunnable(() -> add(event.keys()));
+        }
+        return rebuild();
+    }
+
+    private synchronized void add(Collection<PriceKey> keys) {
+        keys.forEach(filter::add);
+        addedDuringRebuild.forEach(collected -> collected.addAll(keys));
+    }
+
+    private Mono<Void> rebuild() {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            Set<PriceKey> collected = new HashSet<>();
+            long sequence;
+            synchronized (this) {
+                sequence = ++rebuildsStarted;
+                addedDuringRebuild.add(collected);
+            }
+            return databaseClient.sql("SELECT COUNT(*) FROM (SELECT DISTINCT PRODUCT_ID, BRAND_ID FROM PRICES)")
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .flatMap(count -> {
+                        // Leave headroom for keys added by later writes before the next full load
+                        PriceKeyBloomFilter rebuilt = PriceKeyBloomFilter.create(
+                                Math.max(expectedKeys, count * 2), falsePositiveProbability);
+                        return databaseClient.sql("SELECT DISTINCT PRODUCT_ID, BRAND_ID FROM PRICES")
+                                .map(row -> new PriceKey(row.get(0, Long.class), row.get(1, Long.class)))
+                                .all()
+                                .doOnNext(rebuilt::add)
+                                .then(Mono.fromRunnable(() -> {
+                                    swap(sequence, rebuilt, collected);
+                                    log.info("Known price keys rebuilt - keys: {}, took: {} ms",
+                                            count, (System.nanoTime() - started) / 1_000_000);
+                                }));
+                    })
+                    .then()
+                    .doFinally(signal -> release(collected));
+        });
+    }
+
+    private synchronized void swap(long sequence, PriceKeyBloomFilter rebuilt, Set<PriceKey> collected) {
+        // A rebuild that started earlier but finished later scanned an older table; it must not win
+        if (sequence < swappedRebuild) {
+            return;
+        }
+        collected.forEach(rebuilt::add);
+        swappedRebuild = sequence;
+        filter = rebuilt;
+    }
+
+    private synchronized void release(Set<PriceKey> collected) {
+        addedDuringRebuild.remove(collected);
+    }
+}
@@ -0,0 +1,173 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link PriceTimelineCache} with plain least-recently-used eviction.
+ *
+ * <p>Every access takes a single lock, so this trades throughput for predictability; prefer the
+ * Caffeine implementation unless strict recency eviction is required. Meters use the same names
+ * as Micrometer's Caffeine binder so dashboards work with either policy.
+ */
+public class LruPriceTimelineCache implements PriceTimelineCache {
+
+    private static final int RELOAD_CONCURRENCY = 16;
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<PriceKey, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public LruPriceTimelineCache(long maximumSize, long ttlNanos, MeterRegistry meterRegistry, String name) {
+        this(maximumSize, ttlNanos, meterRegistry, name, System::nanoTime);
+    }
+
+    LruPriceTimelineCache(long maximumSize, long ttlNanos, MeterRegistry meterRegistry, String name, LongSupplier nanoClock) {
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PriceKey, Entry> eldest) {
+                boolean evict = size() > maximumSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.size", this, LruPriceTimelineCache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<PriceTimeline> get(PriceKey key, Function<PriceKey, Mono<PriceTimeline>> loader) {
+        return Mono.defer(() -> {
+            CompletableFuture<PriceTimeline> future;
+            boolean load = false;
+            synchronized (entries) {
+                Entry entry = live(key);
+                if (entry != null) {
+                    hits.increment();
+                    future = entry.value();
+                } else {
+                    misses.increment();
+                    future = new CompletableFuture<>();
+                    entries.put(key, new Entry(future, nanoClock.getAsLong() + ttlNanos));
+                    load = true;
+                }
+            }
+            if (load) {
+                CompletableFuture<PriceTimeline> pending = future;
+                loader.apply(key).subscribe(pending::complete, error -> {
+                    // Failed loads must not stay cached; only drop the entry if it is still ours
+                    synchronized (entries) {
+                        Entry current = entries.get(key);
+                        if (current != null && current.value() == pending) {
+                            entries.remove(key);
+                        }
+                    }
+                    pending.completeExceptionally(error);
+                }, () -> pending.complete(PriceTimeline.empty()));
+            }
+            // Waiters share the future, so one cancelled subscriber must not cancel it for the others
+            return Mono.fromFuture(future, true);
+        });
+    }
+
+    @Override
+    public PriceTimeline getIfPresent(PriceKey key) {
+        synchronized (entries) {
+            Entry entry = live(key);
+            if (entry == null || !entry.value().isDone() || entry.value().isCompletedExceptionally()) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value().join();
+        }
+    }
+
+    @Override
+    public void invalidate(PriceKey key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public Mono<Void> reloadAll(Function<PriceKey, Mono<PriceTimeline>> loader) {
+        return Mono.defer(() -> {
+            Map<PriceKey, Entry> previous;
+            synchronized (entries) {
+                previous = new HashMap<>(entries);
+            }
+            return Flux.fromIterable(previous.keySet())
+                    .flatMap(key -> loader.apply(key)
+                            .defaultIfEmpty(PriceTimeline.empty())
+                            .map(timeline -> Map.entry(key, Optional.of(timeline)))
+                            .onErrorResume(error -> Mono.just(Map.entry(key, Optional.empty()))), RELOAD_CONCURRENCY)
+                    .collectList()
+                    .doOnNext(reloaded -> {
+                        // One lock for every swap, so a lookup sees either all old or all reloaded entries
+                        synchronized (entries) {
+                            long expiresAt = nanoClock.getAsLong() + ttlNanos;
+                            for (Map.Entry<PriceKey, Optional<PriceTimeline>> entry : reloaded) {
+                                PriceKey key = entry.getKey();
+                                if (entries.get(key) != previous.get(key)) {
+                                    continue;
+                                }
+                                entry.getValue().ifPresentOrElse(
+                                        timeline -> entries.put(key, new Entry(CompletableFuture.completedFuture(timeline), expiresAt)),
+                                        () -> entries.remove(key));
+                            }
+                        }
+                    })
+                    .then();
+        });
+    }
+
+    private Entry live(PriceKey key) {
+        Entry entry = entries.get(key);
+        if (entry != null && nanoClock.getAsLong() - entry.expiresAt() >= 0) {
+            entries.remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    private long size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(CompletableFuture<PriceTimeline> value, long expiresAt) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import io.micrometer.core.instrument.Counter;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator answering lookups for product/brand pairs that have no prices at all without
+ * reaching the delegate, based on {@link KnownPriceKeys}.
+ */
+public class NegativeLookupPriceRepository implements PriceRepository {
+
+    private final PriceRepository delegate;
+    private final KnownPriceKeys knownKeys;
+    private final Counter shortCircuited;
+
+    public NegativeLookupPriceRepository(PriceRepository delegate, KnownPriceKeys knownKeys, Counter shortCircuited) {
+        this.delegate = delegate;
+        this.knownKeys = knownKeys;
+        this.shortCircuited = shortCircuited;
+    }
+
+    @Override
+    public Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (isCertainlyAbsent(productId, brandId)) {
+            return Mono.empty();
+        }
+        return delegate.findApplicablePrice(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+        List<PriceQuery> candidates = queries.stream()
+                .filter(query -> !isCertainlyAbsent(query.productId(), query.brandId()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return delegate.findApplicablePrices(candidates);
+    }
+
+    @Override
+    public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+        if (isCertainlyAbsent(productId, brandId)) {
+            return Mono.just(PriceTimeline.empty());
+        }
+        return delegate.findTimeline(productId, brandId);
+    }
+
+    private boolean isCertainlyAbsent(Long productId, Long brandId) {
+        boolean absent = knownKeys.isCertainlyAbsent(new PriceKey(productId, brandId));
+        if (absent) {
+            shortCircuited.increment();
+        }
+        return absent;
+    }
+}
@@ -0,0 +1,26 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the unknown-key short circuit ({@code pricing.negative-lookup.*}).
+ *
+ * @param enabled whether lookups for unknown product/brand pairs skip the repository
+ * @param expectedKeys minimum number of keys the Bloom filter is sized for
+ * @param falsePositiveProbability share of unknown keys that still reach the repository
+ */
+@ConfigurationProperties(prefix = "pricing.negative-lookup")
+public record NegativeLookupProperties(
+        boolean enabled,
+        long expectedKeys,
+        double falsePositiveProbability
+) {
+    public NegativeLookupProperties {
+        if (expectedKeys <= 0) {
+            expectedKeys = 100_000;
+        }
+        if (falsePositiveProbability <= 0) {
+            falsePositiveProbability = 0.01;
+        }
+    }
+}
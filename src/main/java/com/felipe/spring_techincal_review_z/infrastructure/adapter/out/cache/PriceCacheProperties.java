@@ -0,0 +1,38 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the price timeline cache ({@code pricing.cache.*}).
+ *
+ * @param enabled whether repository lookups go through the cache
+ * @param maximumSize maximum number of product/brand timelines kept
+ * @param ttl time after which a cached timeline is reloaded
+ * @param eviction policy used to pick victims once {@code maximumSize} is reached
+ */
+@ConfigurationProperties(prefix = "pricing.cache")
+public record PriceCacheProperties(
+        boolean enabled,
+        long maximumSize,
+        Duration ttl,
+        Eviction eviction
+) {
+    public PriceCacheProperties {
+        if (maximumSize <= 0) {
+            maximumSize = 10_000;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(10);
+        }
+        if (eviction == null) {
+            eviction = Eviction.W_TINY_LFU;
+        }
+    }
+
+    public enum Eviction {
+        W_TINY_LFU,
+        LRU
+    }
+}
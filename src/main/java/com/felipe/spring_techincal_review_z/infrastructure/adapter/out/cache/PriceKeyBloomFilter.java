@@ -0,0 +1,84 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Compact probabilistic set of {@link PriceKey}s: {@link #mightContain} never answers {@code false}
+ * for a key that was added, and answers {@code true} for an absent key with roughly the configured
+ * false-positive probability.
+ *
+ * <p>Adds are lock-free and may run concurrently with lookups.
+ */
+public final class PriceKeyBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private PriceKeyBloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates a filter sized for {@code expectedKeys} at the given false-positive probability.
+     */
+    public static PriceKeyBloomFilter create(long expectedKeys, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+        }
+        long keys = Math.max(1, expectedKeys);
+        double ln2 = Math.log(2);
+        long bits = Math.max(64, (long) Math.ceil(-keys * Math.log(falsePositiveProbability) / (ln2 * ln2)));
+        if (bits > (long) Integer.MAX_VALUE << 6) {
+            throw new IllegalArgumentException("Bloom filter too large for " + expectedKeys + " keys");
+        }
+        int hashes = Math.max(1, (int) Math.round((double) bits / keys * ln2));
+        return new PriceKeyBloomFilter(bits, hashes);
+    }
+
+    public void add(PriceKey key) {
+        long h1 = mix(key);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(PriceKey key) {
+        long h1 = mix(key);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Kirsch-Mitzenmacher double hashing: k probes derived from two hashes
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    // SplitMix64 finalizer over both ids: cheap, and well spread even for sequential product ids
+    private static long mix(PriceKey key) {
+        long z = key.productId() * 0x9E3779B97F4A7C15L + key.brandId();
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,37 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Bounded cache of resolved {@link PriceTimeline}s keyed by product and brand.
+ *
+ * <p>Entries are keyed without the application date on purpose: one entry answers every instant
+ * of its key, which is what makes a cache worthwhile for requests at ever-changing timestamps.
+ */
+public interface PriceTimelineCache {
+
+    /**
+     * Returns the cached timeline, loading it on a miss. Concurrent misses on the same key share one load.
+     */
+    Mono<PriceTimeline> get(PriceKey key, Function<PriceKey, Mono<PriceTimeline>> loader);
+
+    /**
+     * Returns the cached timeline without loading it, or {@code null} on a miss.
+     */
+    PriceTimeline getIfPresent(PriceKey key);
+
+    void invalidate(PriceKey key);
+
+    void invalidateAll();
+
+    /**
+     * Reloads every cached timeline off to the side, then swaps the reloaded ones in a single pass, so
+     * lookups keep hitting the previous entries instead of missing while the reload runs. Entries
+     * replaced or invalidated in the meantime are left alone; entries whose reload fails are dropped.
+     */
+    Mono<Void> reloadAll(Function<PriceKey, Mono<PriceTimeline>> loader);
+}
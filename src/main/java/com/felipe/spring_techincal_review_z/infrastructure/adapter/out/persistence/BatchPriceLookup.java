@@ -0,0 +1,103 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Resolves a batch of price queries with a single SQL statement.
+ *
+ * <p>The distinct queries are inlined as a {@code VALUES} derived table and joined against the
+ * price data, so the database answers the whole batch in one round trip on one connection.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchPriceLookup {
+
+    private static final String QUERY_COLUMNS = "Q(IDX, PRODUCT_ID, BRAND_ID, APPLICATION_DATE)";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+    private final PriceEntityMapper mapper;
+
+    /**
+     * Resolves the batch against {@code PRICES}, picking each query's winner the way {@link SinglePriceLookup} does.
+     */
+    public Mono<Map<PriceQuery, Price>> fromPrices(Collection<PriceQuery> queries) {
+        return execute(queries, BatchPriceLookup::fromPricesStatement);
+    }
+
+    /**
+     * Resolves the batch against the materialized {@code PRICE_TIMELINE}, where at most one segment matches.
+     */
+    public Mono<Map<PriceQuery, Price>> fromTimeline(Collection<PriceQuery> queries) {
+        return execute(queries, values ->
+                "SELECT Q.IDX, T.PRICE_ID AS ID, T.BRAND_ID, T.START_DATE, T.END_DATE, T.PRICE_LIST, " +
+                "T.PRODUCT_ID, T.PRIORITY, T.PRICE, T.CURR " +
+                "FROM (VALUES " + values + ") AS " + QUERY_COLUMNS + " " +
+                "JOIN PRICE_TIMELINE T ON T.PRODUCT_ID = Q.PRODUCT_ID AND T.BRAND_ID = Q.BRAND_ID " +
+                "AND T.SEGMENT_START <= Q.APPLICATION_DATE AND T.SEGMENT_END > Q.APPLICATION_DATE");
+    }
+
+    // Correlated per query row so each winner is the first idx_prices_priority entry in range, instead of
+    // ranking every candidate of the batch with a window function
+    static String fromPricesStatement(String values) {
+        return "SELECT Q.IDX, P.* " +
+                "FROM (VALUES " + values + ") AS " + QUERY_COLUMNS + " " +
+                "JOIN PRICES P ON P.ID = (" +
+                "SELECT C.ID FROM PRICES C WHERE C.PRODUCT_ID = Q.PRODUCT_ID AND C.BRAND_ID = Q.BRAND_ID " +
+                "AND Q.APPLICATION_DATE BETWEEN C.START_DATE AND C.END_DATE " +
+                "ORDER BY C.PRODUCT_ID, C.BRAND_ID, C.PRIORITY DESC, C.ID " +
+                "LIMIT 1)";
+    }
+
+    private Mono<Map<PriceQuery, Price>> execute(Collection<PriceQuery> queries, UnaryOperator<String> template) {
+        List<PriceQuery> distinct = new ArrayList<>(new LinkedHashSet<>(queries));
+        if (distinct.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < distinct.size(); i++) {
+            if (i > 0) {
+                values.append(", ");
+            }
+            values.append('(').append(i)
+                    .append(", CAST(:p").append(i).append(" AS BIGINT)")
+                    .append(", CAST(:b").append(i).append(" AS BIGINT)")
+                    .append(", CAST(:d").append(i).append(" AS TIMESTAMP(9)))");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(template.apply(values.toString()));
+        for (int i = 0; i < distinct.size(); i++) {
+            PriceQuery query = distinct.get(i);
+            spec = spec.bind("p" + i, query.productId())
+                    .bind("b" + i, query.brandId())
+                    .bind("d" + i, query.applicationDate());
+        }
+
+        log.debug("Executing batch price query - queries: {}, distinct: {}", queries.size(), distinct.size());
+
+        return spec
+                .map((row, metadata) -> Map.entry(
+                        distinct.get(row.get("IDX", Integer.class)),
+                        mapper.toDomain(converter.read(PriceEntity.class, row, metadata))))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+}
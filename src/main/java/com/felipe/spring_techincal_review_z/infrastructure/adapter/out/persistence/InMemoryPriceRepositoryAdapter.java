@@ -0,0 +1,94 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing the PriceRepository port with an in-memory interval index.
+ *
+ * <p>All prices are loaded from the {@code PRICES} table whenever the catalog changes, grouped per
+ * {@link PriceKey} and flattened into a {@link PriceTimeline}. Lookups are a hash probe plus a
+ * binary search and never touch the connection pool.
+ *
+ * <p>Enabled with {@code pricing.repository.type=in-memory}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pricing.repository", name = "type", havingValue = "in-memory")
+public class InMemoryPriceRepositoryAdapter implements PriceRepository, PriceCatalogListener {
+
+    private final R2dbcPriceRepository r2dbcRepository;
+    private final PriceEntityMapper mapper;
+
+    private volatile Map<PriceKey, PriceTimeline> index = Map.of();
+
+    @Override
+    public Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PriceTimeline timeline = index.get(new PriceKey(productId, brandId));
+        if (timeline == null) {
+            return Mono.empty();
+        }
+        return Mono.justOrEmpty(timeline.applicableAt(applicationDate));
+    }
+
+    @Override
+    public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+        Map<PriceKey, PriceTimeline> snapshot = index;
+        Map<PriceQuery, Price> found = new HashMap<>();
+        for (PriceQuery query : queries) {
+            PriceTimeline timeline = snapshot.get(new PriceKey(query.productId(), query.brandId()));
+            if (timeline != null) {
+                timeline.priceAt(query.applicationDate()).ifPresent(price -> found.put(query, price));
+            }
+        }
+        return Mono.just(found);
+    }
+
+    @Override
+    public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+        return Mono.just(index.getOrDefault(new PriceKey(productId, brandId), PriceTimeline.empty()));
+    }
+
+    @Override
+    public Mono<Void> onCatalogChanged(PriceCatalogChangedEvent event) {
+        return r2dbcRepository.findAll()
+                .map(mapper::toDomain)
+                .collect(Collectors.groupingBy(PriceKey::of))
+                .doOnNext(this::rebuild)
+                .then();
+    }
+
+    private void rebuild(Map<PriceKey, List<Price>> pricesByKey) {
+        long started = System.nanoTime();
+        Map<PriceKey, PriceTimeline> rebuilt = pricesByKey.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> PriceTimeline.of(entry.getValue())));
+        this.index = rebuilt;
+
+        log.info("In-memory price index rebuilt - keys: {}, prices: {}, took: {} ms",
+                rebuilt.size(),
+                pricesByKey.values().stream().mapToInt(List::size).sum(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,188 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot.MappedPriceCatalog;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot.PriceSnapshotProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot.PriceSnapshotWriter;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adapter implementing the PriceRepository port on a memory-mapped columnar snapshot.
+ *
+ * <p>The snapshot left by the previous run is mapped when the bean is created, so lookups are
+ * served from the first request without loading anything on the heap. Catalog changes export
+ * {@code PRICES} to a new snapshot file, map it and swap it in; the file is thereby also the export
+ * format of the catalog. Since every export reads the whole table, exports run one at a time and
+ * all changes that arrive while one runs, keyed or not, share a single follow-up export.
+ *
+ * <p>Enabled with {@code pricing.repository.type=mapped}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "pricing.repository", name = "type", havingValue = "mapped")
+public class MappedPriceRepositoryAdapter implements PriceRepository, PriceCatalogListener {
+
+    private static final int EXPORT_ATTEMPTS = 3;
+    private static final String SELECT_SORTED = "SELECT * FROM PRICES ORDER BY PRODUCT_ID, BRAND_ID, START_DATE, ID";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+    private final PriceEntityMapper mapper;
+    private final Path file;
+
+    private volatile MappedPriceCatalog catalog;
+
+    // Guarded by this: completion of the running export, and of the one queued behind it
+    private Sinks.Empty<Void> running;
+    private Sinks.Empty<Void> queued;
+
+    public MappedPriceRepositoryAdapter(DatabaseClient databaseClient, R2dbcConverter converter,
+                                        PriceEntityMapper mapper, PriceSnapshotProperties properties) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+        this.mapper = mapper;
+        this.file = properties.file();
+        this.catalog = openExisting(file);
+    }
+
+    @Override
+    public Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return Mono.justOrEmpty(catalog.find(productId, brandId, applicationDate));
+    }
+
+    @Override
+    public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+        MappedPriceCatalog snapshot = catalog;
+        Map<PriceQuery, Price> found = new HashMap<>();
+        for (PriceQuery query : queries) {
+            ApplicablePrice applicable = snapshot.find(query.productId(), query.brandId(), query.applicationDate());
+            if (applicable != null) {
+                found.put(query, applicable.price().toPrice());
+            }
+        }
+        return Mono.just(found);
+    }
+
+    @Override
+    public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+        return Mono.just(PriceTimeline.of(catalog.prices(productId, brandId)));
+    }
+
+    @Override
+    public Mono<Void> onCatalogChanged(PriceCatalogChangedEvent event) {
+        // A change is applied by the first export that starts after it arrived
+        Sinks.Empty<Void> started;
+        synchronized (this) {
+            if (running != null) {
+                if (queued == null) {
+                    queued = Sinks.empty();
+                }
+                return queued.asMono();
+            }
+            running = Sinks.empty();
+            started = running;
+        }
+        start(started);
+        return started.asMono();
+    }
+
+    private void start(Sinks.Empty<Void> done) {
+        exportAndMap().subscribe(
+                null,
+                error -> {
+                    done.tryEmitError(error);
+                    startQueued();
+                },
+                () -> {
+                    done.tryEmitEmpty();
+                    startQueued();
+                });
+    }
+
+    private void startQueued() {
+        Sinks.Empty<Void> next;
+        synchronized (this) {
+            next = queued;
+            running = queued;
+            queued = null;
+        }
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    private Mono<Void> exportAndMap() {
+        long started = System.nanoTime();
+        return databaseClient.sql("SELECT COUNT(*) AS ROWS_TOTAL FROM PRICES")
+                .map(row -> row.get("ROWS_TOTAL", Long.class))
+                .one()
+                .flatMap(this::export)
+                // Rows written between the count and the scan break the expected size; start over
+                .retryWhen(Retry.max(EXPORT_ATTEMPTS - 1).filter(IllegalStateException.class::isInstance))
+                .then(Mono.fromCallable(() -> MappedPriceCatalog.open(file)))
+                .doOnNext(exported -> {
+                    this.catalog = exported;
+                    log.info("Price snapshot exported and mapped - path: {}, rows: {}, took: {} ms",
+                            file, exported.size(), (System.nanoTime() - started) / 1_000_000);
+                })
+                // File I/O and the synchronous H2 driver both block; keep them off the event loops
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private Mono<Long> export(long rows) {
+        return Mono.using(
+                () -> PriceSnapshotWriter.open(file, rows),
+                writer -> databaseClient.sql(SELECT_SORTED)
+                        .map((row, metadata) -> mapper.toDomain(converter.read(PriceEntity.class, row, metadata)))
+                        .all()
+                        .doOnNext(writer::append)
+                        .then(Mono.fromCallable(writer::commit)),
+                writer -> {
+                    try {
+                        writer.close();
+                    } catch (IOException e) {
+                        log.warn("Failed to discard unfinished price snapshot - path: {}", file, e);
+                    }
+                });
+    }
+
+    private static MappedPriceCatalog openExisting(Path file) {
+        if (!Files.exists(file)) {
+            log.info("No price snapshot yet, serving an empty catalog until the first export - path: {}", file);
+            return MappedPriceCatalog.empty();
+        }
+        try {
+            MappedPriceCatalog existing = MappedPriceCatalog.open(file);
+            log.info("Price snapshot mapped - path: {}, rows: {}", file, existing.size());
+            return existing;
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable price snapshot - path: {}, error: {}", file, e.getMessage());
+            return MappedPriceCatalog.empty();
+        }
+    }
+}
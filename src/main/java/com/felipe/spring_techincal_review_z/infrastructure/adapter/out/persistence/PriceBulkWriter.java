@@ -0,0 +1,115 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Writes prices to the {@code PRICES} table in batches.
+ *
+ * <p>Each call binds the whole batch to one statement on one connection, so the cost of acquiring
+ * a connection and parsing the SQL is paid once per batch rather than once per row. Identifiers
+ * are assigned by the database.
+ *
+ * <p>Rows are either appended to {@code PRICES} directly or staged in {@code PRICES_STAGING} and
+ * then swapped in as a whole catalog by {@link #replaceWithStaged()}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceBulkWriter {
+
+    private static final String COLUMNS = "BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR";
+
+    private static final String INSERT_PRICE = "INSERT INTO PRICES (" + COLUMNS + ") " +
+            "VALUES ($1, $2, $3, $4, $5, $6, $7, $8)";
+
+    private static final String SEED_PRICE = "INSERT INTO PRICES (" + COLUMNS + ", SEEDED) " +
+            "VALUES ($1, $2, $3, $4, $5, $6, $7, $8, TRUE)";
+
+    private static final String STAGE_PRICE = "INSERT INTO PRICES_STAGING (" + COLUMNS + ") " +
+            "VALUES ($1, $2, $3, $4, $5, $6, $7, $8)";
+
+    // Staged IDs follow file order, which keeps the ID tie-break between equal priorities stable
+    private static final String PROMOTE_STAGED = "INSERT INTO PRICES (" + COLUMNS + ") " +
+            "SELECT " + COLUMNS + " FROM PRICES_STAGING ORDER BY ID";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Inserts the given prices, returning the number of rows written.
+     */
+    public Mono<Long> insert(List<Price> prices) {
+        return write(INSERT_PRICE, prices);
+    }
+
+    /**
+     * Inserts the given prices as part of the seeded catalog, which a reseed replaces, returning the
+     * number of rows written.
+     */
+    public Mono<Long> seed(List<Price> prices) {
+        return write(SEED_PRICE, prices);
+    }
+
+    /**
+     * Inserts the given prices into the staging table, returning the number of rows written.
+     */
+    public Mono<Long> stage(List<Price> prices) {
+        return write(STAGE_PRICE, prices);
+    }
+
+    /**
+     * Discards whatever a previous, unfinished replacement left in the staging table.
+     */
+    public Mono<Void> clearStaged() {
+        return databaseClient.sql("DELETE FROM PRICES_STAGING").then();
+    }
+
+    /**
+     * Replaces the whole {@code PRICES} table with the staged rows in one transaction, returning the
+     * number of rows promoted. Concurrent readers keep seeing the previous catalog until the commit.
+     */
+    public Mono<Long> replaceWithStaged() {
+        return databaseClient.sql("DELETE FROM PRICES").then()
+                .then(databaseClient.sql(PROMOTE_STAGED).fetch().rowsUpdated())
+                .flatMap(promoted -> clearStaged().thenReturn(promoted))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Long> write(String sql, List<Price> prices) {
+        if (prices.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.inConnection(connection -> {
+            Statement statement = connection.createStatement(sql);
+            for (int i = 0; i < prices.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                bind(statement, prices.get(i));
+            }
+            return Flux.from(statement.execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .reduce(0L, Long::sum);
+        });
+    }
+
+    private static void bind(Statement statement, Price price) {
+        statement.bind(0, price.brandId())
+                .bind(1, price.startDate())
+                .bind(2, price.endDate())
+                .bind(3, price.priceList())
+                .bind(4, price.productId())
+                .bind(5, price.priority())
+                .bind(6, price.price())
+                .bind(7, price.currency());
+    }
+}
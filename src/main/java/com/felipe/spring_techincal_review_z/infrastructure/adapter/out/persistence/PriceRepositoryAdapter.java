@@ -1,41 +1,162 @@
 package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
 
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
 import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
 import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
 import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
 import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
-import lombok.RequiredArgsConstructor;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShard;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShards;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics.Stage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Adapter implementing the PriceRepository port using R2DBC.
  * Bridges the domain layer with the reactive database infrastructure.
+ *
+ * <p>Single lookups read the winning row straight into a {@link CompactPrice} through
+ * {@link SinglePriceLookup}. They are timed as a whole and as the R2DBC query (connection
+ * acquisition and row mapping included), see {@link PriceLookupMetrics}.
+ *
+ * <p>Identical concurrent single lookups are coalesced: while a query for a product, brand and
+ * instant is in flight, further callers subscribe to its result instead of taking another pooled
+ * connection, so a hot key cannot exhaust the pool. Coalesced calls are counted as
+ * {@value #COALESCED_METRIC}; the queries currently in flight are gauged as {@value #IN_FLIGHT_METRIC}.
+ *
+ * <p>With {@code pricing.sharding.enabled}, every lookup is routed to the {@link PriceShard} holding
+ * its product and brand, and batches fan out to the shards involved and are merged, see
+ * {@link PriceShards}; otherwise all of them go to the primary database.
+ *
+ * <p>Default implementation, selected when {@code pricing.repository.type} is {@code r2dbc} or unset.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pricing.repository", name = "type", havingValue = "r2dbc", matchIfMissing = true)
 public class PriceRepositoryAdapter implements PriceRepository {
 
+    static final String COALESCED_METRIC = "pricing.lookup.coalesced";
+    static final String IN_FLIGHT_METRIC = "pricing.lookup.in.flight";
+
     private final R2dbcPriceRepository r2dbcRepository;
     private final PriceEntityMapper mapper;
+    private final SinglePriceLookup singleLookup;
+    private final BatchPriceLookup batchLookup;
+    private final PriceLookupMetrics metrics;
+    private final PriceShards shards;
+    private final ConcurrentMap<LookupKey, Mono<ApplicablePrice>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public PriceRepositoryAdapter(R2dbcPriceRepository r2dbcRepository, PriceEntityMapper mapper,
+                                  SinglePriceLookup singleLookup, BatchPriceLookup batchLookup,
+                                  PriceLookupMetrics metrics, MeterRegistry meterRegistry,
+                                  ObjectProvider<PriceShards> shards) {
+        this.r2dbcRepository = r2dbcRepository;
+        this.mapper = mapper;
+        this.singleLookup = singleLookup;
+        this.batchLookup = batchLookup;
+        this.metrics = metrics;
+        this.shards = shards.getIfAvailable();
+        this.coalesced = Counter.builder(COALESCED_METRIC)
+                .description("Single lookups answered by an identical query already in flight")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, Map::size)
+                .description("Distinct single lookup queries in flight")
+                .register(meterRegistry);
+    }
 
     @Override
-    public Mono<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+    public Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return metrics.time(Stage.REPOSITORY, brandId, Mono.defer(() -> {
+            LookupKey key = LookupKey.of(applicationDate, productId, brandId);
+            Mono<ApplicablePrice> query = inFlight.get(key);
+            if (query == null) {
+                Mono<ApplicablePrice> started = query(key, applicationDate, productId, brandId);
+                query = inFlight.putIfAbsent(key, started);
+                if (query == null) {
+                    return started;
+                }
+            }
+            coalesced.increment();
+            return query;
+        }));
+    }
+
+    /*
+     * Shared by every caller of the key. Once the last of them cancels, the query is cancelled too
+     * and releases its connection, since nobody is left to use the answer. A caller that picked the
+     * query up just before that subscribes it anew after it was unregistered, while a newer query
+     * may hold the key by then, so it only ever unregisters itself.
+     */
+    private Mono<ApplicablePrice> query(LookupKey key, LocalDateTime applicationDate, Long productId, Long brandId) {
+        AtomicReference<Mono<ApplicablePrice>> registered = new AtomicReference<>();
+        Mono<ApplicablePrice> shared = lookup(applicationDate, productId, brandId)
+                .doFinally(signal -> inFlight.remove(key, registered.get()))
+                .share();
+        registered.set(shared);
+        return shared;
+    }
+
+    private Mono<ApplicablePrice> lookup(LocalDateTime applicationDate, Long productId, Long brandId) {
         log.debug("Executing database query - applicationDate: {}, productId: {}, brandId: {}", 
                 applicationDate, productId, brandId);
         
-        return r2dbcRepository
-                .findApplicablePrice(applicationDate, productId, brandId)
-                .doOnNext(entity -> log.debug("Database query returned entity - id: {}, priority: {}, priceList: {}", 
-                        entity.getId(), entity.getPriority(), entity.getPriceList()))
-                .map(mapper::toDomain)
+        SinglePriceLookup lookup = shards == null ? singleLookup : shards.route(productId, brandId).singleLookup();
+        return metrics.time(Stage.REPOSITORY_QUERY, brandId,
+                        lookup.fromPrices(applicationDate, productId, brandId))
+                .doOnNext(applicable -> log.debug("Database query returned price - id: {}, priority: {}, priceList: {}", 
+                        applicable.price().id(), applicable.price().priority(), applicable.price().priceList()))
                 .doOnSuccess(price -> {
                     if (price == null) {
                         log.debug("No price entity found in database for given criteria");
                     }
                 });
     }
-}
\ No newline at end of file
+
+    @Override
+    public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+        return shards == null ? batchLookup.fromPrices(queries) : shards.findApplicablePrices(queries);
+    }
+
+    @Override
+    public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+        if (shards != null) {
+            return shards.route(productId, brandId).findTimeline(productId, brandId);
+        }
+        return r2dbcRepository
+                .findByProductIdAndBrandId(productId, brandId)
+                .map(mapper::toDomain)
+                .collectList()
+                .map(PriceTimeline::of);
+    }
+
+    /**
+     * Instants resolving to the same prices share a key. Catalog periods start and end on whole
+     * seconds, so every instant strictly inside a second resolves like any other; only the whole
+     * second itself differs, being the last instant of prices ending there.
+     */
+    private record LookupKey(long productId, long brandId, long epochSecond, boolean wholeSecond) {
+
+        static LookupKey of(LocalDateTime applicationDate, long productId, long brandId) {
+            return new LookupKey(productId, brandId, applicationDate.toEpochSecond(ZoneOffset.UTC),
+                    applicationDate.getNano() == 0);
+        }
+    }
+}
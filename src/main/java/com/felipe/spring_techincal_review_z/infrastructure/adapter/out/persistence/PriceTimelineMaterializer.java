@@ -0,0 +1,121 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceSegment;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogListener;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@code PRICE_TIMELINE} table consistent with {@code PRICES}.
+ *
+ * <p>On every catalog change the affected keys are re-flattened into a {@link PriceTimeline} and
+ * their segments replaced inside a single transaction, so readers never observe a key with a
+ * partially written timeline. Runs before any other catalog listener.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "pricing.repository", name = "type", havingValue = "timeline")
+public class PriceTimelineMaterializer implements PriceCatalogListener {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_SEGMENT = "INSERT INTO PRICE_TIMELINE " +
+            "(PRODUCT_ID, BRAND_ID, SEGMENT_START, SEGMENT_END, PRICE_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR) " +
+            "VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11)";
+
+    private final R2dbcPriceRepository r2dbcRepository;
+    private final PriceEntityMapper mapper;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<Void> onCatalogChanged(PriceCatalogChangedEvent event) {
+        Mono<Void> rebuild = event.fullReload()
+                ? rebuildAll()
+                : Flux.fromIterable(event.keys()).concatMap(this::rebuildKey).then();
+
+        long started = System.nanoTime();
+        return rebuild
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(ignored -> log.info("Price timeline materialized - fullReload: {}, keys: {}, took: {} ms",
+                        event.fullReload(), event.keys().size(), (System.nanoTime() - started) / 1_000_000));
+    }
+
+    private Mono<Void> rebuildAll() {
+        return databaseClient.sql("DELETE FROM PRICE_TIMELINE").then()
+                .then(r2dbcRepository.findAll()
+                        .map(mapper::toDomain)
+                        .collect(Collectors.groupingBy(PriceKey::of)))
+                .flatMapMany(pricesByKey -> Flux.fromIterable(pricesByKey.values()))
+                .concatMapIterable(prices -> PriceTimeline.of(prices).segments())
+                .buffer(INSERT_BATCH_SIZE)
+                .concatMap(this::insert)
+                .then();
+    }
+
+    private Mono<Void> rebuildKey(PriceKey key) {
+        return databaseClient.sql("DELETE FROM PRICE_TIMELINE WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId")
+                .bind("productId", key.productId())
+                .bind("brandId", key.brandId())
+                .then()
+                .then(r2dbcRepository.findByProductIdAndBrandId(key.productId(), key.brandId())
+                        .map(mapper::toDomain)
+                        .collectList())
+                .flatMapMany(prices -> Flux.fromIterable(PriceTimeline.of(prices).segments()))
+                .buffer(INSERT_BATCH_SIZE)
+                .concatMap(this::insert)
+                .then();
+    }
+
+    private Mono<Long> insert(List<PriceSegment> segments) {
+        return databaseClient.inConnection(connection -> {
+            Statement statement = connection.createStatement(INSERT_SEGMENT);
+            for (int i = 0; i < segments.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                bind(statement, segments.get(i));
+            }
+            return Flux.from(statement.execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .reduce(0L, Long::sum);
+        });
+    }
+
+    private static void bind(Statement statement, PriceSegment segment) {
+        Price price = segment.price();
+        statement.bind(0, price.productId())
+                .bind(1, price.brandId())
+                .bind(2, segment.validFrom())
+                .bind(3, segment.validUntil())
+                .bind(4, price.id())
+                .bind(5, price.priceList())
+                .bind(6, price.startDate())
+                .bind(7, price.endDate())
+                .bind(8, price.priority())
+                .bind(9, price.price())
+                .bind(10, price.currency());
+    }
+}
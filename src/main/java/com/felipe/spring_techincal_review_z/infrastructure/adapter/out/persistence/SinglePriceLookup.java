@@ -0,0 +1,101 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics.Outcome;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics.Stage;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Resolves a single price query straight into the {@link CompactPrice} read model.
+ *
+ * <p>Columns are copied from the result row into primitives, with no {@code PriceEntity} or
+ * {@code Price} in between; the time spent doing so is recorded as the
+ * {@link Stage#REPOSITORY_MAPPING} stage. The same statement also returns how long the winner
+ * stays applicable, see {@link ApplicablePrice}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SinglePriceLookup {
+
+    // The winner is the first candidate in idx_prices_priority order; the equality-bound columns are
+    // repeated in the ORDER BY so that H2 recognises the index order and stops at the first match.
+    // VALID_UNTIL is the first later start of a price taking precedence within the winner's period, if any
+    static final String FROM_PRICES = "SELECT W.ID, W.BRAND_ID, W.PRODUCT_ID, W.PRICE_LIST, W.START_DATE, " +
+            "W.END_DATE, W.PRICE, W.CURR, W.PRIORITY, (" +
+            "SELECT MIN(P.START_DATE) FROM PRICES P WHERE " +
+            "P.PRODUCT_ID = W.PRODUCT_ID AND " +
+            "P.BRAND_ID = W.BRAND_ID AND " +
+            "P.START_DATE > :applicationDate AND " +
+            "P.START_DATE <= W.END_DATE AND " +
+            "(P.PRIORITY > W.PRIORITY OR (P.PRIORITY = W.PRIORITY AND P.ID < W.ID))" +
+            ") AS VALID_UNTIL FROM PRICES W WHERE W.ID = (" +
+            "SELECT C.ID FROM PRICES C WHERE " +
+            "C.PRODUCT_ID = :productId AND " +
+            "C.BRAND_ID = :brandId AND " +
+            ":applicationDate BETWEEN C.START_DATE AND C.END_DATE " +
+            "ORDER BY C.PRODUCT_ID, C.BRAND_ID, C.PRIORITY DESC, C.ID " +
+            "LIMIT 1)";
+
+    // Segments are disjoint per product and brand, so at most one row matches and no ordering is needed
+    private static final String FROM_TIMELINE = "SELECT PRICE_ID AS ID, BRAND_ID, PRODUCT_ID, PRICE_LIST, " +
+            "START_DATE, END_DATE, PRICE, CURR, PRIORITY, SEGMENT_END AS VALID_UNTIL FROM PRICE_TIMELINE WHERE " +
+            "PRODUCT_ID = :productId AND " +
+            "BRAND_ID = :brandId AND " +
+            "SEGMENT_START <= :applicationDate AND " +
+            "SEGMENT_END > :applicationDate";
+
+    private final DatabaseClient databaseClient;
+    private final PriceLookupMetrics metrics;
+
+    /**
+     * Resolves the query against {@code PRICES}, keeping the highest priority candidate.
+     */
+    public Mono<ApplicablePrice> fromPrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return execute(FROM_PRICES, applicationDate, productId, brandId);
+    }
+
+    /**
+     * Resolves the query against the materialized {@code PRICE_TIMELINE}.
+     */
+    public Mono<ApplicablePrice> fromTimeline(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return execute(FROM_TIMELINE, applicationDate, productId, brandId);
+    }
+
+    private Mono<ApplicablePrice> execute(String sql, LocalDateTime applicationDate, Long productId, Long brandId) {
+        return databaseClient.sql(sql)
+                .bind("applicationDate", applicationDate)
+                .bind("productId", productId)
+                .bind("brandId", brandId)
+                .map(row -> read(row, brandId))
+                .one();
+    }
+
+    private ApplicablePrice read(Readable row, Long brandId) {
+        long started = System.nanoTime();
+        LocalDateTime endDate = row.get("END_DATE", LocalDateTime.class);
+        LocalDateTime validUntil = row.get("VALID_UNTIL", LocalDateTime.class);
+        CompactPrice price = new CompactPrice(
+                row.get("ID", Long.class),
+                row.get("BRAND_ID", Long.class),
+                row.get("PRODUCT_ID", Long.class),
+                row.get("PRICE_LIST", Integer.class),
+                row.get("START_DATE", LocalDateTime.class).toEpochSecond(ZoneOffset.UTC),
+                endDate.toEpochSecond(ZoneOffset.UTC),
+                CompactPrice.toMinor(row.get("PRICE", BigDecimal.class)),
+                row.get("CURR", String.class),
+                row.get("PRIORITY", Integer.class));
+        ApplicablePrice applicable = new ApplicablePrice(price, validUntil != null ? validUntil : endDate.plusNanos(1));
+        metrics.record(Stage.REPOSITORY_MAPPING, brandId, Outcome.FOUND, started);
+        return applicable;
+    }
+}
@@ -0,0 +1,61 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Adapter implementing the PriceRepository port on top of the materialized {@code PRICE_TIMELINE}.
+ *
+ * <p>Priority resolution already happened at write time in {@link PriceTimelineMaterializer}, so
+ * a read is a point lookup on (product, brand, instant) with no sort.
+ *
+ * <p>Enabled with {@code pricing.repository.type=timeline}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pricing.repository", name = "type", havingValue = "timeline")
+public class TimelinePriceRepositoryAdapter implements PriceRepository {
+
+    private final R2dbcPriceRepository r2dbcRepository;
+    private final PriceEntityMapper mapper;
+    private final SinglePriceLookup singleLookup;
+    private final BatchPriceLookup batchLookup;
+
+    @Override
+    public Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        log.debug("Executing timeline lookup - applicationDate: {}, productId: {}, brandId: {}",
+                applicationDate, productId, brandId);
+
+        return singleLookup.fromTimeline(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+        return batchLookup.fromTimeline(queries);
+    }
+
+    @Override
+    public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+        return r2dbcRepository
+                .findByProductIdAndBrandId(productId, brandId)
+                .map(mapper::toDomain)
+                .collectList()
+                .map(PriceTimeline::of);
+    }
+}
\ No newline at end of file
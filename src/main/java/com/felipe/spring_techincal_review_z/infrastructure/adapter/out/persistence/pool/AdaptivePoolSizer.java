@@ -0,0 +1,122 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * Moves the limit of an {@link AdjustableAllocationStrategy} pool every
+ * {@code pricing.connection-pool.interval}, once the application is ready.
+ *
+ * <p>The pool grows by a quarter of its limit (at least one connection) as soon as acquirers are
+ * queued or the mean wait of the acquires queued during the interval exceeds {@code target-acquire-time}, and
+ * shrinks one connection at a time after {@code shrink-after} intervals with nobody waiting and at
+ * most half the limit in use. Growing fast and shrinking slowly keeps a burst from paying the
+ * connection setup twice.
+ */
+@Slf4j
+public class AdaptivePoolSizer implements DisposableBean {
+
+    public static final String LIMIT_METRIC = "r2dbc.pool.limit";
+    public static final String RESIZED_METRIC = "r2dbc.pool.resized";
+
+    private final ConnectionPool pool;
+    private final String poolName;
+    private final AdjustableAllocationStrategy strategy;
+    private final MicrometerPoolMetricsRecorder recorder;
+    private final long targetAcquireNanos;
+    private final Duration interval;
+    private final int shrinkAfter;
+    private final Counter grown;
+    private final Counter shrunk;
+    private int idleIntervals;
+    private volatile Disposable running;
+
+    public AdaptivePoolSizer(ConnectionPool pool, String poolName, AdjustableAllocationStrategy strategy,
+                             MicrometerPoolMetricsRecorder recorder, ConnectionPoolSizingProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.poolName = poolName;
+        this.strategy = strategy;
+        this.recorder = recorder;
+        this.targetAcquireNanos = properties.targetAcquireTime().toNanos();
+        this.interval = properties.interval();
+        this.shrinkAfter = properties.shrinkAfter();
+        Gauge.builder(LIMIT_METRIC, strategy, AdjustableAllocationStrategy::limit)
+                .description("Connections the pool may currently open")
+                .tag("name", poolName)
+                .register(meterRegistry);
+        this.grown = resized("grow", poolName, meterRegistry);
+        this.shrunk = resized("shrink", poolName, meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("Adaptive connection pool sizing - pool: {}, bounds: [{}, {}], interval: {}",
+                poolName, strategy.permitMinimum(), strategy.permitMaximum(), interval);
+        running = Flux.interval(interval, interval, Schedulers.boundedElastic())
+                .onBackpressureDrop()
+                .subscribe(tick -> resize());
+    }
+
+    /**
+     * Takes one sizing decision from the interval that just ended.
+     */
+    synchronized void resize() {
+        MicrometerPoolMetricsRecorder.Window window = recorder.drain();
+        PoolMetrics metrics = pool.getMetrics().orElse(null);
+        if (metrics == null) {
+            return;
+        }
+        int limit = strategy.limit();
+        if (metrics.pendingAcquireSize() > 0 || window.meanAcquireNanos() > targetAcquireNanos) {
+            idleIntervals = 0;
+            int grownTo = strategy.limit(limit + Math.max(1, limit / 4));
+            if (grownTo > limit) {
+                grown.increment();
+                log.info("Connection pool grown - pool: {}, limit: {} -> {}, pending: {}, mean wait: {}us",
+                        poolName, limit, grownTo, metrics.pendingAcquireSize(), window.meanAcquireNanos() / 1_000);
+            }
+        } else if (metrics.acquiredSize() <= limit / 2) {
+            if (++idleIntervals < shrinkAfter) {
+                return;
+            }
+            idleIntervals = 0;
+            int shrunkTo = strategy.limit(limit - 1);
+            if (shrunkTo < limit) {
+                shrunk.increment();
+                log.debug("Connection pool shrunk - pool: {}, limit: {} -> {}, acquired: {}",
+                        poolName, limit, shrunkTo, metrics.acquiredSize());
+            }
+        } else {
+            idleIntervals = 0;
+        }
+    }
+
+    private static Counter resized(String direction, String poolName, MeterRegistry meterRegistry) {
+        return Counter.builder(RESIZED_METRIC)
+                .description("Changes of the pool limit")
+                .tag("name", poolName)
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        Disposable current = running;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool;
+
+import reactor.pool.AllocationStrategy;
+import reactor.pool.PooledRefMetadata;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+/**
+ * {@link AllocationStrategy} whose limit can be moved at runtime between a fixed minimum and maximum.
+ *
+ * <p>Raising the limit lets the pool open connections on the next acquire. Lowering it never
+ * closes connections in use: the pool stops opening new ones, and the surplus is evicted as
+ * connections are released (see {@link #evictionPredicate}).
+ */
+public class AdjustableAllocationStrategy implements AllocationStrategy {
+
+    private final int minimum;
+    private final int maximum;
+    private final AtomicInteger granted = new AtomicInteger();
+    private volatile int limit;
+
+    public AdjustableAllocationStrategy(int minimum, int maximum, int initialLimit) {
+        if (minimum < 0 || maximum < Math.max(1, minimum)) {
+            throw new IllegalArgumentException("Invalid pool bounds - min: " + minimum + ", max: " + maximum);
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.limit = clamp(initialLimit);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Moves the limit, clamped to the bounds, returning the limit now in effect.
+     */
+    public int limit(int newLimit) {
+        limit = clamp(newLimit);
+        return limit;
+    }
+
+    @Override
+    public int estimatePermitCount() {
+        return Math.max(0, limit - granted.get());
+    }
+
+    // Like the size based strategy, tops the pool up to the minimum on the way (desired 0 is the warmup)
+    @Override
+    public int getPermits(int desired) {
+        if (desired < 0) {
+            return 0;
+        }
+        while (true) {
+            int current = granted.get();
+            int permits = Math.min(Math.max(desired, minimum - current), limit - current);
+            if (permits <= 0) {
+                return 0;
+            }
+            if (granted.compareAndSet(current, current + permits)) {
+                return permits;
+            }
+        }
+    }
+
+    @Override
+    public int permitGranted() {
+        return granted.get();
+    }
+
+    @Override
+    public int permitMinimum() {
+        return minimum;
+    }
+
+    @Override
+    public int permitMaximum() {
+        return maximum;
+    }
+
+    @Override
+    public void returnPermits(int returned) {
+        if (granted.addAndGet(-returned) < 0) {
+            granted.addAndGet(returned);
+            throw new IllegalArgumentException("Too many permits returned - returned: " + returned);
+        }
+    }
+
+    /**
+     * Eviction predicate for a pool using this strategy: the idle and lifetime checks r2dbc-pool
+     * applies itself (negative means unbounded), plus any connection seen while more are open than the limit, so that a lower
+     * limit takes effect as connections are released rather than when they reach {@code maxIdleTime}.
+     */
+    public <T> BiPredicate<T, PooledRefMetadata> evictionPredicate(Duration maxIdleTime, Duration maxLifeTime) {
+        return (connection, metadata) -> granted.get() > limit
+                || maxIdleTime.isZero() || maxLifeTime.isZero()
+                || (!maxIdleTime.isNegative() && metadata.idleTime() >= maxIdleTime.toMillis())
+                || (!maxLifeTime.isNegative() && metadata.lifeTime() >= maxLifeTime.toMillis());
+    }
+
+    private int clamp(int value) {
+        return Math.max(Math.max(1, minimum), Math.min(maximum, value));
+    }
+}
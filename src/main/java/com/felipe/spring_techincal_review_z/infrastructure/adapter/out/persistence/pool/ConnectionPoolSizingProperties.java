@@ -0,0 +1,41 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Adaptive sizing of the primary R2DBC connection pool ({@code pricing.connection-pool.*}).
+ *
+ * <p>The upper bound is {@code spring.r2dbc.pool.max-size}; without {@code adaptive} the pool is
+ * fixed at that size, as configured by Spring Boot.
+ *
+ * @param adaptive whether the pool limit follows the observed acquire waits and queue depth
+ * @param minSize lowest limit the pool is shrunk to
+ * @param targetAcquireTime mean wait of queued acquires above which the pool counts as starved
+ * @param interval time between two sizing decisions
+ * @param shrinkAfter consecutive idle intervals (no waiting, at most half the limit in use) before shrinking by one
+ */
+@ConfigurationProperties(prefix = "pricing.connection-pool")
+public record ConnectionPoolSizingProperties(
+        boolean adaptive,
+        int minSize,
+        Duration targetAcquireTime,
+        Duration interval,
+        int shrinkAfter
+) {
+    public ConnectionPoolSizingProperties {
+        if (minSize <= 0) {
+            minSize = 2;
+        }
+        if (targetAcquireTime == null || targetAcquireTime.isNegative()) {
+            targetAcquireTime = Duration.ofMillis(5);
+        }
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            interval = Duration.ofSeconds(5);
+        }
+        if (shrinkAfter <= 0) {
+            shrinkAfter = 6;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.pool.PoolMetricsRecorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the timings a reactor pool reports, complementing the pool gauges Spring Boot already
+ * binds ({@code r2dbc.pool.acquired}, {@code pending}, {@code idle}, ...).
+ *
+ * <p>Acquires that had to queue, because no idle connection or allocation permit was left, are
+ * timed from request to connection (or timeout) as {@value #ACQUIRE_METRIC}: the wait the gauges
+ * cannot show, since acquires served straight away are not reported by the pool. Every connection
+ * opened is timed as {@value #ALLOCATION_METRIC}. Both are tagged with the pool name and outcome,
+ * and the waits are also summed per {@link #drain() window} for {@link AdaptivePoolSizer}.
+ */
+public class MicrometerPoolMetricsRecorder implements PoolMetricsRecorder {
+
+    public static final String ACQUIRE_METRIC = "r2dbc.pool.acquire.wait";
+    public static final String ALLOCATION_METRIC = "r2dbc.pool.allocation";
+    public static final String RELEASED_METRIC = "r2dbc.pool.released";
+
+    private final Timer acquired;
+    private final Timer acquireFailed;
+    private final Timer allocated;
+    private final Timer allocationFailed;
+    private final Counter released;
+    private final LongAdder windowAcquires = new LongAdder();
+    private final LongAdder windowAcquireNanos = new LongAdder();
+
+    public MicrometerPoolMetricsRecorder(MeterRegistry meterRegistry, String poolName) {
+        this.acquired = timer(ACQUIRE_METRIC, "Time acquirers spent queued for a connection", poolName, "success", meterRegistry);
+        this.acquireFailed = timer(ACQUIRE_METRIC, "Time acquirers spent queued for a connection", poolName, "failure", meterRegistry);
+        this.allocated = timer(ALLOCATION_METRIC, "Time to open a new connection", poolName, "success", meterRegistry);
+        this.allocationFailed = timer(ALLOCATION_METRIC, "Time to open a new connection", poolName, "failure", meterRegistry);
+        this.released = Counter.builder(RELEASED_METRIC)
+                .description("Connections returned to the pool")
+                .tag("name", poolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordPendingSuccessAndLatency(long latencyMs) {
+        acquired.record(latencyMs, TimeUnit.MILLISECONDS);
+        windowAcquires.increment();
+        windowAcquireNanos.add(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+    }
+
+    @Override
+    public void recordPendingFailureAndLatency(long latencyMs) {
+        acquireFailed.record(latencyMs, TimeUnit.MILLISECONDS);
+        windowAcquires.increment();
+        windowAcquireNanos.add(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+    }
+
+    @Override
+    public void recordAllocationSuccessAndLatency(long latencyMs) {
+        allocated.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordAllocationFailureAndLatency(long latencyMs) {
+        allocationFailed.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordRecycled() {
+        released.increment();
+    }
+
+    @Override
+    public void recordResetLatency(long latencyMs) {
+    }
+
+    @Override
+    public void recordDestroyLatency(long latencyMs) {
+    }
+
+    @Override
+    public void recordLifetimeDuration(long millisecondsSinceAllocation) {
+    }
+
+    @Override
+    public void recordIdleTime(long millisecondsIdle) {
+    }
+
+    @Override
+    public void recordSlowPath() {
+    }
+
+    @Override
+    public void recordFastPath() {
+    }
+
+    /**
+     * Queued acquires recorded since the previous call, and their mean wait.
+     */
+    Window drain() {
+        long count = windowAcquires.sumThenReset();
+        long nanos = windowAcquireNanos.sumThenReset();
+        return new Window(count, count == 0 ? 0 : nanos / count);
+    }
+
+    record Window(long acquires, long meanAcquireNanos) {
+    }
+
+    private static Timer timer(String name, String description, String poolName, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("name", poolName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
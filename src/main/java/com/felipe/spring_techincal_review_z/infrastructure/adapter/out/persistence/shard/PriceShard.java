@@ -0,0 +1,148 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.BatchPriceLookup;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.SinglePriceLookup;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.SchemaMigrations;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One database of a sharded catalog, behind its own connection pool.
+ *
+ * <p>Holds the {@code PRICES} rows of the keys routed to it, with the identifiers they have in the
+ * primary store, and answers the same single and batch statements as the primary through its own
+ * {@link SinglePriceLookup} and {@link BatchPriceLookup}. Rows are only written by
+ * {@link PriceShardReplicator}, one transaction per call, so lookups never observe a half-copied key.
+ */
+public class PriceShard {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_PRICE = "INSERT INTO PRICES " +
+            "(ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+            "VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9)";
+
+    private final int index;
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final R2dbcConverter converter;
+    private final PriceEntityMapper mapper;
+    private final SinglePriceLookup singleLookup;
+    private final BatchPriceLookup batchLookup;
+
+    public PriceShard(int index, ConnectionPool pool, R2dbcConverter converter, PriceEntityMapper mapper,
+                      PriceLookupMetrics metrics) {
+        this.index = index;
+        this.pool = pool;
+        this.databaseClient = DatabaseClient.create(pool);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(pool));
+        this.converter = converter;
+        this.mapper = mapper;
+        this.singleLookup = new SinglePriceLookup(databaseClient, metrics);
+        this.batchLookup = new BatchPriceLookup(databaseClient, converter, mapper);
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public SinglePriceLookup singleLookup() {
+        return singleLookup;
+    }
+
+    public BatchPriceLookup batchLookup() {
+        return batchLookup;
+    }
+
+    public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+        return databaseClient.sql("SELECT * FROM PRICES WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId")
+                .bind("productId", productId)
+                .bind("brandId", brandId)
+                .map((row, metadata) -> mapper.toDomain(converter.read(PriceEntity.class, row, metadata)))
+                .all()
+                .collectList()
+                .map(PriceTimeline::of);
+    }
+
+    /**
+     * Applies the schema migrations the shard has not recorded yet.
+     */
+    Mono<Void> initialize() {
+        return new SchemaMigrations(pool).migrate().then();
+    }
+
+    /**
+     * Replaces every row of the shard with the given prices, returning the number of rows written.
+     */
+    Mono<Long> replaceAll(Flux<Price> prices) {
+        return databaseClient.sql("DELETE FROM PRICES").then()
+                .then(insert(prices))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Replaces the rows of the given keys with the prices {@code source} returns for each of them.
+     */
+    Mono<Long> replaceKeys(Collection<PriceKey> keys, Function<PriceKey, Flux<Price>> source) {
+        return Flux.fromIterable(keys)
+                .concatMap(key -> databaseClient.sql("DELETE FROM PRICES WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId")
+                        .bind("productId", key.productId())
+                        .bind("brandId", key.brandId())
+                        .then()
+                        .then(insert(source.apply(key))))
+                .reduce(0L, Long::sum)
+                .as(transactionalOperator::transactional);
+    }
+
+    void close() {
+        pool.dispose();
+    }
+
+    private Mono<Long> insert(Flux<Price> prices) {
+        return prices.buffer(INSERT_BATCH_SIZE)
+                .concatMap(this::insert)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> insert(List<Price> prices) {
+        return databaseClient.inConnection(connection -> {
+            Statement statement = connection.createStatement(INSERT_PRICE);
+            for (int i = 0; i < prices.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                Price price = prices.get(i);
+                statement.bind(0, price.id())
+                        .bind(1, price.brandId())
+                        .bind(2, price.startDate())
+                        .bind(3, price.endDate())
+                        .bind(4, price.priceList())
+                        .bind(5, price.productId())
+                        .bind(6, price.priority())
+                        .bind(7, price.price())
+                        .bind(8, price.currency());
+            }
+            return Flux.from(statement.execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .reduce(0L, Long::sum);
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps every {@link PriceShard} consistent with the primary {@code PRICES} table.
+ *
+ * <p>The primary store stays the single place prices are written to (sample data, generator,
+ * imports, replacements); the shards are derived from it like the timeline and the snapshot. A full
+ * reload scans the primary once and fans its rows out, each shard copying only the keys routed to it
+ * in one transaction per shard, and a keyed change re-copies only those keys. Runs before any other catalog listener, so watchers and caches notified after it
+ * read the new prices.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PriceShardReplicator implements PriceCatalogListener {
+
+    private final PriceShards shards;
+    private final R2dbcPriceRepository r2dbcRepository;
+    private final PriceEntityMapper mapper;
+
+    @Override
+    public Mono<Void> onCatalogChanged(PriceCatalogChangedEvent event) {
+        return event.fullReload() ? replicateAll() : replicateKeys(event.keys());
+    }
+
+    // A single scan of the primary is shared by every shard, each keeping the rows it owns in its own
+    // transaction; the slowest shard paces the scan, so rows are never buffered past the prefetch
+    private Mono<Void> replicateAll() {
+        List<PriceShard> all = shards.all();
+        Flux<Price> primary = r2dbcRepository.findAll()
+                .map(mapper::toDomain)
+                .publish()
+                .autoConnect(all.size());
+
+        return Flux.fromIterable(all)
+                .concatMap(PriceShard::initialize)
+                .thenMany(Flux.fromIterable(all)
+                        .flatMap(shard -> {
+                            long started = System.nanoTime();
+                            return shard.replaceAll(primary.filter(price -> shards.route(PriceKey.of(price)) == shard))
+                                    .doOnNext(rows -> log.info("Price shard replicated - shard: {}, rows: {}, took: {} ms",
+                                            shard.index(), rows, (System.nanoTime() - started) / 1_000_000));
+                        }, all.size()))
+                .then();
+    }
+
+    private Mono<Void> replicateKeys(Set<PriceKey> keys) {
+        Map<PriceShard, List<PriceKey>> byShard = keys.stream()
+                .collect(Collectors.groupingBy(shards::route, LinkedHashMap::new, Collectors.toList()));
+
+        return Flux.fromIterable(byShard.entrySet())
+                .concatMap(shard -> shard.getKey().replaceKeys(shard.getValue(), key -> r2dbcRepository
+                                .findByProductIdAndBrandId(key.productId(), key.brandId())
+                                .map(mapper::toDomain))
+                        .doOnNext(rows -> log.debug("Price shard keys replicated - shard: {}, keys: {}, rows: {}",
+                                shard.getKey().index(), shard.getValue().size(), rows)))
+                .then();
+    }
+}
@@ -0,0 +1,53 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the brand-sharded lookup databases ({@code pricing.sharding.*}).
+ *
+ * @param enabled whether lookups of the R2DBC repository are routed to the shards
+ * @param strategy how a product and brand are mapped to a shard
+ * @param urls R2DBC URL of every shard, credentials included; the position in the list is the shard index
+ * @param poolInitialSize connections opened per shard at startup
+ * @param poolMaxSize maximum connections per shard
+ * @param poolMaxIdleTime time after which an idle shard connection is closed
+ */
+@ConfigurationProperties(prefix = "pricing.sharding")
+public record PriceShardingProperties(
+        boolean enabled,
+        Strategy strategy,
+        List<String> urls,
+        int poolInitialSize,
+        int poolMaxSize,
+        Duration poolMaxIdleTime
+) {
+    public PriceShardingProperties {
+        if (strategy == null) {
+            strategy = Strategy.BRAND;
+        }
+        urls = urls == null ? List.of() : List.copyOf(urls);
+        if (poolMaxSize <= 0) {
+            poolMaxSize = 10;
+        }
+        if (poolInitialSize <= 0 || poolInitialSize > poolMaxSize) {
+            poolInitialSize = Math.min(2, poolMaxSize);
+        }
+        if (poolMaxIdleTime == null) {
+            poolMaxIdleTime = Duration.ofMinutes(30);
+        }
+    }
+
+    public enum Strategy {
+        /**
+         * All products of a brand live on the same shard.
+         */
+        BRAND,
+        /**
+         * Products of a brand are spread over the shards, for brands too large for one database.
+         */
+        BRAND_PRODUCT
+    }
+}
@@ -0,0 +1,79 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShardingProperties.Strategy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Routes every product and brand to one of several {@link PriceShard}s.
+ *
+ * <p>A key always maps to the same shard for a given strategy and shard count, so all prices
+ * competing for a lookup are stored, and resolved, together. Batches are split per shard, sent to
+ * every involved shard concurrently and their results merged.
+ */
+@Slf4j
+public class PriceShards implements AutoCloseable {
+
+    private final List<PriceShard> shards;
+    private final Strategy strategy;
+
+    public PriceShards(List<PriceShard> shards, Strategy strategy) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.strategy = strategy;
+    }
+
+    public PriceShard route(long productId, long brandId) {
+        long hash = strategy == Strategy.BRAND ? mix(brandId) : mix(mix(brandId) + productId);
+        return shards.get((int) Math.floorMod(hash, (long) shards.size()));
+    }
+
+    public PriceShard route(PriceKey key) {
+        return route(key.productId(), key.brandId());
+    }
+
+    public List<PriceShard> all() {
+        return shards;
+    }
+
+    /**
+     * Resolves a batch with one statement per shard holding any of its keys.
+     */
+    public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+        Map<PriceShard, List<PriceQuery>> byShard = queries.stream()
+                .collect(Collectors.groupingBy(query -> route(query.productId(), query.brandId()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        log.debug("Fanning out batch price query - queries: {}, shards: {}", queries.size(), byShard.size());
+
+        return Flux.fromIterable(byShard.entrySet())
+                .flatMap(shard -> shard.getKey().batchLookup().fromPrices(shard.getValue()))
+                .collect(HashMap::new, Map::putAll);
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(PriceShard::close);
+    }
+
+    // Finalizer of SplitMix64, so that consecutive identifiers spread evenly over the shards
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,204 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot.PriceSnapshotFormat.Column;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only price catalog served straight from a memory-mapped snapshot file.
+ *
+ * <p>Columns stay in the page cache rather than on the heap: a lookup binary-searches the sorted
+ * (product, brand) columns, scans only the rows of that key and materializes a {@link CompactPrice}
+ * for the winner alone, copying the columns as they are. Heap usage and GC work are therefore independent of the catalog size, and
+ * opening a snapshot costs a header read regardless of how many rows it holds.
+ *
+ * <p>Instances are immutable and safe to share between threads; a new catalog is opened to pick up
+ * a new file. The mapping is released once the instance is garbage collected.
+ */
+public final class MappedPriceCatalog {
+
+    private static final MappedPriceCatalog EMPTY = new MappedPriceCatalog(ByteBuffer.allocate(PriceSnapshotFormat.HEADER_BYTES),
+            0, new String[0]);
+
+    private final int rows;
+    private final LongBuffer productIds;
+    private final LongBuffer brandIds;
+    private final LongBuffer starts;
+    private final LongBuffer ends;
+    private final LongBuffer ids;
+    private final LongBuffer prices;
+    private final IntBuffer priceLists;
+    private final IntBuffer priorities;
+    private final ShortBuffer currencyCodes;
+    private final String[] currencies;
+
+    private MappedPriceCatalog(ByteBuffer buffer, int rows, String[] currencies) {
+        this.rows = rows;
+        this.productIds = column(buffer, Column.PRODUCT_ID).asLongBuffer();
+        this.brandIds = column(buffer, Column.BRAND_ID).asLongBuffer();
+        this.starts = column(buffer, Column.START).asLongBuffer();
+        this.ends = column(buffer, Column.END).asLongBuffer();
+        this.ids = column(buffer, Column.ID).asLongBuffer();
+        this.prices = column(buffer, Column.PRICE).asLongBuffer();
+        this.priceLists = column(buffer, Column.PRICE_LIST).asIntBuffer();
+        this.priorities = column(buffer, Column.PRIORITY).asIntBuffer();
+        this.currencyCodes = column(buffer, Column.CURRENCY).asShortBuffer();
+        this.currencies = currencies;
+    }
+
+    public static MappedPriceCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Maps the given snapshot file, validating its header.
+     *
+     * @throws IllegalArgumentException when the file is not a snapshot of a supported version
+     */
+    public static MappedPriceCatalog open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < PriceSnapshotFormat.HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Not a price snapshot: " + file);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != PriceSnapshotFormat.MAGIC || buffer.getInt(4) != PriceSnapshotFormat.VERSION
+                    || buffer.getInt(PriceSnapshotFormat.PRICE_SCALE_OFFSET) != PriceSnapshotFormat.PRICE_SCALE) {
+                throw new IllegalArgumentException("Not a price snapshot of version " + PriceSnapshotFormat.VERSION + ": " + file);
+            }
+            long rows = buffer.getLong(PriceSnapshotFormat.ROWS_OFFSET);
+            long dictionaryOffset = buffer.getLong(PriceSnapshotFormat.DICTIONARY_OFFSET_OFFSET);
+            if (rows < 0 || rows > PriceSnapshotFormat.maxRows()
+                    || dictionaryOffset != PriceSnapshotFormat.dictionaryOffset(rows) || dictionaryOffset > channel.size()) {
+                throw new IllegalArgumentException("Truncated price snapshot: " + file);
+            }
+            return new MappedPriceCatalog(buffer, (int) rows, readDictionary(buffer,
+                    (int) dictionaryOffset, buffer.getInt(PriceSnapshotFormat.CURRENCY_COUNT_OFFSET)));
+        }
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * Returns the price applicable at the given instant: the highest priority among the prices of
+     * the key whose inclusive period contains it, then the lowest id; {@code null} when none applies.
+     *
+     * <p>The result is valid until the winner ends or a price taking precedence over it starts,
+     * whichever comes first.
+     */
+    public ApplicablePrice find(long productId, long brandId, LocalDateTime applicationDate) {
+        long second = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        boolean wholeSecond = applicationDate.getNano() == 0;
+
+        int first = firstRow(productId, brandId);
+        int winner = -1;
+        for (int row = first; isKey(row, productId, brandId); row++) {
+            if (starts.get(row) > second) {
+                break;
+            }
+            long end = ends.get(row);
+            if (second < end || (second == end && wholeSecond)) {
+                if (winner < 0 || precedes(row, winner)) {
+                    winner = row;
+                }
+            }
+        }
+        if (winner < 0) {
+            return null;
+        }
+
+        // Rows are sorted by start, so the first later row taking precedence is the one that starts first
+        long end = ends.get(winner);
+        LocalDateTime validUntil = LocalDateTime.ofEpochSecond(end, 1, ZoneOffset.UTC);
+        for (int row = first; isKey(row, productId, brandId) && starts.get(row) <= end; row++) {
+            if (starts.get(row) > second && precedes(row, winner)) {
+                validUntil = LocalDateTime.ofEpochSecond(starts.get(row), 0, ZoneOffset.UTC);
+                break;
+            }
+        }
+        return new ApplicablePrice(compact(winner), validUntil);
+    }
+
+    /**
+     * Returns every price of the key, ordered by start date.
+     */
+    public List<Price> prices(long productId, long brandId) {
+        List<Price> found = new ArrayList<>();
+        for (int row = firstRow(productId, brandId); isKey(row, productId, brandId); row++) {
+            found.add(compact(row).toPrice());
+        }
+        return found;
+    }
+
+    // Lower bound of (productId, brandId) in the sorted key columns
+    private int firstRow(long productId, long brandId) {
+        int low = 0;
+        int high = rows;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long product = productIds.get(mid);
+            if (product < productId || (product == productId && brandIds.get(mid) < brandId)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean precedes(int row, int other) {
+        int priority = priorities.get(row);
+        int otherPriority = priorities.get(other);
+        return priority > otherPriority || (priority == otherPriority && ids.get(row) < ids.get(other));
+    }
+
+    private boolean isKey(int row, long productId, long brandId) {
+        return row < rows && productIds.get(row) == productId && brandIds.get(row) == brandId;
+    }
+
+    private CompactPrice compact(int row) {
+        return new CompactPrice(
+                ids.get(row),
+                brandIds.get(row),
+                productIds.get(row),
+                priceLists.get(row),
+                starts.get(row),
+                ends.get(row),
+                prices.get(row),
+                currencies[currencyCodes.get(row)],
+                priorities.get(row));
+    }
+
+    private ByteBuffer column(ByteBuffer buffer, Column column) {
+        return buffer.slice((int) column.offset(rows), column.width * rows);
+    }
+
+    private static String[] readDictionary(ByteBuffer buffer, int offset, int count) {
+        String[] codes = new String[count];
+        int position = offset;
+        for (int i = 0; i < count; i++) {
+            int length = buffer.get(position++);
+            byte[] code = new byte[length];
+            buffer.get(position, code);
+            position += length;
+            codes[i] = new String(code, StandardCharsets.US_ASCII);
+        }
+        return codes;
+    }
+}
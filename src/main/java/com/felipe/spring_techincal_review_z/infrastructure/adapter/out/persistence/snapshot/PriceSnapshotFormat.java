@@ -0,0 +1,86 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot;
+
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+
+/**
+ * Layout of the columnar price snapshot file.
+ *
+ * <p>A fixed {@value #HEADER_BYTES}-byte header is followed by one contiguous column per field, each
+ * holding {@code rows} big-endian values, and by the currency dictionary:
+ * <pre>
+ * header     magic, version, rows, price scale, currency count, dictionary offset
+ * columns    PRODUCT_ID, BRAND_ID, START, END, ID, PRICE (long) | PRICE_LIST, PRIORITY (int) | CURRENCY (short)
+ * dictionary per currency code: length byte + ASCII bytes, indexed by the CURRENCY column
+ * </pre>
+ * Rows are sorted by (product, brand, start). Dates are UTC epoch seconds and prices are unscaled
+ * values at {@value #PRICE_SCALE} decimals. Longs come first so every column stays naturally aligned.
+ */
+final class PriceSnapshotFormat {
+
+    static final int MAGIC = 0x50524353; // "PRCS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int PRICE_SCALE = CompactPrice.PRICE_SCALE;
+
+    static final int ROWS_OFFSET = 8;
+    static final int PRICE_SCALE_OFFSET = 16;
+    static final int CURRENCY_COUNT_OFFSET = 20;
+    static final int DICTIONARY_OFFSET_OFFSET = 24;
+
+    static final int MAX_CURRENCIES = Short.MAX_VALUE;
+    static final int MAX_DICTIONARY_BYTES = MAX_CURRENCIES * (1 + Byte.MAX_VALUE);
+
+    /**
+     * Columns in file order with the width of one value.
+     */
+    enum Column {
+        PRODUCT_ID(Long.BYTES),
+        BRAND_ID(Long.BYTES),
+        START(Long.BYTES),
+        END(Long.BYTES),
+        ID(Long.BYTES),
+        PRICE(Long.BYTES),
+        PRICE_LIST(Integer.BYTES),
+        PRIORITY(Integer.BYTES),
+        CURRENCY(Short.BYTES);
+
+        final int width;
+
+        Column(int width) {
+            this.width = width;
+        }
+
+        long offset(long rows) {
+            long offset = HEADER_BYTES;
+            for (Column column : values()) {
+                if (column == this) {
+                    return offset;
+                }
+                offset += column.width * rows;
+            }
+            throw new IllegalStateException("Unreachable");
+        }
+    }
+
+    static final int ROW_BYTES = rowBytes();
+
+    static long dictionaryOffset(long rows) {
+        return HEADER_BYTES + ROW_BYTES * rows;
+    }
+
+    // A single MappedByteBuffer addresses at most Integer.MAX_VALUE bytes
+    static long maxRows() {
+        return (Integer.MAX_VALUE - HEADER_BYTES - MAX_DICTIONARY_BYTES) / ROW_BYTES;
+    }
+
+    private static int rowBytes() {
+        int bytes = 0;
+        for (Column column : Column.values()) {
+            bytes += column.width;
+        }
+        return bytes;
+    }
+
+    private PriceSnapshotFormat() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of the memory-mapped price snapshot ({@code pricing.snapshot.*}).
+ *
+ * @param file snapshot served by {@code pricing.repository.type=mapped}, rewritten on every catalog change
+ */
+@ConfigurationProperties(prefix = "pricing.snapshot")
+public record PriceSnapshotProperties(
+        Path file
+) {
+    public PriceSnapshotProperties {
+        if (file == null) {
+            file = Path.of("data", "prices.snapshot");
+        }
+    }
+}
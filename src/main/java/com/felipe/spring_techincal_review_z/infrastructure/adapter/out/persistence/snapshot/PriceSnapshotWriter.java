@@ -0,0 +1,163 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot;
+
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot.PriceSnapshotFormat.Column;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes a price snapshot file of a known number of rows, appended in (product, brand, start) order.
+ *
+ * <p>Rows go straight into a memory-mapped temporary file next to the target, so memory stays flat
+ * whatever the catalog size. {@link #commit()} completes the file and atomically moves it over the
+ * target; readers that still map the previous file keep a valid view of it. Closing without
+ * committing discards the temporary file.
+ */
+public final class PriceSnapshotWriter implements Closeable {
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final MappedByteBuffer columns;
+    private final long rows;
+    private final long[] columnOffsets = new long[Column.values().length];
+    private final Map<String, Short> currencies = new LinkedHashMap<>();
+
+    private int written;
+    private long lastProductId = Long.MIN_VALUE;
+    private long lastBrandId = Long.MIN_VALUE;
+    private long lastStart = Long.MIN_VALUE;
+    private boolean committed;
+
+    private PriceSnapshotWriter(Path target, Path temporary, FileChannel channel, long rows) throws IOException {
+        this.target = target;
+        this.temporary = temporary;
+        this.channel = channel;
+        this.rows = rows;
+        this.columns = channel.map(FileChannel.MapMode.READ_WRITE, 0, PriceSnapshotFormat.dictionaryOffset(rows));
+        for (Column column : Column.values()) {
+            columnOffsets[column.ordinal()] = column.offset(rows);
+        }
+    }
+
+    public static PriceSnapshotWriter open(Path target, long rows) throws IOException {
+        if (rows < 0 || rows > PriceSnapshotFormat.maxRows()) {
+            throw new IllegalArgumentException("Snapshot row count must be between 0 and "
+                    + PriceSnapshotFormat.maxRows() + ", got: " + rows);
+        }
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new PriceSnapshotWriter(target, temporary, channel, rows);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    public void append(Price price) {
+        if (written == rows) {
+            throw new IllegalStateException("Snapshot already holds the expected " + rows + " rows");
+        }
+        long start = price.startDate().toEpochSecond(ZoneOffset.UTC);
+        if (compare(price.productId(), price.brandId(), start) < 0) {
+            throw new IllegalArgumentException("Snapshot rows must be sorted by product, brand and start date");
+        }
+        lastProductId = price.productId();
+        lastBrandId = price.brandId();
+        lastStart = start;
+
+        int row = written++;
+        putLong(Column.PRODUCT_ID, row, price.productId());
+        putLong(Column.BRAND_ID, row, price.brandId());
+        putLong(Column.START, row, start);
+        putLong(Column.END, row, price.endDate().toEpochSecond(ZoneOffset.UTC));
+        putLong(Column.ID, row, price.id());
+        putLong(Column.PRICE, row, CompactPrice.toMinor(price.price()));
+        columns.putInt(offset(Column.PRICE_LIST, row), price.priceList());
+        columns.putInt(offset(Column.PRIORITY, row), price.priority());
+        columns.putShort(offset(Column.CURRENCY, row), currencyCode(price.currency()));
+    }
+
+    /**
+     * Completes the file and moves it over the target, returning the number of rows written.
+     */
+    public long commit() throws IOException {
+        if (written != rows) {
+            throw new IllegalStateException("Snapshot expected " + rows + " rows but got " + written);
+        }
+        long dictionaryOffset = PriceSnapshotFormat.dictionaryOffset(rows);
+        columns.putInt(0, PriceSnapshotFormat.MAGIC)
+                .putInt(4, PriceSnapshotFormat.VERSION)
+                .putLong(PriceSnapshotFormat.ROWS_OFFSET, rows)
+                .putInt(PriceSnapshotFormat.PRICE_SCALE_OFFSET, PriceSnapshotFormat.PRICE_SCALE)
+                .putInt(PriceSnapshotFormat.CURRENCY_COUNT_OFFSET, currencies.size())
+                .putLong(PriceSnapshotFormat.DICTIONARY_OFFSET_OFFSET, dictionaryOffset);
+        columns.force();
+
+        ByteBuffer dictionary = ByteBuffer.allocate(currencies.keySet().stream().mapToInt(code -> 1 + code.length()).sum());
+        for (String code : currencies.keySet()) {
+            dictionary.put((byte) code.length()).put(code.getBytes(StandardCharsets.US_ASCII));
+        }
+        channel.write(dictionary.flip(), dictionaryOffset);
+        channel.force(true);
+        channel.close();
+
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private int compare(long productId, long brandId, long start) {
+        int byProduct = Long.compare(productId, lastProductId);
+        if (byProduct != 0) {
+            return byProduct;
+        }
+        int byBrand = Long.compare(brandId, lastBrandId);
+        return byBrand != 0 ? byBrand : Long.compare(start, lastStart);
+    }
+
+    private short currencyCode(String currency) {
+        Short code = currencies.get(currency);
+        if (code == null) {
+            if (currencies.size() == PriceSnapshotFormat.MAX_CURRENCIES) {
+                throw new IllegalStateException("Snapshot supports at most " + PriceSnapshotFormat.MAX_CURRENCIES + " currencies");
+            }
+            code = (short) currencies.size();
+            currencies.put(currency, code);
+        }
+        return code;
+    }
+
+    private void putLong(Column column, int row, long value) {
+        columns.putLong(offset(column, row), value);
+    }
+
+    private int offset(Column column, int row) {
+        return (int) (columnOffsets[column.ordinal()] + (long) column.width * row);
+    }
+}
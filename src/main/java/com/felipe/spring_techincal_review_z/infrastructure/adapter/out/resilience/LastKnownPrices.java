@@ -0,0 +1,94 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Last prices each product and brand was successfully looked up with, to stand in for the catalog
+ * while it cannot be read.
+ *
+ * <p>Every result is kept under the interval it is known to answer: from the instant it was looked
+ * up at to its {@code validUntil}. Instants before the look-up are not covered even when the price
+ * started earlier, since a price taking precedence may have applied then. A result replaces the
+ * known ones whose interval it overlaps, which a catalog change may have made wrong, and each
+ * interval is dropped once older than the maximum staleness.
+ */
+public class LastKnownPrices {
+
+    static final int MAX_INTERVALS_PER_KEY = 8;
+
+    private final Cache<PriceKey, NavigableMap<LocalDateTime, Known>> prices;
+    private final long maxStalenessNanos;
+
+    public LastKnownPrices(long maximumSize, Duration maxStaleness, MeterRegistry meterRegistry, String name) {
+        this.prices = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(maxStaleness)
+                .recordStats()
+                .build();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        CaffeineCacheMetrics.monitor(meterRegistry, prices, name, List.of());
+    }
+
+    /**
+     * Remembers the result of a lookup at {@code applicationDate}.
+     */
+    public void put(PriceKey key, LocalDateTime applicationDate, ApplicablePrice applicable) {
+        long now = System.nanoTime();
+        prices.asMap().compute(key, (ignored, known) -> {
+            NavigableMap<LocalDateTime, Known> intervals = known == null ? new TreeMap<>() : new TreeMap<>(known);
+            intervals.entrySet().removeIf(interval -> expired(interval.getValue(), now)
+                    || (interval.getKey().isBefore(applicable.validUntil())
+                    && applicationDate.isBefore(interval.getValue().applicable().validUntil())));
+            intervals.put(applicationDate, new Known(applicable, now));
+            while (intervals.size() > MAX_INTERVALS_PER_KEY) {
+                intervals.pollFirstEntry();
+            }
+            return Collections.unmodifiableNavigableMap(intervals);
+        });
+    }
+
+    /**
+     * Returns the last known price of the key if one of its intervals covers the instant, or {@code null}.
+     */
+    public ApplicablePrice find(PriceKey key, LocalDateTime applicationDate) {
+        NavigableMap<LocalDateTime, Known> intervals = prices.getIfPresent(key);
+        if (intervals == null) {
+            return null;
+        }
+        Map.Entry<LocalDateTime, Known> interval = intervals.floorEntry(applicationDate);
+        if (interval == null
+                || !applicationDate.isBefore(interval.getValue().applicable().validUntil())
+                || expired(interval.getValue(), System.nanoTime())) {
+            return null;
+        }
+        return interval.getValue().applicable();
+    }
+
+    public void invalidate(PriceKey key) {
+        prices.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        prices.invalidateAll();
+    }
+
+    private boolean expired(Known known, long now) {
+        return now - known.storedNanos() >= maxStalenessNanos;
+    }
+
+    private record Known(ApplicablePrice applicable, long storedNanos) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the protected single lookup ({@code pricing.resilience.*}).
+ *
+ * <p>The timeout, bulkhead and circuit breaker themselves are the {@code priceLookup} instances
+ * under {@code resilience4j.*}.
+ *
+ * @param enabled whether single lookups go through the timeout, bulkhead and circuit breaker
+ * @param lastKnownMaximumSize maximum number of product/brand pairs whose last price is kept
+ * @param maxStaleness time after which a last known price is not served any more
+ * @param refreshTimeout time a lookup may keep running in the background after its caller got a fallback
+ * @param retryAfter {@code Retry-After} sent when no last known price can stand in
+ */
+@ConfigurationProperties(prefix = "pricing.resilience")
+public record LookupResilienceProperties(
+        boolean enabled,
+        long lastKnownMaximumSize,
+        Duration maxStaleness,
+        Duration refreshTimeout,
+        Duration retryAfter
+) {
+    public LookupResilienceProperties {
+        if (lastKnownMaximumSize <= 0) {
+            lastKnownMaximumSize = 100_000;
+        }
+        if (maxStaleness == null) {
+            maxStaleness = Duration.ofHours(1);
+        }
+        if (refreshTimeout == null) {
+            refreshTimeout = Duration.ofSeconds(10);
+        }
+        if (retryAfter == null) {
+            retryAfter = Duration.ofSeconds(1);
+        }
+    }
+}
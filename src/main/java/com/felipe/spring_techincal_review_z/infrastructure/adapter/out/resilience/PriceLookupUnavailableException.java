@@ -0,0 +1,21 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience;
+
+import java.time.Duration;
+
+/**
+ * Raised when a single lookup could not be answered in time, or was refused to protect the
+ * database, and no last known price could stand in.
+ */
+public class PriceLookupUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PriceLookupUnavailableException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,156 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decorator protecting single lookups with a bulkhead, a circuit breaker and a timeout, and falling
+ * back to {@link LastKnownPrices} when they trip.
+ *
+ * <p>A lookup first takes a bulkhead and a circuit breaker permission without waiting; when either
+ * is refused, the caller is answered straight away. Otherwise the delegate query starts, and the
+ * caller waits for it up to the time limiter timeout. A query outliving its caller is not
+ * cancelled: it keeps running for up to {@code refreshTimeout}, still holding its permits, and
+ * refreshes the last known price when it completes. Its outcome and duration, not the caller's
+ * wait, feed the circuit breaker, so slow-call thresholds see how slow the database really is.
+ *
+ * <p>A caller that cannot be answered by the delegate gets the last known price of its key marked
+ * {@link ApplicablePrice#stale() stale} or, when there is none covering its instant, a
+ * {@link PriceLookupUnavailableException}. Batches and timelines go straight to the delegate.
+ */
+@Slf4j
+public class ResilientPriceRepository implements PriceRepository {
+
+    public static final String FALLBACK_METRIC = "pricing.lookup.fallback";
+
+    private final PriceRepository delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final LastKnownPrices lastKnown;
+    private final Duration refreshTimeout;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+
+    public ResilientPriceRepository(PriceRepository delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                                    TimeLimiter timeLimiter, LastKnownPrices lastKnown,
+                                    LookupResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.timeLimiter = timeLimiter;
+        this.lastKnown = lastKnown;
+        this.refreshTimeout = properties.refreshTimeout();
+        this.retryAfter = properties.retryAfter();
+        this.meterRegistry = meterRegistry;
+        // One line per state change instead of one per refused lookup; the rest is in the metrics
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Price lookup circuit breaker - transition: {}", event.getStateTransition()));
+    }
+
+    @Override
+    public Mono<ApplicablePrice> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PriceKey key = new PriceKey(productId, brandId);
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquirePermission()) {
+                return fallback(key, applicationDate, BulkheadFullException.createBulkheadFullException(bulkhead));
+            }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                bulkhead.onComplete();
+                return fallback(key, applicationDate, CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            CompletableFuture<ApplicablePrice> query = query(key, applicationDate);
+            return Mono.fromFuture(query, true)
+                    .timeout(timeLimiter.getTimeLimiterConfig().getTimeoutDuration())
+                    .doOnSuccess(found -> timeLimiter.onSuccess())
+                    .onErrorResume(error -> {
+                        timeLimiter.onError(error);
+                        return fallback(key, applicationDate, error);
+                    });
+        });
+    }
+
+    // Runs detached from the caller, so that a timed out caller does not cancel it
+    private CompletableFuture<ApplicablePrice> query(PriceKey key, LocalDateTime applicationDate) {
+        long start = circuitBreaker.getCurrentTimestamp();
+        return delegate.findApplicablePrice(applicationDate, key.productId(), key.brandId())
+                .timeout(refreshTimeout)
+                .doOnNext(found -> lastKnown.put(key, applicationDate, found))
+                .doOnSuccess(found -> circuitBreaker.onSuccess(elapsed(start), circuitBreaker.getTimestampUnit()))
+                .doOnError(error -> circuitBreaker.onError(elapsed(start), circuitBreaker.getTimestampUnit(), error))
+                .doOnCancel(circuitBreaker::releasePermission)
+                .doFinally(signal -> bulkhead.onComplete())
+                .toFuture();
+    }
+
+    private Mono<ApplicablePrice> fallback(PriceKey key, LocalDateTime applicationDate, Throwable error) {
+        String cause = cause(error);
+        ApplicablePrice known = lastKnown.find(key, applicationDate);
+        if (known != null) {
+            fallbacks(cause, "stale").increment();
+            log.debug("Serving last known price - productId: {}, brandId: {}, cause: {}",
+                    key.productId(), key.brandId(), cause);
+            return Mono.just(known.asStale());
+        }
+        fallbacks(cause, "unavailable").increment();
+        log.debug("Price lookup unavailable - productId: {}, brandId: {}, cause: {}, error: {}",
+                key.productId(), key.brandId(), cause, error.getMessage());
+        return Mono.error(new PriceLookupUnavailableException(
+                "Price lookup unavailable (" + cause + "), retry later", retryAfter, error));
+    }
+
+    private long elapsed(long start) {
+        return circuitBreaker.getCurrentTimestamp() - start;
+    }
+
+    private Counter fallbacks(String cause, String result) {
+        return Counter.builder(FALLBACK_METRIC)
+                .description("Single lookups the delegate could not answer, by cause and by how they were answered")
+                .tag("cause", cause)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String cause(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (error instanceof CallNotPermittedException) {
+            return "circuit-open";
+        }
+        if (error instanceof BulkheadFullException) {
+            return "bulkhead-full";
+        }
+        return "error";
+    }
+
+    @Override
+    public Mono<Map<PriceQuery, Price>> findApplicablePrices(Collection<PriceQuery> queries) {
+        return delegate.findApplicablePrices(queries);
+    }
+
+    @Override
+    public Mono<PriceTimeline> findTimeline(Long productId, Long brandId) {
+        return delegate.findTimeline(productId, brandId);
+    }
+}
@@ -4,24 +4,32 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+
 /**
  * Logging aspect for domain services.
  * Keeps logging concerns out of the domain layer.
+ *
+ * <p>Opt-in with {@code pricing.logging.service-aspect.enabled=true}; when off the bean does not
+ * exist and domain services are not wrapped at all. Request-level logging is the access log.
  */
 @Slf4j
 @Aspect
 @Component
+@ConditionalOnProperty(prefix = "pricing.logging.service-aspect", name = "enabled", havingValue = "true")
 public class LoggingAspect {
 
     @Around("execution(* com.felipe.spring_techincal_review_z.domain.service..*(..))")
     public Object logServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
         String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
 
-        log.debug("Executing domain service method: {} with args: {}", methodName, args);
+        if (log.isDebugEnabled()) {
+            log.debug("Executing domain service method: {} with args: {}", methodName, Arrays.toString(joinPoint.getArgs()));
+        }
 
         try {
             Object result = joinPoint.proceed();
@@ -41,4 +49,4 @@ public class LoggingAspect {
             throw e;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.felipe.spring_techincal_review_z.infrastructure.aspect;
+
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times single price lookups at the use case boundary.
+ * Keeps metrics concerns out of the domain layer.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class PriceLookupMetricsAspect {
+
+    private final PriceLookupMetrics metrics;
+
+    @Around("execution(* com.felipe.spring_techincal_review_z.domain.port.in.GetApplicablePriceUseCase.getApplicablePrice(..)) && args(applicationDate, productId, brandId)")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint, Object applicationDate, Long productId, Long brandId)
+            throws Throwable {
+        if (!Mono.class.isAssignableFrom(((MethodSignature) joinPoint.getSignature()).getReturnType())) {
+            return joinPoint.proceed();
+        }
+        // Proceeding on subscription turns exceptions thrown while assembling the lookup into timed errors
+        Mono<?> lookup = Mono.defer(() -> {
+            try {
+                return (Mono<?>) joinPoint.proceed();
+            } catch (Throwable error) {
+                return Mono.error(error);
+            }
+        });
+        return metrics.time(PriceLookupMetrics.Stage.USE_CASE, brandId, lookup);
+    }
+}
@@ -0,0 +1,75 @@
+package com.felipe.spring_techincal_review_z.infrastructure.bootstrap;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Shape of the synthetic catalog seeded at startup ({@code pricing.generator.*}).
+ *
+ * @param enabled whether the generator runs after the sample data is loaded
+ * @param brands number of brands, numbered from 1
+ * @param productsPerBrand number of products priced under every brand
+ * @param priceListsPerProduct price lists per product and brand; the first one is a base rate spanning the horizon
+ * @param overlapDensity mean share of the horizon covered by each additional price list, in (0, 1]
+ * @param maxPriority highest priority assigned to an additional price list
+ * @param prioritySkew exponent applied to the priority draw; 1 is uniform, larger values favour low priorities
+ * @param firstProductId identifier of the first generated product, kept clear of the sample data
+ * @param start first instant of the priced horizon
+ * @param horizon length of the priced horizon
+ * @param batchSize rows per insert statement
+ * @param seed random seed, so the same settings always produce the same catalog
+ */
+@ConfigurationProperties(prefix = "pricing.generator")
+public record CatalogGeneratorProperties(
+        boolean enabled,
+        int brands,
+        int productsPerBrand,
+        int priceListsPerProduct,
+        double overlapDensity,
+        int maxPriority,
+        double prioritySkew,
+        long firstProductId,
+        LocalDateTime start,
+        Duration horizon,
+        int batchSize,
+        long seed
+) {
+    public CatalogGeneratorProperties {
+        if (brands <= 0) {
+            brands = 5;
+        }
+        if (productsPerBrand <= 0) {
+            productsPerBrand = 20_000;
+        }
+        if (priceListsPerProduct <= 0) {
+            priceListsPerProduct = 4;
+        }
+        if (overlapDensity <= 0 || overlapDensity > 1) {
+            overlapDensity = 0.25;
+        }
+        if (maxPriority <= 0) {
+            maxPriority = 3;
+        }
+        if (prioritySkew <= 0) {
+            prioritySkew = 2.0;
+        }
+        if (firstProductId <= 0) {
+            firstProductId = 1_000_000;
+        }
+        if (start == null) {
+            start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        }
+        if (horizon == null || horizon.isZero() || horizon.isNegative()) {
+            horizon = Duration.ofDays(365);
+        }
+        if (batchSize <= 0) {
+            batchSize = 1_000;
+        }
+    }
+
+    public long totalRows() {
+        return (long) brands * productsPerBrand * priceListsPerProduct;
+    }
+}
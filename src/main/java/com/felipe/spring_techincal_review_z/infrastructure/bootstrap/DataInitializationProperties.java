@@ -0,0 +1,30 @@
+package com.felipe.spring_techincal_review_z.infrastructure.bootstrap;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * How the database is initialized at startup ({@code pricing.initialization.*}).
+ *
+ * @param mode whether the catalog is reloaded on every start or reseeded only when it changed
+ */
+@ConfigurationProperties(prefix = "pricing.initialization")
+public record DataInitializationProperties(Mode mode) {
+
+    public DataInitializationProperties {
+        if (mode == null) {
+            mode = Mode.ALWAYS;
+        }
+    }
+
+    public enum Mode {
+        /**
+         * Reloads the whole catalog on every start, as an in-memory store requires.
+         */
+        ALWAYS,
+        /**
+         * Reseeds the catalog only when its checksum differs from the one recorded in {@code STORE_VERSION},
+         * and then replaces the seeded rows alone, so a persistent store keeps its imported prices.
+         */
+        INCREMENTAL
+    }
+}
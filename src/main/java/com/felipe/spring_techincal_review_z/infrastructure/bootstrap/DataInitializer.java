@@ -1,38 +1,131 @@
 package com.felipe.spring_techincal_review_z.infrastructure.bootstrap;
 
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.DataInitializationProperties.Mode;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogEvents;
 import io.r2dbc.spi.ConnectionFactory;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
- * Initializes the H2 in-memory database with schema and sample data on application startup.
+ * Initializes the H2 database with schema and sample data on application startup.
+ * When enabled, the {@link SyntheticCatalogGenerator} then seeds a large catalog on top of it.
+ * Once loaded, derived read structures are rebuilt through {@link PriceCatalogEvents}.
+ *
+ * <p>The schema is brought up to date by the pending {@link SchemaMigrations} in either mode. In
+ * {@link Mode#INCREMENTAL} mode, meant for a file-backed store, the catalog (sample data plus
+ * generator settings) is a step whose checksum is kept in {@link StoreVersions}; it is reseeded only
+ * when its checksum changed, and then only the seeded rows are replaced, so imported prices survive
+ * both restarts and reseeds.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
+    static final String CATALOG_STEP = "catalog";
+
+    private static final ClassPathResource DATA = new ClassPathResource("data.sql");
+
     private final ConnectionFactory connectionFactory;
+    private final PriceCatalogEvents catalogEvents;
+    private final ObjectProvider<SyntheticCatalogGenerator> catalogGenerator;
+    private final DataInitializationProperties properties;
+    private final DatabaseClient databaseClient;
+    private final StoreVersions storeVersions;
+    private final SchemaMigrations schemaMigrations;
+
+    public DataInitializer(ConnectionFactory connectionFactory, PriceCatalogEvents catalogEvents,
+                           ObjectProvider<SyntheticCatalogGenerator> catalogGenerator,
+                           DataInitializationProperties properties) {
+        this.connectionFactory = connectionFactory;
+        this.catalogEvents = catalogEvents;
+        this.catalogGenerator = catalogGenerator;
+        this.properties = properties;
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.storeVersions = new StoreVersions(databaseClient);
+        this.schemaMigrations = new SchemaMigrations(connectionFactory);
+    }
 
     @Override
     public void run(String... args) {
-        log.info("Starting database initialization...");
-        
+        log.info("Starting database initialization - mode: {}", properties.mode());
+
         try {
-            ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
-            populator.addScript(new ClassPathResource("schema.sql"));
-            populator.addScript(new ClassPathResource("data.sql"));
-            
-            populator.populate(connectionFactory).block();
-            
-            log.info("Database initialization completed successfully - Schema and sample data loaded");
+            Mono<Void> catalog = properties.mode() == Mode.INCREMENTAL ? reseedIfChanged() : reloadAll();
+
+            schemaMigrations.migrate()
+                    .then(catalog)
+                    .then(catalogEvents.publish(PriceCatalogChangedEvent.all()))
+                    .block();
+
+            log.info("Database initialization completed successfully");
         } catch (Exception e) {
             log.error("Failed to initialize database: {}", e.getMessage(), e);
             throw new IllegalStateException("Database initialization failed", e);
         }
     }
-}
\ No newline at end of file
+
+    private Mono<Void> reloadAll() {
+        return databaseClient.sql("DELETE FROM PRICES").then()
+                .then(loadCatalog())
+                .doOnSuccess(ignored -> log.info("Sample data loaded"));
+    }
+
+    private Mono<Void> reseedIfChanged() {
+        String checksum = StoreVersions.checksum(List.of(read(DATA), generatorSettings()));
+
+        return storeVersions.applied().flatMap(applied -> {
+            if (checksum.equals(applied.get(CATALOG_STEP))) {
+                log.info("Seeded catalog up to date, skipped - checksum: {}", checksum);
+                return Mono.<Void>empty();
+            }
+            long started = System.nanoTime();
+            // Imported and replaced rows are not seeded, so they outlive the reseed.
+            // Recorded only once the load completed, so an interrupted load runs again on the next start
+            return databaseClient.sql("DELETE FROM PRICES WHERE SEEDED").then()
+                    .then(loadCatalog())
+                    .then(storeVersions.record(CATALOG_STEP, checksum))
+                    .doOnSuccess(ignored -> log.info("Seeded catalog reloaded - checksum: {}, took: {} ms",
+                            checksum, (System.nanoTime() - started) / 1_000_000));
+        });
+    }
+
+    private Mono<Void> loadCatalog() {
+        return populate(DATA).then(Mono.defer(this::generateCatalog)).then();
+    }
+
+    private Mono<Void> populate(ClassPathResource script) {
+        return new ResourceDatabasePopulator(script).populate(connectionFactory);
+    }
+
+    private Mono<Long> generateCatalog() {
+        SyntheticCatalogGenerator generator = catalogGenerator.getIfAvailable();
+        return generator == null ? Mono.empty() : generator.generate();
+    }
+
+    // The generator is seeded, so its settings identify the rows it writes
+    private byte[] generatorSettings() {
+        SyntheticCatalogGenerator generator = catalogGenerator.getIfAvailable();
+        String settings = generator == null ? "disabled" : generator.properties().toString();
+        return settings.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] read(ClassPathResource script) {
+        try {
+            return script.getContentAsByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + script.getPath(), e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.felipe.spring_techincal_review_z.infrastructure.bootstrap;
+
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ordered, versioned schema migrations, read from {@code db/migration/V<version>__<description>.sql}.
+ *
+ * <p>Every migration is applied once per store, in version order, and recorded with its checksum in
+ * {@link StoreVersions}; a migration already recorded is never run again. Changing the content of an
+ * applied migration fails the start instead of leaving the store behind the code: schema changes go
+ * into a new script.
+ */
+@Slf4j
+public class SchemaMigrations {
+
+    static final String LOCATION = "classpath:db/migration/V*__*.sql";
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+
+    private final ConnectionFactory connectionFactory;
+    private final StoreVersions storeVersions;
+    private final List<Migration> migrations;
+
+    public SchemaMigrations(ConnectionFactory connectionFactory) {
+        this(connectionFactory, LOCATION);
+    }
+
+    SchemaMigrations(ConnectionFactory connectionFactory, String location) {
+        this.connectionFactory = connectionFactory;
+        this.storeVersions = new StoreVersions(DatabaseClient.create(connectionFactory));
+        this.migrations = load(location);
+    }
+
+    /**
+     * Applies the migrations the store has not recorded yet, returning how many ran.
+     *
+     * @throws IllegalStateException (as an error signal) if a recorded migration no longer matches its script
+     */
+    public Mono<Integer> migrate() {
+        return storeVersions.applied().flatMap(applied -> {
+            List<Migration> pending = migrations.stream()
+                    .filter(migration -> !applied.containsKey(migration.step()))
+                    .toList();
+            return verify(applied)
+                    .thenMany(Flux.fromIterable(pending).concatMap(this::apply))
+                    .then(Mono.fromSupplier(pending::size));
+        });
+    }
+
+    private Mono<Void> verify(Map<String, String> applied) {
+        for (Migration migration : migrations) {
+            String recorded = applied.get(migration.step());
+            if (recorded != null && !recorded.equals(migration.checksum())) {
+                return Mono.error(new IllegalStateException("Migration " + migration.step()
+                        + " was changed after it was applied; add a new migration instead"));
+            }
+        }
+        return Mono.empty();
+    }
+
+    private Mono<Void> apply(Migration migration) {
+        long started = System.nanoTime();
+        // Recorded only once the script completed, so an interrupted migration runs again on the next start
+        return new ResourceDatabasePopulator(migration.script()).populate(connectionFactory)
+                .then(storeVersions.record(migration.step(), migration.checksum()))
+                .doOnSuccess(ignored -> log.info("Schema migration applied - migration: {}, took: {} ms",
+                        migration.step(), (System.nanoTime() - started) / 1_000_000));
+    }
+
+    private static List<Migration> load(String location) {
+        try {
+            Resource[] scripts = new PathMatchingResourcePatternResolver().getResources(location);
+            List<Migration> migrations = Arrays.stream(scripts)
+                    .map(SchemaMigrations::migration)
+                    .sorted(Comparator.comparingInt(Migration::version))
+                    .toList();
+            for (int i = 1; i < migrations.size(); i++) {
+                if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                    throw new IllegalStateException("Duplicate migration version " + migrations.get(i).version());
+                }
+            }
+            return migrations;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list migrations at " + location, e);
+        }
+    }
+
+    private static Migration migration(Resource script) {
+        String fileName = Objects.requireNonNull(script.getFilename());
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Migration file name must be V<version>__<description>.sql: " + fileName);
+        }
+        try {
+            return new Migration(Integer.parseInt(matcher.group(1)), fileName.substring(0, fileName.length() - 4),
+                    StoreVersions.checksum(List.of(script.getContentAsByteArray())), script);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read migration " + fileName, e);
+        }
+    }
+
+    private record Migration(int version, String step, String checksum, Resource script) {
+    }
+}
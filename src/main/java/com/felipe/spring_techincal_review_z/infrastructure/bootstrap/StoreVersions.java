@@ -0,0 +1,66 @@
+package com.felipe.spring_techincal_review_z.infrastructure.bootstrap;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checksums of the schema migrations and catalog seed applied to the store, kept in {@code STORE_VERSION}.
+ *
+ * <p>The table lives outside the migrations because it decides which of them run at all.
+ */
+class StoreVersions {
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS STORE_VERSION (" +
+            "STEP VARCHAR(64) PRIMARY KEY, " +
+            "CHECKSUM VARCHAR(64) NOT NULL, " +
+            "APPLIED_AT TIMESTAMP NOT NULL)";
+
+    private final DatabaseClient databaseClient;
+
+    StoreVersions(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Checksum recorded for every applied step, creating the table on a fresh store.
+     */
+    Mono<Map<String, String>> applied() {
+        return databaseClient.sql(CREATE_TABLE).then()
+                .then(databaseClient.sql("SELECT STEP, CHECKSUM FROM STORE_VERSION")
+                        .map(row -> Map.entry(row.get("STEP", String.class), row.get("CHECKSUM", String.class)))
+                        .all()
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    Mono<Void> record(String step, String checksum) {
+        return databaseClient.sql("MERGE INTO STORE_VERSION (STEP, CHECKSUM, APPLIED_AT) KEY (STEP) " +
+                        "VALUES (:step, :checksum, CURRENT_TIMESTAMP)")
+                .bind("step", step)
+                .bind("checksum", checksum)
+                .then();
+    }
+
+    /**
+     * SHA-256 of the given parts, each one length-prefixed so that moving bytes between parts changes it.
+     */
+    static String checksum(List<byte[]> parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(Integer.toString(part.length).getBytes(StandardCharsets.US_ASCII));
+                digest.update((byte) ':');
+                digest.update(part);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
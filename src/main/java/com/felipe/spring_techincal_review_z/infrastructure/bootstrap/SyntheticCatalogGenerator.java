@@ -0,0 +1,120 @@
+package com.felipe.spring_techincal_review_z.infrastructure.bootstrap;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.PriceBulkWriter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds {@code PRICES} with a large, reproducible catalog for load and capacity testing.
+ *
+ * <p>Every product and brand gets a base price list spanning the whole horizon at priority 0 and
+ * a number of promotional lists on random windows on top of it, so lookups hit the same overlap
+ * and priority resolution as the sample data, at scale. Rows are produced lazily and written in
+ * batches through {@link PriceBulkWriter}, keeping memory bounded by the batch size.
+ */
+@Slf4j
+public class SyntheticCatalogGenerator {
+
+    private static final String CURRENCY = "EUR";
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private final CatalogGeneratorProperties properties;
+    private final PriceBulkWriter writer;
+
+    public SyntheticCatalogGenerator(CatalogGeneratorProperties properties, PriceBulkWriter writer) {
+        this.properties = properties;
+        this.writer = writer;
+    }
+
+    CatalogGeneratorProperties properties() {
+        return properties;
+    }
+
+    /**
+     * Writes the whole catalog, returning the number of rows inserted.
+     */
+    public Mono<Long> generate() {
+        return Mono.defer(() -> {
+            AtomicLong written = new AtomicLong();
+            AtomicLong reported = new AtomicLong();
+            long started = System.nanoTime();
+            log.info("Generating synthetic catalog - brands: {}, productsPerBrand: {}, priceListsPerProduct: {}, rows: {}",
+                    properties.brands(), properties.productsPerBrand(), properties.priceListsPerProduct(),
+                    properties.totalRows());
+
+            return prices()
+                    .buffer(properties.batchSize())
+                    .concatMap(writer::seed)
+                    .doOnNext(rows -> {
+                        long total = written.addAndGet(rows);
+                        if (total - reported.get() >= PROGRESS_INTERVAL) {
+                            reported.set(total);
+                            log.info("Synthetic catalog progress - rows: {}/{}, rows/s: {}",
+                                    total, properties.totalRows(), rowsPerSecond(total, started));
+                        }
+                    })
+                    .then(Mono.fromSupplier(written::get))
+                    .doOnNext(total -> log.info("Synthetic catalog generated - rows: {}, took: {} ms, rows/s: {}",
+                            total, (System.nanoTime() - started) / 1_000_000, rowsPerSecond(total, started)));
+        });
+    }
+
+    /**
+     * Lazily produces the catalog described by the properties. The same seed always yields the same rows.
+     */
+    Flux<Price> prices() {
+        return Flux.defer(() -> {
+            SplittableRandom random = new SplittableRandom(properties.seed());
+            return Flux.range(0, properties.productsPerBrand())
+                    .concatMap(product -> Flux.range(1, properties.brands())
+                            .concatMapIterable(brand -> pricesOf(properties.firstProductId() + product, brand, random)));
+        });
+    }
+
+    private List<Price> pricesOf(long productId, long brandId, SplittableRandom random) {
+        long horizonSeconds = properties.horizon().toSeconds();
+        LocalDateTime start = properties.start();
+        BigDecimal basePrice = BigDecimal.valueOf(random.nextLong(500, 20_000), 2);
+
+        List<Price> prices = new ArrayList<>(properties.priceListsPerProduct());
+        prices.add(price(productId, brandId, 1, start, start.plusSeconds(horizonSeconds - 1), basePrice, 0));
+
+        for (int priceList = 2; priceList <= properties.priceListsPerProduct(); priceList++) {
+            double share = Math.min(1.0, properties.overlapDensity() * (0.5 + random.nextDouble()));
+            long length = Math.max(1, (long) (horizonSeconds * share));
+            long offset = length >= horizonSeconds ? 0 : random.nextLong(horizonSeconds - length + 1);
+            LocalDateTime from = start.plusSeconds(offset);
+            BigDecimal discounted = basePrice
+                    .multiply(BigDecimal.valueOf(random.nextInt(50, 100), 2))
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            prices.add(price(productId, brandId, priceList, from, from.plusSeconds(length - 1), discounted, priority(random)));
+        }
+        return prices;
+    }
+
+    private int priority(SplittableRandom random) {
+        int priority = 1 + (int) (properties.maxPriority() * Math.pow(random.nextDouble(), properties.prioritySkew()));
+        return Math.min(priority, properties.maxPriority());
+    }
+
+    private static Price price(long productId, long brandId, int priceList, LocalDateTime from, LocalDateTime to,
+                               BigDecimal amount, int priority) {
+        return Price.create(null, brandId, productId, priceList, from, to, amount, CURRENCY, priority);
+    }
+
+    private static long rowsPerSecond(long rows, long startedNanos) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startedNanos);
+        return rows * 1_000_000_000L / elapsedNanos;
+    }
+}
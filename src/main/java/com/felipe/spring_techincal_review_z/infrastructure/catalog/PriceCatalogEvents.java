@@ -0,0 +1,51 @@
+package com.felipe.spring_techincal_review_z.infrastructure.catalog;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceCatalogChanges;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Dispatches catalog change notifications to every registered {@link PriceCatalogListener}.
+ *
+ * <p>Dispatch is reactive so that writers running on event-loop threads can chain it into their
+ * own pipeline; callers that must wait for derived structures (e.g. startup) simply block on it.
+ *
+ * <p>Once every listener is done, the event is re-emitted on {@link #changes()}, so watchers react
+ * only after indexes and caches reflect the change.
+ */
+@Slf4j
+@Component
+public class PriceCatalogEvents implements PriceCatalogChanges {
+
+    private static final Duration EMIT_RETRY = Duration.ofMillis(100);
+
+    private final ObjectProvider<PriceCatalogListener> listeners;
+    private final Sinks.Many<PriceCatalogChangedEvent> applied = Sinks.many().multicast().directBestEffort();
+
+    public PriceCatalogEvents(ObjectProvider<PriceCatalogListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    public Mono<Void> publish(PriceCatalogChangedEvent event) {
+        List<PriceCatalogListener> ordered = listeners.orderedStream().toList();
+        log.debug("Publishing catalog change - fullReload: {}, keys: {}, listeners: {}",
+                event.fullReload(), event.keys().size(), ordered.size());
+
+        return Flux.fromIterable(ordered)
+                .concatMap(listener -> listener.onCatalogChanged(event))
+                .then(Mono.fromRunnable(() -> applied.emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY))));
+    }
+
+    @Override
+    public Flux<PriceCatalogChangedEvent> changes() {
+        return applied.asFlux();
+    }
+}
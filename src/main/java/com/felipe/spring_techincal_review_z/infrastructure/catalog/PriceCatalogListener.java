@@ -0,0 +1,15 @@
+package com.felipe.spring_techincal_review_z.infrastructure.catalog;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import reactor.core.publisher.Mono;
+
+/**
+ * Component keeping a derived read structure in sync with the stored price catalog.
+ *
+ * <p>Listeners are invoked sequentially, in {@link org.springframework.core.annotation.Order} order,
+ * and the returned {@code Mono} must complete once the structure reflects the change.
+ */
+public interface PriceCatalogListener {
+
+    Mono<Void> onCatalogChanged(PriceCatalogChangedEvent event);
+}
@@ -0,0 +1,37 @@
+package com.felipe.spring_techincal_review_z.infrastructure.catalog;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Catalog writes whose rows may already be visible in {@code PRICES} while their catalog change has
+ * not been applied yet.
+ *
+ * <p>A writer begins before its first row can commit and settles once its change has been published
+ * through {@link PriceCatalogEvents}. Read structures that answer "absent" from their own state must
+ * not do so while any write is pending, since the rows may be there before the structure knows.
+ */
+@Component
+public class PriceCatalogWrites {
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Registers a write, returning the action that settles it; settling more than once has no effect.
+     */
+    public Runnable begin() {
+        pending.incrementAndGet();
+        AtomicBoolean settled = new AtomicBoolean();
+        return () -> {
+            if (settled.compareAndSet(false, true)) {
+                pending.decrementAndGet();
+            }
+        };
+    }
+
+    public boolean pending() {
+        return pending.get() > 0;
+    }
+}
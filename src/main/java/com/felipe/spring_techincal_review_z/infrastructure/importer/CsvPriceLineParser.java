@@ -0,0 +1,129 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses CSV rows whose columns are named by the first line, in any order.
+ *
+ * <p>Dates may be written as {@code 2020-06-14T00:00:00}, {@code 2020-06-14 00:00:00} or
+ * {@code 2020-06-14-00.00.00}. Fields may be quoted as in RFC 4180, with {@code ""} for a quote
+ * inside a quoted field; since input is read line by line, a quoted field cannot span lines.
+ */
+class CsvPriceLineParser implements PriceLineParser {
+
+    private static final List<String> COLUMNS =
+            List.of("BRAND_ID", "START_DATE", "END_DATE", "PRICE_LIST", "PRODUCT_ID", "PRIORITY", "PRICE", "CURR");
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern(
+            "[yyyy-MM-dd'T'HH:mm:ss][yyyy-MM-dd HH:mm:ss][yyyy-MM-dd-HH.mm.ss]");
+
+    private int[] positions;
+
+    @Override
+    public Price parse(String line) {
+        if (positions == null) {
+            String[] header;
+            try {
+                header = fields(line);
+            } catch (InvalidLineException e) {
+                throw new IllegalArgumentException("CSV header is malformed: " + e.getMessage());
+            }
+            positions = positionsOf(header);
+            return null;
+        }
+        String[] fields = fields(line);
+        try {
+            return PriceLineParser.validated(Price.create(
+                    null,
+                    Long.parseLong(field(fields, 0)),
+                    Long.parseLong(field(fields, 4)),
+                    Integer.parseInt(field(fields, 3)),
+                    LocalDateTime.parse(field(fields, 1), DATE_TIME),
+                    LocalDateTime.parse(field(fields, 2), DATE_TIME),
+                    new BigDecimal(field(fields, 6)),
+                    field(fields, 7),
+                    Integer.parseInt(field(fields, 5))));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidLineException(e.getMessage());
+        }
+    }
+
+    /**
+     * Splits a line on commas outside quotes, unquoting quoted fields; blanks around a quoted field are dropped.
+     */
+    private static String[] fields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean closed = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                    closed = true;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                closed = false;
+            } else if (Character.isWhitespace(c) && closed) {
+                // Blanks between the closing quote and the next comma
+            } else if (closed) {
+                throw new InvalidLineException("Unexpected text after a quoted field");
+            } else if (c == '"') {
+                if (!field.toString().isBlank()) {
+                    throw new InvalidLineException("Unexpected quote inside an unquoted field");
+                }
+                field.setLength(0);
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidLineException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields.toArray(String[]::new);
+    }
+
+    private String field(String[] fields, int column) {
+        int position = positions[column];
+        if (position >= fields.length) {
+            throw new InvalidLineException("Missing column " + COLUMNS.get(column));
+        }
+        return fields[position].trim();
+    }
+
+    private static int[] positionsOf(String[] header) {
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            byName.put(header[i].trim().toUpperCase(Locale.ROOT), i);
+        }
+        int[] positions = new int[COLUMNS.size()];
+        for (int column = 0; column < COLUMNS.size(); column++) {
+            Integer position = byName.get(COLUMNS.get(column));
+            if (position == null) {
+                throw new IllegalArgumentException("CSV header is missing column " + COLUMNS.get(column));
+            }
+            positions[column] = position;
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,28 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+
+/**
+ * Parses one JSON object per line, keyed by the same column names as a CSV header (see {@link PriceImportRecord}).
+ */
+class NdjsonPriceLineParser implements PriceLineParser {
+
+    private final ObjectReader reader;
+
+    NdjsonPriceLineParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(PriceImportRecord.class);
+    }
+
+    @Override
+    public Price parse(String line) {
+        try {
+            PriceImportRecord record = reader.readValue(line);
+            return PriceLineParser.validated(record.toPrice());
+        } catch (JsonProcessingException e) {
+            throw new InvalidLineException(e.getOriginalMessage());
+        }
+    }
+}
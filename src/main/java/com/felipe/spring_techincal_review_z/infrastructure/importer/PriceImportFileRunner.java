@@ -0,0 +1,118 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads {@code pricing.import.file} in the background once the application is ready.
+ *
+ * <p>Unlike the sample data loaded by the data initializer, the file does not hold back startup:
+ * lookups are served from the existing catalog while it loads.
+ *
+ * <p>With {@code pricing.import.watch=true} the file replaces the whole catalog instead, and is
+ * polled every {@code pricing.import.watch-interval} so that a new version is swapped in without a
+ * restart. Publish new versions by moving a complete file into place rather than rewriting it.
+ */
+@Slf4j
+public class PriceImportFileRunner implements DisposableBean {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final PriceImporter importer;
+    private final Path file;
+    private final boolean watch;
+    private final Duration watchInterval;
+    private final Scheduler scheduler;
+    private final AtomicReference<FileTime> loadedVersion = new AtomicReference<>();
+    private volatile Disposable running;
+
+    public PriceImportFileRunner(PriceImporter importer, PriceImportProperties properties) {
+        this(importer, properties, Schedulers.boundedElastic());
+    }
+
+    PriceImportFileRunner(PriceImporter importer, PriceImportProperties properties, Scheduler scheduler) {
+        this.importer = importer;
+        this.file = properties.file();
+        this.watch = properties.watch();
+        this.watchInterval = properties.watchInterval();
+        this.scheduler = scheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void importFile() {
+        if (watch) {
+            log.info("Watching price file - path: {}, interval: {}", file, watchInterval);
+            running = Flux.interval(Duration.ZERO, watchInterval, scheduler)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> Mono.justOrEmpty(version())
+                            .filter(version -> !version.equals(loadedVersion.get()))
+                            .flatMap(this::replaceCatalog))
+                    .subscribe();
+            return;
+        }
+
+        log.info("Importing price file - path: {}", file);
+        running = importer
+                .importPrices(read(), format())
+                .subscribe(
+                        result -> log.info("Price file imported - path: {}, rows: {}", file, result.imported()),
+                        error -> log.error("Price file import failed - path: {}", file, error));
+    }
+
+    private Mono<PriceImportResult> replaceCatalog(FileTime version) {
+        log.info("Price file changed, replacing catalog - path: {}, modified: {}", file, version);
+        return importer.replacePrices(read(), format())
+                .doOnNext(result -> log.info("Price file loaded - path: {}, rows: {}, rejected: {}",
+                        file, result.imported(), result.rejected()))
+                .doOnSuccess(ignored -> loadedVersion.set(version))
+                // Retried on the next tick
+                .onErrorResume(PriceImporter.ReplacementInProgressException.class, error -> Mono.empty())
+                .onErrorResume(error -> {
+                    log.error("Price file replacement failed, keeping the current catalog - path: {}", file, error);
+                    loadedVersion.set(version);
+                    return Mono.empty();
+                });
+    }
+
+    private FileTime version() {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            log.debug("Price file not readable - path: {}, error: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private Flux<DataBuffer> read() {
+        return DataBufferUtils.read(file, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE);
+    }
+
+    private PriceImportFormat format() {
+        return PriceImportFormat.ofFileName(file.getFileName().toString());
+    }
+
+    @Override
+    public void destroy() {
+        Disposable current = running;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Line-oriented formats accepted by the {@link PriceImporter}.
+ */
+public enum PriceImportFormat {
+
+    /**
+     * Comma separated values with a header row naming the {@code PRICES} columns.
+     */
+    CSV(new MediaType("text", "csv")),
+
+    /**
+     * One JSON price object per line, using the field names of the domain {@code Price}.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    PriceImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    PriceLineParser newParser(ObjectMapper objectMapper) {
+        return switch (this) {
+            case CSV -> new CsvPriceLineParser();
+            case NDJSON -> new NdjsonPriceLineParser(objectMapper);
+        };
+    }
+
+    public static PriceImportFormat of(MediaType contentType) {
+        for (PriceImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+
+    public static PriceImportFormat ofFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot infer import format from file name: " + fileName);
+    }
+}
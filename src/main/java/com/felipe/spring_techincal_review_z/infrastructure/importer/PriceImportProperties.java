@@ -0,0 +1,39 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the bulk price import ({@code pricing.import.*}).
+ *
+ * @param enabled whether the upload endpoint and startup file import are available
+ * @param batchSize rows per insert statement
+ * @param concurrency insert statements in flight, i.e. pool connections the import may hold at once
+ * @param file optional CSV or NDJSON file imported once the application is ready
+ * @param watch whether {@code file} is the source of truth: it then replaces the whole catalog once
+ *              ready and again every time it changes, instead of being appended once
+ * @param watchInterval how often the watched file is checked for changes
+ */
+@ConfigurationProperties(prefix = "pricing.import")
+public record PriceImportProperties(
+        boolean enabled,
+        int batchSize,
+        int concurrency,
+        Path file,
+        boolean watch,
+        Duration watchInterval
+) {
+    public PriceImportProperties {
+        if (batchSize <= 0) {
+            batchSize = 1_000;
+        }
+        if (concurrency <= 0) {
+            concurrency = 1;
+        }
+        if (watchInterval == null || watchInterval.isNegative() || watchInterval.isZero()) {
+            watchInterval = Duration.ofSeconds(10);
+        }
+    }
+}
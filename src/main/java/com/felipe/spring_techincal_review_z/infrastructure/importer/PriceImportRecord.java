@@ -0,0 +1,31 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One NDJSON import line, named after the {@code PRICES} columns like a CSV header and matched
+ * case-insensitively the same way; any {@code ID} is ignored.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonFormat(with = JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+record PriceImportRecord(
+        @JsonProperty("BRAND_ID") Long brandId,
+        @JsonProperty("START_DATE") LocalDateTime startDate,
+        @JsonProperty("END_DATE") LocalDateTime endDate,
+        @JsonProperty("PRICE_LIST") Integer priceList,
+        @JsonProperty("PRODUCT_ID") Long productId,
+        @JsonProperty("PRIORITY") Integer priority,
+        @JsonProperty("PRICE") BigDecimal price,
+        @JsonProperty("CURR") String currency
+) {
+
+    Price toPrice() {
+        return Price.create(null, brandId, productId, priceList, startDate, endDate, price, currency, priority);
+    }
+}
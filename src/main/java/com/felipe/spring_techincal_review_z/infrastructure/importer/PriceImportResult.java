@@ -0,0 +1,12 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+/**
+ * Outcome of a completed import.
+ *
+ * @param imported rows written to {@code PRICES}
+ * @param rejected lines skipped because they could not be parsed or failed validation
+ * @param tookMillis wall-clock duration of the import
+ * @param rowsPerSecond write throughput over the whole import
+ */
+public record PriceImportResult(long imported, long rejected, long tookMillis, long rowsPerSecond) {
+}
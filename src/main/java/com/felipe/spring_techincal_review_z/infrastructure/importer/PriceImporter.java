@@ -0,0 +1,223 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.PriceBulkWriter;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogEvents;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogWrites;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Streams CSV or NDJSON price lists into the {@code PRICES} table.
+ *
+ * <p>The input is split into lines as it arrives and rows are written through
+ * {@link PriceBulkWriter} in batches of {@code pricing.import.batch-size}, with at most
+ * {@code pricing.import.concurrency} batches in flight. Demand only reaches the source when a batch
+ * has been written, so memory stays bounded by the batch size regardless of the input length and
+ * the import never holds more pool connections than its concurrency.
+ *
+ * <p>Malformed lines are skipped and counted. Every batch commits on its own, so a failure midway
+ * leaves the rows written so far in place. Once done, failed or cancelled, a catalog change is
+ * published for the keys of the committed batches, or for the whole catalog when too many keys were
+ * touched to track individually. Until then the import is registered in {@link PriceCatalogWrites},
+ * so that no read structure answers "absent" for rows it has not been told about yet.
+ * {@link #replacePrices} instead swaps the whole catalog for the input in one step.
+ */
+@Slf4j
+public class PriceImporter {
+
+    static final int MAX_TRACKED_KEYS = 1_024;
+
+    private static final long PROGRESS_INTERVAL = 100_000;
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+
+    private final StringDecoder lineDecoder = StringDecoder.allMimeTypes();
+    private final PriceBulkWriter writer;
+    private final PriceCatalogEvents catalogEvents;
+    private final PriceCatalogWrites catalogWrites;
+    private final ObjectMapper objectMapper;
+    private final PriceImportProperties properties;
+    private final AtomicBoolean replacing = new AtomicBoolean();
+
+    public PriceImporter(PriceBulkWriter writer, PriceCatalogEvents catalogEvents, PriceCatalogWrites catalogWrites,
+                         ObjectMapper objectMapper, PriceImportProperties properties) {
+        this.writer = writer;
+        this.catalogEvents = catalogEvents;
+        this.catalogWrites = catalogWrites;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public Mono<PriceImportResult> importPrices(Flux<DataBuffer> content, PriceImportFormat format) {
+        return Mono.defer(() -> {
+            WrittenKeys written = new WrittenKeys();
+            Runnable settle = catalogWrites.begin();
+            return load("import", content, format, written::add, writer::insert,
+                    imported -> written.publish(catalogEvents))
+                    // Batches committed before a failure or a cancellation are in PRICES all the same
+                    .onErrorResume(error -> written.publish(catalogEvents)
+                            .onErrorResume(publishError -> {
+                                log.warn("Failed to publish the partially imported keys - {}", publishError.getMessage());
+                                return Mono.empty();
+                            })
+                            .then(Mono.error(error)))
+                    .doOnCancel(() -> written.publish(catalogEvents)
+                            .doFinally(signal -> settle.run())
+                            .subscribe(null, publishError -> log.warn("Failed to publish the partially imported keys - {}",
+                                    publishError.getMessage())))
+                    // On cancellation the write settles once the keys above are published
+                    .doFinally(signal -> {
+                        if (signal != SignalType.CANCEL) {
+                            settle.run();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Replaces the whole catalog with the given price list.
+     *
+     * <p>Rows are staged off to the side while lookups keep being served from the current catalog,
+     * then promoted in a single transaction and published as a full reload, so every derived read
+     * structure is rebuilt and swapped in one step. An input without any valid row is refused
+     * rather than emptying the catalog. Only one replacement runs at a time.
+     */
+    public Mono<PriceImportResult> replacePrices(Flux<DataBuffer> content, PriceImportFormat format) {
+        return Mono.defer(() -> {
+            if (!replacing.compareAndSet(false, true)) {
+                return Mono.error(new ReplacementInProgressException());
+            }
+            Runnable settle = catalogWrites.begin();
+            return writer.clearStaged()
+                    .then(load("replacement", content, format, batch -> { }, writer::stage,
+                            staged -> staged == 0
+                                    ? Mono.error(new IllegalArgumentException(
+                                            "Replacement price list has no valid rows, keeping the current catalog"))
+                                    : writer.replaceWithStaged()
+                                            .then(catalogEvents.publish(PriceCatalogChangedEvent.all()))))
+                    .doFinally(signal -> {
+                        settle.run();
+                        replacing.set(false);
+                    });
+        });
+    }
+
+    private Mono<PriceImportResult> load(String operation, Flux<DataBuffer> content, PriceImportFormat format,
+                                         Consumer<List<Price>> onWritten, Function<List<Price>, Mono<Long>> write,
+                                         LongFunction<Mono<Void>> onLoaded) {
+        return Mono.defer(() -> {
+            PriceLineParser parser = format.newParser(objectMapper);
+            AtomicLong lines = new AtomicLong();
+            AtomicLong rejected = new AtomicLong();
+            AtomicLong imported = new AtomicLong();
+            AtomicLong reported = new AtomicLong();
+            long started = System.nanoTime();
+
+            log.info("Starting price {} - format: {}, batchSize: {}, concurrency: {}",
+                    operation, format, properties.batchSize(), properties.concurrency());
+
+            return lineDecoder.decode(content, STRING_TYPE, null, null)
+                    .<Price>handle((line, sink) -> {
+                        long lineNumber = lines.incrementAndGet();
+                        if (line.isBlank()) {
+                            return;
+                        }
+                        try {
+                            Price price = parser.parse(line);
+                            if (price != null) {
+                                sink.next(price);
+                            }
+                        } catch (PriceLineParser.InvalidLineException e) {
+                            rejected.incrementAndGet();
+                            log.debug("Rejected {} line {} - {}", operation, lineNumber, e.getMessage());
+                        }
+                    })
+                    .buffer(properties.batchSize())
+                    // The H2 driver runs statements on the calling thread; keep them off the request event loops
+                    .publishOn(Schedulers.boundedElastic(), properties.concurrency())
+                    .flatMap(batch -> write.apply(batch).doOnNext(rows -> onWritten.accept(batch)),
+                            properties.concurrency())
+                    .doOnNext(rows -> {
+                        long total = imported.addAndGet(rows);
+                        if (total - reported.get() >= PROGRESS_INTERVAL) {
+                            reported.set(total);
+                            log.info("Price {} progress - rows: {}, rejected: {}, rows/s: {}",
+                                    operation, total, rejected.get(), rowsPerSecond(total, started));
+                        }
+                    })
+                    .then(Mono.defer(() -> onLoaded.apply(imported.get())))
+                    .then(Mono.fromSupplier(() -> new PriceImportResult(imported.get(), rejected.get(),
+                            (System.nanoTime() - started) / 1_000_000, rowsPerSecond(imported.get(), started))))
+                    .doOnNext(result -> log.info("Price {} completed - rows: {}, rejected: {}, took: {} ms, rows/s: {}",
+                            operation, result.imported(), result.rejected(), result.tookMillis(), result.rowsPerSecond()))
+                    .doOnError(error -> log.error("Price {} failed after {} rows - {}",
+                            operation, imported.get(), error.getMessage()));
+        });
+    }
+
+    private static long rowsPerSecond(long rows, long startedNanos) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startedNanos);
+        return rows * 1_000_000_000L / elapsedNanos;
+    }
+
+    /**
+     * Keys of the batches an import has committed, published at most once.
+     */
+    private static final class WrittenKeys {
+
+        // Batches complete on different threads when the import runs with concurrency
+        private final Set<PriceKey> keys = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean published = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        void add(List<Price> batch) {
+            if (overflowed) {
+                return;
+            }
+            batch.forEach(price -> keys.add(PriceKey.of(price)));
+            if (keys.size() > MAX_TRACKED_KEYS) {
+                overflowed = true;
+                keys.clear();
+            }
+        }
+
+        Mono<Void> publish(PriceCatalogEvents catalogEvents) {
+            return Mono.defer(() -> {
+                if ((keys.isEmpty() && !overflowed) || !published.compareAndSet(false, true)) {
+                    return Mono.empty();
+                }
+                return catalogEvents.publish(overflowed
+                        ? PriceCatalogChangedEvent.all()
+                        : PriceCatalogChangedEvent.forKeys(Set.copyOf(keys)));
+            });
+        }
+    }
+
+    /**
+     * Raised when a catalog replacement is requested while another one is still running.
+     */
+    public static class ReplacementInProgressException extends RuntimeException {
+
+        ReplacementInProgressException() {
+            super("A catalog replacement is already running", null, false, false);
+        }
+    }
+}
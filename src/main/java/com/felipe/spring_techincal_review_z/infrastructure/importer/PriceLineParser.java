@@ -0,0 +1,75 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Turns one line of an import into a price. Instances are stateful and serve a single import.
+ */
+interface PriceLineParser {
+
+    /**
+     * Parses the line, returning {@code null} for lines that carry no price (e.g. a header).
+     *
+     * @throws InvalidLineException if the line is malformed or describes an invalid price
+     * @throws IllegalArgumentException if the input as a whole cannot be read (e.g. a bad header)
+     */
+    Price parse(String line);
+
+    /**
+     * Largest number of integer digits a {@code PRICE DECIMAL(10, 2)} holds.
+     */
+    int PRICE_INTEGER_DIGITS = 8;
+
+    /**
+     * Largest number of decimals a {@code PRICE DECIMAL(10, 2)} holds.
+     */
+    int PRICE_SCALE = 2;
+
+    /**
+     * Checks the required fields and bounds, and truncates the period to whole seconds, which is
+     * all the catalog stores (see {@code V1__create_prices.sql}). Prices that do not fit the
+     * {@code DECIMAL(10, 2)} column are refused here, so they cost one line instead of a batch insert.
+     */
+    static Price validated(Price price) {
+        if (price.brandId() == null || price.productId() == null || price.priceList() == null
+                || price.priority() == null || price.startDate() == null || price.endDate() == null
+                || price.price() == null || price.currency() == null) {
+            throw new InvalidLineException("Missing required field");
+        }
+        if (price.endDate().isBefore(price.startDate())) {
+            throw new InvalidLineException("End date is before start date");
+        }
+        if (price.price().compareTo(BigDecimal.ZERO) < 0) {
+            throw new InvalidLineException("Price must not be negative");
+        }
+        BigDecimal amount = price.price().stripTrailingZeros();
+        if (amount.scale() > PRICE_SCALE) {
+            throw new InvalidLineException("Price must have at most " + PRICE_SCALE + " decimals");
+        }
+        if (amount.precision() - amount.scale() > PRICE_INTEGER_DIGITS) {
+            throw new InvalidLineException("Price must have at most " + PRICE_INTEGER_DIGITS + " integer digits");
+        }
+        if (price.currency().length() != 3) {
+            throw new InvalidLineException("Currency must be an ISO 4217 code");
+        }
+        if (price.startDate().getNano() == 0 && price.endDate().getNano() == 0) {
+            return price;
+        }
+        return Price.create(price.id(), price.brandId(), price.productId(), price.priceList(),
+                price.startDate().truncatedTo(ChronoUnit.SECONDS), price.endDate().truncatedTo(ChronoUnit.SECONDS),
+                price.price(), price.currency(), price.priority());
+    }
+
+    /**
+     * A single line that cannot be imported; the import skips it and carries on.
+     */
+    class InvalidLineException extends RuntimeException {
+
+        InvalidLineException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.felipe.spring_techincal_review_z.infrastructure.metrics;
+
+import com.felipe.spring_techincal_review_z.domain.exception.PriceNotFoundException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a price lookup at each layer it crosses, published as the {@value #METRIC} timer.
+ *
+ * <p>Every sample is tagged with the {@code stage} that took it, the {@code outcome} of the lookup
+ * ({@code found}, {@code not-found} or {@code error}) and the requested {@code brand}. Percentile
+ * histograms are switched on through {@code management.metrics.distribution.*}.
+ */
+@Component
+public class PriceLookupMetrics {
+
+    public static final String METRIC = "pricing.lookup";
+
+    public enum Stage {
+        CONTROLLER("controller"),
+        USE_CASE("use-case"),
+        REPOSITORY("repository"),
+        REPOSITORY_QUERY("repository.query"),
+        REPOSITORY_MAPPING("repository.mapping");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public enum Outcome {
+        FOUND("found"),
+        NOT_FOUND("not-found"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Meter.MeterProvider<Timer> timers;
+
+    public PriceLookupMetrics(MeterRegistry meterRegistry) {
+        this.timers = Timer.builder(METRIC)
+                .description("Latency of price lookups per layer")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Times the lookup from subscription to its first terminal signal. An empty result or a
+     * {@link PriceNotFoundException} counts as not found; cancellation is not recorded.
+     */
+    public <T> Mono<T> time(Stage stage, Long brandId, Mono<T> lookup) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return lookup
+                    .doOnSuccess(value -> record(stage, brandId, value == null ? Outcome.NOT_FOUND : Outcome.FOUND, started))
+                    .doOnError(error -> record(stage, brandId,
+                            error instanceof PriceNotFoundException ? Outcome.NOT_FOUND : Outcome.ERROR, started));
+        });
+    }
+
+    public void record(Stage stage, Long brandId, Outcome outcome, long startedNanos) {
+        timers.withTags("stage", stage.tag, "outcome", outcome.tag, "brand", String.valueOf(brandId))
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,60 @@
+-- Baseline schema. Its statements tolerate existing objects, so stores created by the unversioned
+-- schema script adopt it without changes; every later migration runs exactly once per store.
+CREATE TABLE IF NOT EXISTS PRICES (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID BIGINT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE DECIMAL(10, 2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+-- Periods are whole seconds: CompactPrice, the timeline lattice and the mapped snapshot all encode
+-- them as epoch seconds, so a fractional bound would be read differently by each adapter. Imports
+-- truncate to the second (see PriceLineParser); anything else writing a fraction is refused here.
+ALTER TABLE PRICES ADD CONSTRAINT IF NOT EXISTS ck_prices_whole_seconds
+    CHECK (EXTRACT(NANOSECOND FROM START_DATE) = 0 AND EXTRACT(NANOSECOND FROM END_DATE) = 0);
+
+CREATE INDEX IF NOT EXISTS idx_prices_lookup ON PRICES (PRODUCT_ID, BRAND_ID, START_DATE, END_DATE);
+
+-- Walked in precedence order by the lookups (see SinglePriceLookup), so the first row whose period
+-- covers the requested date is the winner and candidates are never sorted.
+CREATE INDEX IF NOT EXISTS idx_prices_priority ON PRICES (PRODUCT_ID, BRAND_ID, PRIORITY DESC, ID);
+
+-- Full catalog replacements are loaded here first and promoted to PRICES in one transaction
+-- (see PriceBulkWriter), so lookups never observe a partially loaded catalog.
+CREATE TABLE IF NOT EXISTS PRICES_STAGING (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID BIGINT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE DECIMAL(10, 2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+ALTER TABLE PRICES_STAGING ADD CONSTRAINT IF NOT EXISTS ck_prices_staging_whole_seconds
+    CHECK (EXTRACT(NANOSECOND FROM START_DATE) = 0 AND EXTRACT(NANOSECOND FROM END_DATE) = 0);
+
+-- Priority-resolved, non-overlapping segments derived from PRICES (see PriceTimelineMaterializer).
+-- SEGMENT_START is inclusive and SEGMENT_END exclusive; TIMESTAMP(9) keeps the nanosecond that
+-- separates an inclusive END_DATE from the next segment.
+CREATE TABLE IF NOT EXISTS PRICE_TIMELINE (
+    PRODUCT_ID BIGINT NOT NULL,
+    BRAND_ID BIGINT NOT NULL,
+    SEGMENT_START TIMESTAMP(9) NOT NULL,
+    SEGMENT_END TIMESTAMP(9) NOT NULL,
+    PRICE_ID BIGINT NOT NULL,
+    PRICE_LIST INT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE DECIMAL(10, 2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL,
+    PRIMARY KEY (PRODUCT_ID, BRAND_ID, SEGMENT_START)
+);
@@ -0,0 +1,3 @@
+-- Rows written by data.sql and the synthetic catalog generator, as opposed to imported or replaced
+-- ones; reseeding a persistent store deletes only these (see DataInitializer).
+ALTER TABLE PRICES ADD COLUMN SEEDED BOOLEAN DEFAULT FALSE NOT NULL;
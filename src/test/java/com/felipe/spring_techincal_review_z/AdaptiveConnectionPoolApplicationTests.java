@@ -0,0 +1,31 @@
+package com.felipe.spring_techincal_review_z;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} on an adaptively sized
+ * connection pool.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "pricing.connection-pool.adaptive=true",
+                "pricing.connection-pool.min-size=1",
+                "pricing.connection-pool.interval=100ms"
+        })
+class AdaptiveConnectionPoolApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void exposesPoolLimit() {
+        assertThat(meterRegistry.get("r2dbc.pool.limit").tag("name", "connectionFactory").gauge().value())
+                .isBetween(1.0, 10.0);
+    }
+}
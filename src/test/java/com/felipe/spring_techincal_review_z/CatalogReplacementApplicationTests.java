@@ -0,0 +1,85 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImportResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replaces the whole catalog through the admin endpoint and checks that lookups switch to it.
+ *
+ * <p>Runs on its own database: replacing {@code PRICES} would otherwise remove rows that other
+ * test classes sharing the default one rely on.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.r2dbc.url=r2dbc:h2:mem:///replacementdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "pricing.repository.type=in-memory",
+                "pricing.import.enabled=true"
+        })
+@AutoConfigureWebTestClient
+class CatalogReplacementApplicationTests {
+
+    private static final String SAMPLE_CATALOG = """
+            BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+            1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+            1,2020-06-14 15:00:00,2020-06-14 18:30:00,2,35455,1,25.45,EUR
+            1,2020-06-15 00:00:00,2020-06-15 11:00:00,3,35455,1,30.50,EUR
+            1,2020-06-15 16:00:00,2020-12-31 23:59:59,4,35455,1,38.95,EUR
+            """;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void replacesWholeCatalog() {
+        replace(SAMPLE_CATALOG + "1,2021-01-01 00:00:00,2021-12-31 23:59:59,1,79001,0,15.00,EUR\n")
+                .expectStatus().isOk()
+                .expectBody(PriceImportResult.class)
+                .value(result -> assertThat(result.imported()).isEqualTo(5));
+
+        expectStatus(79001, "2021-06-01T10:00:00Z", HttpStatus.OK);
+        expectStatus(35455, "2020-06-14T16:00:00Z", HttpStatus.OK);
+
+        replace(SAMPLE_CATALOG)
+                .expectStatus().isOk();
+
+        expectStatus(79001, "2021-06-01T10:00:00Z", HttpStatus.NOT_FOUND);
+        expectStatus(35455, "2020-06-14T16:00:00Z", HttpStatus.OK);
+    }
+
+    @Test
+    void keepsCatalogWhenReplacementHasNoValidRows() {
+        replace("BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR\n1,broken,broken,1,35455,0,1.00,EUR\n")
+                .expectStatus().isBadRequest();
+
+        expectStatus(35455, "2020-06-14T10:00:00Z", HttpStatus.OK);
+    }
+
+    private WebTestClient.ResponseSpec replace(String csv) {
+        return webTestClient.put()
+                .uri("/api/v1/admin/prices")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange();
+    }
+
+    private void expectStatus(long productId, String applicationDate, HttpStatus status) {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/prices")
+                        .queryParam("applicationDate", applicationDate)
+                        .queryParam("productId", productId)
+                        .queryParam("brandId", 1)
+                        .build())
+                .exchange()
+                .expectStatus().isEqualTo(status);
+    }
+}
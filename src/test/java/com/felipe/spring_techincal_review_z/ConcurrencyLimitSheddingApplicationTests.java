@@ -0,0 +1,94 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.api.model.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Drives the concurrency limit over HTTP: with a limit of one, a batch whose body is still being
+ * uploaded holds the only slot and the next lookup is shed.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "pricing.concurrency-limit.enabled=true",
+                "pricing.concurrency-limit.initial-limit=1",
+                "pricing.concurrency-limit.min-limit=1",
+                "pricing.concurrency-limit.max-limit=1",
+                "pricing.concurrency-limit.retry-after=3s"
+        })
+@AutoConfigureWebTestClient
+class ConcurrencyLimitSheddingApplicationTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void shedsLookupsBeyondTheLimitWithTheErrorBody() {
+        // Given: a batch holding the only slot until its body completes
+        Sinks.Many<DataBuffer> upload = Sinks.many().unicast().onBackpressureBuffer();
+        upload.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("{\"items\":[".getBytes(StandardCharsets.UTF_8)));
+        Disposable held = WebClient.create("http://localhost:" + port)
+                .post()
+                .uri("/api/v1/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(upload.asFlux(), DataBuffer.class)
+                .retrieve()
+                .toBodilessEntity()
+                .subscribe();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> meterRegistry.get("pricing.concurrency.in.flight").gauge().value() == 1);
+
+        // When / Then
+        try {
+            webTestClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/api/v1/prices")
+                            .queryParam("applicationDate", "2020-06-14T10:00:00Z")
+                            .queryParam("productId", 35455)
+                            .queryParam("brandId", 1)
+                            .build())
+                    .exchange()
+                    .expectStatus().isEqualTo(503)
+                    .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "3")
+                    .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                    .expectBody(ErrorResponse.class)
+                    .value(error -> {
+                        assertThat(error.getStatus()).isEqualTo(503);
+                        assertThat(error.getError()).isEqualTo("Service Unavailable");
+                        assertThat(error.getMessage()).isNotBlank();
+                        assertThat(error.getPath()).isEqualTo("/api/v1/prices");
+                        assertThat(error.getTimestamp()).isNotNull();
+                    });
+            assertThat(meterRegistry.get("pricing.concurrency.shed").counter().count()).isEqualTo(1);
+        } finally {
+            upload.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("]}".getBytes(StandardCharsets.UTF_8)));
+            upload.tryEmitComplete();
+            await().atMost(Duration.ofSeconds(5)).until(held::isDisposed);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.felipe.spring_techincal_review_z;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} behind the adaptive
+ * concurrency limit.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "pricing.concurrency-limit.enabled=true",
+                "pricing.concurrency-limit.window=50ms"
+        })
+class ConcurrencyLimitedApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void exposesConcurrencyLimit() {
+        assertThat(meterRegistry.get("pricing.concurrency.limit").gauge().value()).isBetween(4.0, 500.0);
+        assertThat(meterRegistry.get("pricing.concurrency.shed").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,59 @@
+package com.felipe.spring_techincal_review_z;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the meters of the R2DBC connection pool against lookups that went through it. The pool
+ * holds a single connection, so concurrent lookups have to queue for it and their waits are timed.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.r2dbc.pool.initial-size=1",
+                "spring.r2dbc.pool.max-size=1"
+        })
+class ConnectionPoolMetricsApplicationTests {
+
+    private static final int LOOKUPS = 20;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void timesTheAcquiresOfConcurrentLookups() {
+        // Given
+        WebClient client = WebClient.create("http://localhost:" + port);
+
+        // When: distinct keys, so that no lookup is coalesced with or cached for another
+        Flux.range(0, LOOKUPS)
+                .flatMap(i -> client.get()
+                        .uri("/api/v1/prices?applicationDate=2020-06-14T10:00:00Z&productId={product}&brandId=1",
+                                35_455 + i)
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode())), LOOKUPS)
+                .blockLast(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(meterRegistry.get("r2dbc.pool.acquire.wait")
+                .tags("name", "connectionFactory", "outcome", "success")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("r2dbc.pool.allocation")
+                .tags("name", "connectionFactory", "outcome", "success")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("r2dbc.pool.pending").tag("name", "connectionFactory").gauge().value()).isZero();
+        assertThat(meterRegistry.get("r2dbc.pool.max.allocated").tag("name", "connectionFactory").gauge().value())
+                .isEqualTo(1);
+    }
+}
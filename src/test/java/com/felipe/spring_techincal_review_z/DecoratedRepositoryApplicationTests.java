@@ -0,0 +1,38 @@
+package com.felipe.spring_techincal_review_z;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} through the optional
+ * repository decorators (timeline cache and unknown-key short circuit).
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "pricing.cache.enabled=true",
+                "pricing.negative-lookup.enabled=true"
+        })
+class DecoratedRepositoryApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void exposesCacheMetrics() {
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "price-timelines").functionCounters()).isNotEmpty();
+    }
+
+    @Test
+    void shortCircuitsUnknownKeys() {
+        double before = meterRegistry.get("pricing.lookup.short.circuited").counter().count();
+
+        testNotFound();
+
+        assertThat(meterRegistry.get("pricing.lookup.short.circuited").counter().count()).isEqualTo(before + 1);
+    }
+}
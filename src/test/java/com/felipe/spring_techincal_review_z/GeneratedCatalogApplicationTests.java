@@ -0,0 +1,61 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.api.model.PriceResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} with a small synthetic
+ * catalog seeded next to the sample data.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "pricing.generator.enabled=true",
+                "pricing.generator.brands=2",
+                "pricing.generator.products-per-brand=25",
+                "pricing.generator.price-lists-per-product=4",
+                "pricing.generator.first-product-id=2000000",
+                "pricing.generator.batch-size=30"
+        })
+class GeneratedCatalogApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void seedsConfiguredNumberOfRows() {
+        Long rows = databaseClient.sql("SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID >= 2000000")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+
+        assertThat(rows).isEqualTo(2L * 25 * 4);
+    }
+
+    @Test
+    void resolvesGeneratedProducts() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/prices")
+                        .queryParam("applicationDate", "2020-03-01T10:00:00Z")
+                        .queryParam("productId", 2000024)
+                        .queryParam("brandId", 2)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceResponse.class)
+                .value(response -> {
+                    assertThat(response.getProductId()).isEqualTo(2000024L);
+                    assertThat(response.getBrandId()).isEqualTo(2L);
+                });
+    }
+}
@@ -0,0 +1,27 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.InMemoryPriceRepositoryAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} against the in-memory
+ * interval index, which must answer exactly like the SQL lookup.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "pricing.repository.type=in-memory")
+class InMemoryRepositoryApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Test
+    void usesInMemoryIndex() {
+        assertThat(priceRepository).isInstanceOf(InMemoryPriceRepositoryAdapter.class);
+    }
+}
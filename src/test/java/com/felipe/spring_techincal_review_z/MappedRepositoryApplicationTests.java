@@ -0,0 +1,36 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.MappedPriceRepositoryAdapter;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot.MappedPriceCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} against the memory-mapped
+ * snapshot, which must answer exactly like the SQL lookup.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "pricing.repository.type=mapped",
+                "pricing.snapshot.file=target/mapped-repository-test/prices.snapshot"
+        })
+class MappedRepositoryApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Test
+    void usesMappedSnapshot() throws IOException {
+        assertThat(priceRepository).isInstanceOf(MappedPriceRepositoryAdapter.class);
+        assertThat(MappedPriceCatalog.open(Path.of("target/mapped-repository-test/prices.snapshot")).size())
+                .isGreaterThanOrEqualTo(4);
+    }
+}
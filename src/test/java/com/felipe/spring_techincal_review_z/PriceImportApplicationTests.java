@@ -0,0 +1,97 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.api.model.PriceResponse;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImportResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} with the bulk import enabled
+ * and checks that uploaded price lists become visible to lookups.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "pricing.import.enabled=true",
+                "pricing.import.batch-size=2"
+        })
+class PriceImportApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void importsCsvUpload() {
+        // Products 78001/78002 are not part of data.sql, so other test classes sharing the database are unaffected
+        String csv = """
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+                1,2021-01-01 00:00:00,2021-12-31 23:59:59,1,78001,0,12.00,EUR
+                1,2021-03-01 00:00:00,2021-03-31 23:59:59,2,78001,1,9.50,EUR
+                1,broken,2021-12-31 23:59:59,1,78001,0,12.00,EUR
+                """;
+
+        webTestClient.post()
+                .uri("/api/v1/admin/prices/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceImportResult.class)
+                .value(result -> {
+                    assertThat(result.imported()).isEqualTo(2);
+                    assertThat(result.rejected()).isEqualTo(1);
+                });
+
+        expectPrice(78001, "2021-03-15T10:00:00Z", 2, 9.50);
+    }
+
+    @Test
+    void importsNdjsonUpload() {
+        String ndjson = """
+                {"BRAND_ID":1,"PRODUCT_ID":78002,"PRICE_LIST":1,"START_DATE":"2021-01-01T00:00:00","END_DATE":"2021-12-31T23:59:59","PRICE":7.25,"CURR":"EUR","PRIORITY":0}
+                """;
+
+        webTestClient.post()
+                .uri("/api/v1/admin/prices/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(ndjson)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceImportResult.class)
+                .value(result -> assertThat(result.imported()).isEqualTo(1));
+
+        expectPrice(78002, "2021-06-01T10:00:00Z", 1, 7.25);
+    }
+
+    @Test
+    void rejectsUploadWithIncompleteHeader() {
+        webTestClient.post()
+                .uri("/api/v1/admin/prices/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("BRAND_ID,PRODUCT_ID\n1,78003\n")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private void expectPrice(long productId, String applicationDate, int priceList, double price) {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/prices")
+                        .queryParam("applicationDate", applicationDate)
+                        .queryParam("productId", productId)
+                        .queryParam("brandId", 1)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceResponse.class)
+                .value(response -> {
+                    assertThat(response.getPriceList()).isEqualTo(priceList);
+                    assertThat(response.getPrice()).isEqualTo(price);
+                });
+    }
+}
@@ -0,0 +1,60 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.api.model.PriceResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} through the timeout,
+ * bulkhead and circuit breaker of single lookups, and checks the last known price fallback.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "pricing.resilience.enabled=true")
+class ResilientRepositoryApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    private static final String LOOKUP = "/api/v1/prices?applicationDate={date}&productId=35455&brandId=1";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakers;
+
+    @Test
+    void servesLastKnownPriceWhileCircuitIsOpen() {
+        webTestClient.get().uri(LOOKUP, "2020-06-14T16:00:00Z")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Price-Stale");
+
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker("priceLookup");
+        circuitBreaker.transitionToForcedOpenState();
+        try {
+            webTestClient.get().uri(LOOKUP, "2020-06-14T17:00:00Z")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals("X-Price-Stale", "true")
+                    .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .expectBody(PriceResponse.class)
+                    .value(response -> {
+                        assertThat(response.getPriceList()).isEqualTo(2);
+                        assertThat(response.getPrice()).isEqualTo(25.45);
+                    });
+
+            webTestClient.get().uri(LOOKUP, "2020-06-16T21:00:00Z")
+                    .exchange()
+                    .expectStatus().isEqualTo(503)
+                    .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+        } finally {
+            circuitBreaker.transitionToClosedState();
+        }
+    }
+}
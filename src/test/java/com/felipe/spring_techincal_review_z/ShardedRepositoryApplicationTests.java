@@ -0,0 +1,120 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.api.model.PriceBatchRequest;
+import com.felipe.api.model.PriceBatchResponse;
+import com.felipe.api.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShard;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShards;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogEvents;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} with lookups routed over three
+ * in-memory H2 databases standing in for separate shard databases.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "pricing.sharding.enabled=true",
+                "pricing.sharding.strategy=brand-product",
+                "pricing.sharding.urls[0]=r2dbc:h2:mem:///price_shard_0;DB_CLOSE_DELAY=-1",
+                "pricing.sharding.urls[1]=r2dbc:h2:mem:///price_shard_1;DB_CLOSE_DELAY=-1",
+                "pricing.sharding.urls[2]=r2dbc:h2:mem:///price_shard_2;DB_CLOSE_DELAY=-1"
+        })
+class ShardedRepositoryApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    // Products 78000+ are not part of data.sql, so other test classes sharing the database are unaffected
+    private static final List<Long> PRODUCTS = LongStream.range(78_000, 78_012).boxed().toList();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PriceShards shards;
+
+    @Autowired
+    private R2dbcPriceRepository r2dbcRepository;
+
+    @Autowired
+    private PriceCatalogEvents catalogEvents;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void exposesShardPoolMetrics() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(meterRegistry.get("r2dbc.pool.max.allocated").tag("name", "price-shard-" + i).gauge().value())
+                    .isEqualTo(10);
+            assertThat(meterRegistry.get("r2dbc.pool.allocation")
+                    .tags("name", "price-shard-" + i, "outcome", "success")
+                    .timer().count()).isPositive();
+        }
+    }
+
+    @Test
+    void batchFansOutAcrossShards() {
+        Set<PriceKey> keys = PRODUCTS.stream().map(product -> new PriceKey(product, 3L)).collect(Collectors.toSet());
+        Flux.fromIterable(PRODUCTS).concatMap(product -> r2dbcRepository.save(entity(product)))
+                .then(catalogEvents.publish(PriceCatalogChangedEvent.forKeys(keys)))
+                .block();
+
+        Set<PriceShard> holding = keys.stream().map(shards::route).collect(Collectors.toSet());
+        assertThat(holding).hasSizeGreaterThan(1);
+
+        PriceBatchRequest request = new PriceBatchRequest();
+        PRODUCTS.forEach(product -> request.addItemsItem(new PriceQuery()
+                .applicationDate(OffsetDateTime.of(2021, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC))
+                .productId(product)
+                .brandId(3L)));
+
+        webTestClient.post()
+                .uri("/api/v1/prices/batch")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceBatchResponse.class)
+                .value(response -> {
+                    assertThat(response.getResults()).hasSize(PRODUCTS.size());
+                    assertThat(response.getResults()).allSatisfy(result -> {
+                        assertThat(result.getFound()).isTrue();
+                        assertThat(result.getPrice().getPrice()).isEqualTo(12.00);
+                    });
+                    assertThat(response.getResults()).extracting(result -> result.getPrice().getProductId())
+                            .containsExactlyElementsOf(PRODUCTS);
+                });
+    }
+
+    private static PriceEntity entity(long productId) {
+        PriceEntity entity = new PriceEntity();
+        entity.setBrandId(3L);
+        entity.setProductId(productId);
+        entity.setPriceList(1);
+        entity.setStartDate(LocalDateTime.of(2021, 1, 1, 0, 0));
+        entity.setEndDate(LocalDateTime.of(2021, 12, 31, 23, 59, 59));
+        entity.setPriority(0);
+        entity.setPrice(new BigDecimal("12.00"));
+        entity.setCurrency("EUR");
+        return entity;
+    }
+}
@@ -1,11 +1,42 @@
 package com.felipe.spring_techincal_review_z;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.api.model.PriceBatchRequest;
+import com.felipe.api.model.PriceBatchResponse;
+import com.felipe.api.model.PriceQuery;
 import com.felipe.api.model.PriceResponse;
+import com.felipe.api.model.PriceSegmentResponse;
+import com.felipe.api.model.PriceUpdateResponse;
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.PriceBulkWriter;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogEvents;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogWrites;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImportFormat;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImportProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.importer.PriceImporter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,6 +47,21 @@ class SpringTechincalReviewZApplicationTests {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PriceCatalogEvents catalogEvents;
+
+    @Autowired
+    private PriceCatalogWrites catalogWrites;
+
+    @Autowired
+    private PriceBulkWriter bulkWriter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void test1_requestAt10OnDay14() {
         // Test 1: request at 10:00 on the 14th for product 35455 for brand 1 (ZARA)
@@ -38,6 +84,34 @@ class SpringTechincalReviewZApplicationTests {
                 });
     }
 
+    @Test
+    void testLookupAnswersNotModifiedForMatchingEntityTag() {
+        String etag = webTestClient.get()
+                .uri("/api/v1/prices?applicationDate=2020-06-14T10:00:00Z&productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isOk()
+                // The sample prices stopped applying years ago, so clients must revalidate
+                .expectHeader().cacheControl(CacheControl.noCache())
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(PriceResponse.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.get()
+                .uri("/api/v1/prices?applicationDate=2020-06-14T12:00:00Z&productId=35455&brandId=1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
+
+        webTestClient.get()
+                .uri("/api/v1/prices?applicationDate=2020-06-14T16:00:00Z&productId=35455&brandId=1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.ETAG, value -> assertThat(value).isNotEqualTo(etag));
+    }
+
     @Test
     void test2_requestAt16OnDay14() {
         // Test 2: request at 16:00 on the 14th for product 35455 for brand 1 (ZARA)
@@ -141,6 +215,9 @@ class SpringTechincalReviewZApplicationTests {
 
     @Test
     void testInvalidProductId() {
+        long controllerBefore = lookupCount("controller", "error");
+        long useCaseBefore = lookupCount("use-case", "error");
+
         webTestClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/api/v1/prices")
@@ -150,6 +227,10 @@ class SpringTechincalReviewZApplicationTests {
                         .build())
                 .exchange()
                 .expectStatus().isBadRequest();
+
+        // Rejected inputs are timed as errors at both layers
+        assertThat(lookupCount("controller", "error")).isEqualTo(controllerBefore + 1);
+        assertThat(lookupCount("use-case", "error")).isEqualTo(useCaseBefore + 1);
     }
 
     @Test
@@ -203,4 +284,307 @@ class SpringTechincalReviewZApplicationTests {
                 });
     }
 
+    @Test
+    void testBatchReturnsResultsInRequestOrder() {
+        PriceBatchRequest request = new PriceBatchRequest()
+                .addItemsItem(query("2020-06-14T10:00:00Z", 35455L, 1L))
+                .addItemsItem(query("2020-06-14T16:00:00Z", 35455L, 1L))
+                .addItemsItem(query("2021-01-01T10:00:00Z", 99999L, 1L))
+                .addItemsItem(query("2020-06-14T21:00:00Z", 35455L, 1L))
+                .addItemsItem(query("2020-06-15T10:00:00Z", 35455L, 1L))
+                .addItemsItem(query("2020-06-16T21:00:00Z", 35455L, 1L))
+                .addItemsItem(query("2020-06-14T10:00:00Z", 35455L, 1L));
+
+        webTestClient.post()
+                .uri("/api/v1/prices/batch")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceBatchResponse.class)
+                .value(response -> {
+                    assertThat(response.getResults()).hasSize(7);
+                    assertThat(response.getResults().get(2).getFound()).isFalse();
+                    assertThat(response.getResults().get(2).getPrice()).isNull();
+                    assertThat(response.getResults())
+                            .extracting(result -> result.getPrice() == null ? null : result.getPrice().getPriceList())
+                            .containsExactly(1, 2, null, 1, 3, 4, 1);
+                });
+    }
+
+    @Test
+    void testSubSecondPeriodsAreReadAlikeByEveryAdapter() {
+        // Product 78010 is not part of data.sql; the import truncates its start to 10:00:00, which
+        // every adapter must then agree on, whatever its own date encoding
+        PriceImporter importer = new PriceImporter(bulkWriter, catalogEvents, catalogWrites, objectMapper,
+                new PriceImportProperties(true, 100, 1, null, false, null));
+        String ndjson = "{\"BRAND_ID\":1,\"PRODUCT_ID\":78010,\"PRICE_LIST\":1,\"START_DATE\":\"2021-01-01T10:00:00.600\","
+                + "\"END_DATE\":\"2021-01-01T12:00:00.400\",\"PRICE\":7.25,\"CURR\":\"EUR\",\"PRIORITY\":0}\n";
+
+        StepVerifier.create(importer.importPrices(
+                        Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(ndjson.getBytes(StandardCharsets.UTF_8))),
+                        PriceImportFormat.NDJSON))
+                .assertNext(result -> assertThat(result.imported()).isEqualTo(1))
+                .verifyComplete();
+
+        webTestClient.get()
+                .uri("/api/v1/prices?applicationDate=2021-01-01T10:00:00.300Z&productId=78010&brandId=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceResponse.class)
+                .value(response -> assertThat(response.getStartDate())
+                        .isEqualTo(OffsetDateTime.parse("2021-01-01T10:00:00Z")));
+        webTestClient.get()
+                .uri("/api/v1/prices?applicationDate=2021-01-01T12:00:00.200Z&productId=78010&brandId=1")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        Price fractional = Price.create(null, 1L, 78011L, 1, LocalDateTime.parse("2021-01-01T10:00:00.600"),
+                LocalDateTime.parse("2021-01-01T12:00:00"), new BigDecimal("7.25"), "EUR", 0);
+        StepVerifier.create(bulkWriter.insert(List.of(fractional)))
+                .expectError()
+                .verify();
+    }
+
+    @Test
+    void testLookupNegotiatesCbor() {
+        byte[] json = lookupBody("2020-06-14T16:00:00Z");
+
+        webTestClient.get()
+                .uri("/api/v1/prices?applicationDate=2020-06-14T16:00:00Z&productId=35455&brandId=1")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .value(cbor -> assertThat(cbor.length).isLessThan(json.length));
+
+        webTestClient.get()
+                .uri("/api/v1/prices?applicationDate=2020-06-14T16:00:00Z&productId=35455&brandId=1")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectBody(PriceResponse.class)
+                .value(response -> {
+                    assertThat(response.getPriceList()).isEqualTo(2);
+                    assertThat(response.getPrice()).isEqualTo(25.45);
+                    assertThat(response.getStartDate()).isEqualTo(OffsetDateTime.parse("2020-06-14T15:00:00Z"));
+                    assertThat(response.getEndDate()).isEqualTo(OffsetDateTime.parse("2020-06-14T18:30:00Z"));
+                });
+    }
+
+    @Test
+    void testLookupTagsJsonAndCborApart() {
+        String uri = "/api/v1/prices?applicationDate=2020-06-14T16:00:00Z&productId=35455&brandId=1";
+        HttpHeaders json = webTestClient.get().uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(PriceResponse.class)
+                .getResponseHeaders();
+        HttpHeaders cbor = webTestClient.get().uri(uri)
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(PriceResponse.class)
+                .getResponseHeaders();
+
+        assertThat(json.getVary()).contains(HttpHeaders.ACCEPT);
+        assertThat(cbor.getVary()).contains(HttpHeaders.ACCEPT);
+        assertThat(cbor.getETag()).isNotNull().isNotEqualTo(json.getETag());
+
+        webTestClient.get().uri(uri)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, json.getETag())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void testBatchAcceptsAndReturnsCbor() {
+        PriceBatchRequest request = new PriceBatchRequest()
+                .addItemsItem(query("2020-06-14T10:00:00Z", 35455L, 1L))
+                .addItemsItem(query("2021-01-01T10:00:00Z", 99999L, 1L))
+                .addItemsItem(query("2020-06-15T10:00:00Z", 35455L, 1L));
+
+        webTestClient.post()
+                .uri("/api/v1/prices/batch")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(PriceBatchResponse.class)
+                .value(response -> assertThat(response.getResults())
+                        .extracting(result -> result.getPrice() == null ? null : result.getPrice().getPriceList())
+                        .containsExactly(1, null, 3));
+    }
+
+    @Test
+    void testBatchRejectsTooManyItems() {
+        PriceBatchRequest request = new PriceBatchRequest();
+        IntStream.range(0, 201).forEach(i -> request.addItemsItem(query("2020-06-14T10:00:00Z", 35455L, 1L)));
+
+        webTestClient.post()
+                .uri("/api/v1/prices/batch")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testBatchRejectsInvalidItem() {
+        PriceBatchRequest request = new PriceBatchRequest()
+                .addItemsItem(query("2020-06-14T10:00:00Z", 35455L, 1L))
+                .addItemsItem(query("2020-06-14T10:00:00Z", -1L, 1L));
+
+        webTestClient.post()
+                .uri("/api/v1/prices/batch")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testTimelineStreamsEffectiveSegments() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/prices/timeline")
+                        .queryParam("productId", 35455)
+                        .queryParam("brandId", 1)
+                        .queryParam("from", "2020-06-14T00:00:00Z")
+                        .queryParam("to", "2020-06-15T23:59:59Z")
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(PriceSegmentResponse.class)
+                .value(segments -> {
+                    assertThat(segments).extracting(PriceSegmentResponse::getPriceList)
+                            .containsExactly(1, 2, 1, 3, 1, 4);
+                    assertThat(segments.get(1).getStartDate()).isEqualTo(OffsetDateTime.parse("2020-06-14T15:00:00Z"));
+                    assertThat(segments.get(1).getEndDate()).isEqualTo(OffsetDateTime.parse("2020-06-14T18:30:00Z"));
+                    assertThat(segments.get(5).getEndDate()).isEqualTo(OffsetDateTime.parse("2020-06-15T23:59:59Z"));
+                });
+    }
+
+    @Test
+    void testTimelineRejectsInvertedPeriod() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/prices/timeline")
+                        .queryParam("productId", 35455)
+                        .queryParam("brandId", 1)
+                        .queryParam("from", "2020-06-15T00:00:00Z")
+                        .queryParam("to", "2020-06-14T00:00:00Z")
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testPriceUpdatesArePushedOnCatalogChange() {
+        var updates = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/prices/updates")
+                        .queryParam("key", "35455:1")
+                        .build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(PriceUpdateResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(updates)
+                .assertNext(update -> {
+                    assertThat(update.getReason()).isEqualTo(PriceUpdateResponse.ReasonEnum.INITIAL);
+                    assertThat(update.getProductId()).isEqualTo(35455L);
+                    assertThat(update.getBrandId()).isEqualTo(1L);
+                })
+                .then(() -> catalogEvents.publish(PriceCatalogChangedEvent.forKeys(Set.of(new PriceKey(35455L, 1L)))).block())
+                .assertNext(update -> assertThat(update.getReason()).isEqualTo(PriceUpdateResponse.ReasonEnum.CATALOG_CHANGED))
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void testPriceUpdatesAreStreamedAsNdjson() {
+        var updates = webTestClient.get()
+                .uri("/api/v1/prices/updates?key=35455:1")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PriceUpdateResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(updates)
+                .assertNext(update -> assertThat(update.getReason()).isEqualTo(PriceUpdateResponse.ReasonEnum.INITIAL))
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void testPriceUpdatesRejectMalformedKey() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/prices/updates")
+                        .queryParam("key", "35455-1")
+                        .build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testLookupLatencyIsRecordedPerLayer() {
+        long controllerBefore = lookupCount("controller", "found");
+        long useCaseBefore = lookupCount("use-case", "found");
+
+        test1_requestAt10OnDay14();
+
+        assertThat(lookupCount("controller", "found")).isEqualTo(controllerBefore + 1);
+        assertThat(lookupCount("use-case", "found")).isEqualTo(useCaseBefore + 1);
+    }
+
+    @Test
+    void testLookupBodyIsEncodedOncePerPrice() {
+        byte[] first = lookupBody("2020-06-14T10:00:00Z");
+        double hitsBefore = meterRegistry.get("cache.gets")
+                .tags("cache", "price-response-bodies", "result", "hit")
+                .functionCounter().count();
+
+        byte[] second = lookupBody("2020-06-14T12:00:00Z");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(new String(second)).contains("\"priceList\":1", "\"price\":35.5");
+        assertThat(meterRegistry.get("cache.gets")
+                .tags("cache", "price-response-bodies", "result", "hit")
+                .functionCounter().count()).isEqualTo(hitsBefore + 1);
+    }
+
+    private byte[] lookupBody(String applicationDate) {
+        return webTestClient.get()
+                .uri("/api/v1/prices?applicationDate={date}&productId=35455&brandId=1", applicationDate)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().returnResult().getResponseBody();
+    }
+
+    private long lookupCount(String stage, String outcome) {
+        var timer = meterRegistry.find("pricing.lookup")
+                .tags("stage", stage, "outcome", outcome, "brand", "1")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static PriceQuery query(String applicationDate, Long productId, Long brandId) {
+        return new PriceQuery()
+                .applicationDate(OffsetDateTime.parse(applicationDate))
+                .productId(productId)
+                .brandId(brandId);
+    }
+
 }
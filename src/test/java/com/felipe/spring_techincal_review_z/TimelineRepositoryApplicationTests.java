@@ -0,0 +1,71 @@
+package com.felipe.spring_techincal_review_z;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.TimelinePriceRepositoryAdapter;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogEvents;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every scenario of {@link SpringTechincalReviewZApplicationTests} against the materialized
+ * {@code PRICE_TIMELINE} table.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "pricing.repository.type=timeline")
+class TimelineRepositoryApplicationTests extends SpringTechincalReviewZApplicationTests {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private R2dbcPriceRepository r2dbcRepository;
+
+    @Autowired
+    private PriceCatalogEvents catalogEvents;
+
+    @Test
+    void usesMaterializedTimeline() {
+        assertThat(priceRepository).isInstanceOf(TimelinePriceRepositoryAdapter.class);
+    }
+
+    @Test
+    void rebuildsTimelineOfWrittenKeys() {
+        // Product 77001 is not part of data.sql, so other test classes sharing the database are unaffected
+        LocalDateTime applicationDate = LocalDateTime.of(2021, 3, 1, 12, 0);
+        PriceEntity base = entity(1, 0, "10.00");
+        PriceEntity promotion = entity(2, 5, "8.00");
+
+        StepVerifier.create(r2dbcRepository.save(base)
+                        .then(r2dbcRepository.save(promotion))
+                        .then(catalogEvents.publish(PriceCatalogChangedEvent.forKeys(Set.of(new PriceKey(77001L, 2L)))))
+                        .then(priceRepository.findApplicablePrice(applicationDate, 77001L, 2L)))
+                .assertNext(applicable -> assertThat(applicable.price().priceList()).isEqualTo(2))
+                .verifyComplete();
+    }
+
+    private static PriceEntity entity(int priceList, int priority, String price) {
+        PriceEntity entity = new PriceEntity();
+        entity.setBrandId(2L);
+        entity.setProductId(77001L);
+        entity.setPriceList(priceList);
+        entity.setStartDate(LocalDateTime.of(2021, 1, 1, 0, 0));
+        entity.setEndDate(LocalDateTime.of(2021, 12, 31, 23, 59, 59));
+        entity.setPriority(priority);
+        entity.setPrice(new BigDecimal(price));
+        entity.setCurrency("EUR");
+        return entity;
+    }
+}
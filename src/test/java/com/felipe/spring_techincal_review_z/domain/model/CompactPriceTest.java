@@ -0,0 +1,58 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactPrice Unit Tests")
+class CompactPriceTest {
+
+    private static final Price PRICE = new Price(2L, 1L, 35455L, 2,
+            LocalDateTime.parse("2020-06-14T15:00:00"), LocalDateTime.parse("2020-06-14T18:30:00"),
+            new BigDecimal("25.45"), "EUR", 1);
+
+    @Test
+    @DisplayName("Should keep every field through a round trip")
+    void shouldRoundTrip() {
+        // When
+        CompactPrice compact = CompactPrice.of(PRICE);
+
+        // Then
+        assertThat(compact.startEpochSecond()).isEqualTo(1592146800L);
+        assertThat(compact.priceMinor()).isEqualTo(2545L);
+        assertThat(compact.toPrice()).isEqualTo(PRICE);
+    }
+
+    @Test
+    @DisplayName("Should widen the amount like BigDecimal does")
+    void shouldWidenAmountLikeBigDecimal() {
+        for (String amount : new String[]{"25.45", "35.50", "0.01", "38.95", "99999999.99", "-12.34"}) {
+            CompactPrice compact = CompactPrice.of(PRICE.withPrice(new BigDecimal(amount)));
+
+            assertThat(compact.amountAsDouble()).isEqualTo(new BigDecimal(amount).doubleValue());
+            assertThat(compact.amount()).isEqualByComparingTo(amount);
+        }
+    }
+
+    @Test
+    @DisplayName("Should share one instance per currency code")
+    void shouldInternCurrency() {
+        CompactPrice first = CompactPrice.of(PRICE.withPriority(1));
+        CompactPrice second = CompactPrice.of(new Price(3L, 1L, 35455L, 2, PRICE.startDate(), PRICE.endDate(),
+                PRICE.price(), new String(new char[]{'E', 'U', 'R'}), 1));
+
+        assertThat(second.currency()).isSameAs(first.currency());
+    }
+
+    @Test
+    @DisplayName("Should refuse amounts finer than minor units")
+    void shouldRefuseSubMinorAmounts() {
+        assertThatThrownBy(() -> CompactPrice.of(PRICE.withPrice(new BigDecimal("25.455"))))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,126 @@
+package com.felipe.spring_techincal_review_z.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceTimeline Unit Tests")
+class PriceTimelineTest {
+
+    private static final Price BASE = price(1L, 1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50", 0);
+    private static final Price AFTERNOON = price(2L, 2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45", 1);
+    private static final Price MORNING = price(3L, 3, "2020-06-15T00:00:00", "2020-06-15T11:00:00", "30.50", 1);
+    private static final Price EVENING = price(4L, 4, "2020-06-15T16:00:00", "2020-12-31T23:59:59", "38.95", 1);
+
+    private final PriceTimeline timeline = PriceTimeline.of(List.of(BASE, AFTERNOON, MORNING, EVENING));
+
+    @Test
+    @DisplayName("Should resolve the five reference scenarios")
+    void shouldResolveReferenceScenarios() {
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-14T10:00:00"))).contains(BASE);
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-14T16:00:00"))).contains(AFTERNOON);
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-14T21:00:00"))).contains(BASE);
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-15T10:00:00"))).contains(MORNING);
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-16T21:00:00"))).contains(EVENING);
+    }
+
+    @Test
+    @DisplayName("Should treat start and end dates as inclusive")
+    void shouldTreatBoundsAsInclusive() {
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-14T00:00:00"))).contains(BASE);
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-14T15:00:00"))).contains(AFTERNOON);
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-14T18:30:00"))).contains(AFTERNOON);
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-14T18:30:00.000001"))).contains(BASE);
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-12-31T23:59:59"))).contains(EVENING);
+    }
+
+    @Test
+    @DisplayName("Should return empty outside every price range")
+    void shouldReturnEmptyOutsideRanges() {
+        assertThat(timeline.priceAt(LocalDateTime.parse("2020-06-13T23:59:59"))).isEmpty();
+        assertThat(timeline.priceAt(LocalDateTime.parse("2021-01-01T00:00:00"))).isEmpty();
+        assertThat(PriceTimeline.empty().priceAt(LocalDateTime.parse("2020-06-14T10:00:00"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should flatten overlapping prices into disjoint segments")
+    void shouldFlattenIntoDisjointSegments() {
+        List<PriceSegment> segments = timeline.segments();
+
+        assertThat(segments).extracting(segment -> segment.price().priceList())
+                .containsExactly(1, 2, 1, 3, 1, 4);
+        for (int i = 1; i < segments.size(); i++) {
+            assertThat(segments.get(i).validFrom()).isEqualTo(segments.get(i - 1).validUntil());
+        }
+        assertThat(segments.get(1).validFrom()).isEqualTo(LocalDateTime.parse("2020-06-14T15:00:00"));
+        assertThat(segments.get(1).validUntil()).isEqualTo(LocalDateTime.parse("2020-06-14T18:30:00").plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should resolve the compact winner and how long it keeps winning")
+    void shouldResolveApplicablePrice() {
+        assertThat(timeline.applicableAt(LocalDateTime.parse("2020-06-14T16:00:00"))).contains(new ApplicablePrice(
+                CompactPrice.of(AFTERNOON), LocalDateTime.parse("2020-06-14T18:30:00").plusNanos(1)));
+        assertThat(timeline.applicableAt(LocalDateTime.parse("2020-06-14T18:30:00.5"))).contains(new ApplicablePrice(
+                CompactPrice.of(BASE), LocalDateTime.parse("2020-06-15T00:00:00")));
+        assertThat(timeline.applicableAt(LocalDateTime.parse("2020-06-13T23:59:59.999999999"))).isEmpty();
+        assertThat(timeline.applicableAt(LocalDateTime.parse("2020-12-31T23:59:59.000000001"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should break priority ties by lowest id")
+    void shouldBreakTiesByLowestId() {
+        Price first = price(10L, 7, "2020-01-01T00:00:00", "2020-01-31T00:00:00", "10.00", 5);
+        Price second = price(11L, 8, "2020-01-01T00:00:00", "2020-01-31T00:00:00", "20.00", 5);
+
+        PriceTimeline tied = PriceTimeline.of(List.of(second, first));
+
+        assertThat(tied.priceAt(LocalDateTime.parse("2020-01-15T00:00:00"))).contains(first);
+        assertThat(tied.segments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore prices ending before they start")
+    void shouldIgnoreInvertedRanges() {
+        Price inverted = price(5L, 9, "2020-02-01T00:00:00", "2020-01-01T00:00:00", "1.00", 9);
+
+        assertThat(PriceTimeline.of(List.of(inverted)).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should clip the segments overlapping a period to its bounds")
+    void shouldClipSegmentsToPeriod() {
+        LocalDateTime from = LocalDateTime.parse("2020-06-14T16:00:00");
+        LocalDateTime until = LocalDateTime.parse("2020-06-15T10:00:00");
+
+        List<PriceSegment> segments = timeline.segmentsBetween(from, until);
+
+        assertThat(segments).extracting(segment -> segment.price().priceList()).containsExactly(2, 1, 3);
+        assertThat(segments.get(0).validFrom()).isEqualTo(from);
+        assertThat(segments.get(0).validUntil()).isEqualTo(LocalDateTime.parse("2020-06-14T18:30:00").plusNanos(1));
+        assertThat(segments.get(2).validFrom()).isEqualTo(LocalDateTime.parse("2020-06-15T00:00:00"));
+        assertThat(segments.get(2).validUntil()).isEqualTo(until);
+    }
+
+    @Test
+    @DisplayName("Should return no segments for a period without prices")
+    void shouldReturnNoSegmentsOutsideRanges() {
+        assertThat(timeline.segmentsBetween(
+                LocalDateTime.parse("2020-01-01T00:00:00"), LocalDateTime.parse("2020-06-14T00:00:00"))).isEmpty();
+        assertThat(timeline.segmentsBetween(
+                LocalDateTime.parse("2021-01-01T00:00:00"), LocalDateTime.parse("2021-02-01T00:00:00"))).isEmpty();
+        assertThat(PriceTimeline.empty().segmentsBetween(
+                LocalDateTime.parse("2020-06-14T00:00:00"), LocalDateTime.parse("2020-06-15T00:00:00"))).isEmpty();
+    }
+
+    private static Price price(Long id, int priceList, String start, String end, String amount, int priority) {
+        return new Price(id, 1L, 35455L, priceList,
+                LocalDateTime.parse(start), LocalDateTime.parse(end),
+                new BigDecimal(amount), "EUR", priority);
+    }
+}
@@ -0,0 +1,156 @@
+package com.felipe.spring_techincal_review_z.domain.service;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.model.PriceUpdate.Reason;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceCatalogChanges;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceWatchService Unit Tests")
+class PriceWatchServiceTest {
+
+    private static final PriceKey KEY = new PriceKey(35455L, 1L);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private final Sinks.Many<PriceCatalogChangedEvent> changes = Sinks.many().multicast().directBestEffort();
+    private final PriceCatalogChanges catalogChanges = changes::asFlux;
+
+    private VirtualTimeScheduler scheduler;
+    private PriceWatchService watchService;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.create();
+        scheduler.advanceTimeTo(LocalDateTime.of(2020, 6, 14, 10, 0).toInstant(ZoneOffset.UTC));
+        watchService = new PriceWatchService(priceRepository, catalogChanges, scheduler);
+    }
+
+    @Test
+    @DisplayName("Should push the current price and then every segment boundary")
+    void shouldPushCurrentPriceAndBoundaries() {
+        // Given
+        when(priceRepository.findTimeline(35455L, 1L)).thenReturn(Mono.just(PriceTimeline.of(List.of(
+                price(1, 0, "35.50", LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 30, 23, 59, 59)),
+                price(2, 1, "25.45", LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30))))));
+
+        // When & Then
+        StepVerifier.create(watchService.watchPrices(Set.of(KEY)))
+                .assertNext(update -> {
+                    assertThat(update.reason()).isEqualTo(Reason.INITIAL);
+                    assertThat(update.effectiveFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 10, 0));
+                    assertThat(update.price().priceList()).isEqualTo(1);
+                })
+                .then(() -> scheduler.advanceTimeBy(Duration.ofHours(5)))
+                .assertNext(update -> {
+                    assertThat(update.reason()).isEqualTo(Reason.BOUNDARY);
+                    assertThat(update.effectiveFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+                    assertThat(update.price().priceList()).isEqualTo(2);
+                })
+                .then(() -> scheduler.advanceTimeBy(Duration.ofHours(4)))
+                .assertNext(update -> {
+                    assertThat(update.reason()).isEqualTo(Reason.BOUNDARY);
+                    assertThat(update.price().priceList()).isEqualTo(1);
+                })
+                .then(() -> scheduler.advanceTimeBy(Duration.ofDays(30)))
+                .assertNext(update -> {
+                    assertThat(update.reason()).isEqualTo(Reason.BOUNDARY);
+                    assertThat(update.applicablePrice()).isEmpty();
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reload the timeline when the catalog changes for the watched key")
+    void shouldReloadOnCatalogChange() {
+        // Given
+        when(priceRepository.findTimeline(35455L, 1L)).thenReturn(
+                Mono.just(PriceTimeline.empty()),
+                Mono.just(PriceTimeline.of(List.of(
+                        price(1, 0, "35.50", LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59))))));
+
+        // When & Then
+        StepVerifier.create(watchService.watchPrices(Set.of(KEY)))
+                .assertNext(update -> {
+                    assertThat(update.reason()).isEqualTo(Reason.INITIAL);
+                    assertThat(update.applicablePrice()).isEmpty();
+                })
+                .then(() -> changes.tryEmitNext(PriceCatalogChangedEvent.forKeys(Set.of(new PriceKey(35455L, 2L)))))
+                .expectNoEvent(Duration.ZERO)
+                .then(() -> changes.tryEmitNext(PriceCatalogChangedEvent.forKeys(Set.of(KEY))))
+                .assertNext(update -> {
+                    assertThat(update.reason()).isEqualTo(Reason.CATALOG_CHANGED);
+                    assertThat(update.price().priceList()).isEqualTo(1);
+                })
+                .thenCancel()
+                .verify();
+
+        verify(priceRepository, times(2)).findTimeline(35455L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should drop pending boundaries of a replaced timeline")
+    void shouldDropBoundariesOfReplacedTimeline() {
+        // Given
+        when(priceRepository.findTimeline(35455L, 1L)).thenReturn(
+                Mono.just(PriceTimeline.of(List.of(
+                        price(2, 1, "25.45", LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30))))),
+                Mono.just(PriceTimeline.empty()));
+
+        // When & Then
+        StepVerifier.create(watchService.watchPrices(Set.of(KEY)))
+                .assertNext(update -> assertThat(update.reason()).isEqualTo(Reason.INITIAL))
+                .then(() -> changes.tryEmitNext(PriceCatalogChangedEvent.all()))
+                .assertNext(update -> assertThat(update.reason()).isEqualTo(Reason.CATALOG_CHANGED))
+                .then(() -> scheduler.advanceTimeBy(Duration.ofDays(1)))
+                .expectNoEvent(Duration.ZERO)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject empty or invalid keys")
+    void shouldRejectInvalidKeys() {
+        assertThatThrownBy(() -> watchService.watchPrices(Set.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Watched keys cannot be empty");
+        assertThatThrownBy(() -> watchService.watchPrices(Set.of(new PriceKey(0L, 1L))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Product ID must be positive");
+        assertThatThrownBy(() -> watchService.watchPrices(Set.of(new PriceKey(35455L, -1L))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Brand ID must be positive");
+    }
+
+    private static Price price(int priceList, int priority, String amount, LocalDateTime start, LocalDateTime end) {
+        return new Price((long) priceList, 1L, 35455L, priceList, start, end, new BigDecimal(amount), "EUR", priority);
+    }
+}
@@ -1,7 +1,11 @@
 package com.felipe.spring_techincal_review_z.domain.service;
 
 import com.felipe.spring_techincal_review_z.domain.exception.PriceNotFoundException;
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
 import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
 import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +18,9 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -50,24 +57,25 @@ class PricingServiceTest {
         Long productId = 35455L;
         Long brandId = 1L;
 
-        Price expectedPrice = new Price(
+        ApplicablePrice expectedPrice = new ApplicablePrice(CompactPrice.of(new Price(
                 1L, brandId, productId, 1,
                 LocalDateTime.of(2020, 6, 14, 0, 0),
                 LocalDateTime.of(2020, 12, 31, 23, 59, 59),
                 new BigDecimal("35.50"), "EUR", 0
-        );
+        )), LocalDateTime.of(2021, 1, 1, 0, 0));
 
         when(priceRepository.findApplicablePrice(applicationDate, productId, brandId))
                 .thenReturn(Mono.just(expectedPrice));
 
         // When & Then
         StepVerifier.create(pricingService.getApplicablePrice(applicationDate, productId, brandId))
-                .assertNext(price -> {
+                .assertNext(applicable -> {
+                    CompactPrice price = applicable.price();
                     assertThat(price).isNotNull();
                     assertThat(price.productId()).isEqualTo(productId);
                     assertThat(price.brandId()).isEqualTo(brandId);
                     assertThat(price.priceList()).isEqualTo(1);
-                    assertThat(price.price()).isEqualByComparingTo(new BigDecimal("35.50"));
+                    assertThat(price.amount()).isEqualByComparingTo(new BigDecimal("35.50"));
                     assertThat(price.currency()).isEqualTo("EUR");
                 })
                 .verifyComplete();
@@ -90,7 +98,9 @@ class PricingServiceTest {
         StepVerifier.create(pricingService.getApplicablePrice(applicationDate, productId, brandId))
                 .expectErrorMatches(throwable ->
                         throwable instanceof PriceNotFoundException &&
-                                throwable.getMessage().contains("No applicable price found")
+                                throwable.getMessage().contains("No applicable price found") &&
+                                throwable.getMessage().contains("productId=99999") &&
+                                throwable.getStackTrace().length == 0
                 )
                 .verify();
 
@@ -177,4 +187,89 @@ class PricingServiceTest {
                 .expectError(RuntimeException.class)
                 .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should resolve batch in request order with a single repository call")
+    void shouldResolveBatchInRequestOrder() {
+        // Given
+        PriceQuery hit = new PriceQuery(LocalDateTime.of(2020, 6, 14, 10, 0), 35455L, 1L);
+        PriceQuery miss = new PriceQuery(LocalDateTime.of(2021, 1, 1, 10, 0), 99999L, 1L);
+        Price price = new Price(
+                1L, 1L, 35455L, 1,
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                new BigDecimal("35.50"), "EUR", 0
+        );
+        List<PriceQuery> queries = List.of(miss, hit, hit);
+
+        when(priceRepository.findApplicablePrices(queries)).thenReturn(Mono.just(Map.of(hit, price)));
+
+        // When & Then
+        StepVerifier.create(pricingService.getApplicablePrices(queries))
+                .assertNext(results -> assertThat(results)
+                        .containsExactly(Optional.empty(), Optional.of(price), Optional.of(price)))
+                .verifyComplete();
+
+        verify(priceRepository).findApplicablePrices(queries);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when batch is empty")
+    void shouldThrowExceptionWhenBatchIsEmpty() {
+        // When & Then
+        assertThatThrownBy(() -> pricingService.getApplicablePrices(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Price queries cannot be empty");
+    }
+
+    @Test
+    @DisplayName("Should validate every query of a batch")
+    void shouldValidateEveryBatchQuery() {
+        // Given
+        List<PriceQuery> queries = List.of(
+                new PriceQuery(LocalDateTime.now(), 35455L, 1L),
+                new PriceQuery(LocalDateTime.now(), 35455L, 0L));
+
+        // When & Then
+        assertThatThrownBy(() -> pricingService.getApplicablePrices(queries))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Brand ID must be positive");
+    }
+
+    @Test
+    @DisplayName("Should stream timeline segments clipped to the inclusive period")
+    void shouldStreamSegmentsOfPeriod() {
+        // Given
+        Price base = new Price(
+                1L, 1L, 35455L, 1,
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                new BigDecimal("35.50"), "EUR", 0
+        );
+        LocalDateTime from = LocalDateTime.of(2020, 6, 20, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, 6, 21, 0, 0);
+
+        when(priceRepository.findTimeline(35455L, 1L)).thenReturn(Mono.just(PriceTimeline.of(List.of(base))));
+
+        // When & Then
+        StepVerifier.create(pricingService.getPriceSegments(35455L, 1L, from, to))
+                .assertNext(segment -> {
+                    assertThat(segment.price()).isEqualTo(base);
+                    assertThat(segment.validFrom()).isEqualTo(from);
+                    assertThat(segment.validUntil()).isEqualTo(to.plusNanos(1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a period ending before it starts")
+    void shouldRejectInvertedPeriod() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 6, 21, 0, 0);
+
+        // When & Then
+        assertThatThrownBy(() -> pricingService.getPriceSegments(35455L, 1L, from, from.minusSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("End of period cannot precede its start");
+    }
+}
@@ -0,0 +1,126 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccessLogWebFilter Unit Tests")
+class AccessLogWebFilterTest {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogWebFilter.LOGGER);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Should always log server errors and slow requests")
+    void shouldAlwaysLogErrorsAndSlowRequests() {
+        // Given
+        AccessLogWebFilter filter = filter(0.0, () -> 0.0);
+
+        // When / Then
+        assertThat(filter.reason(HttpStatus.INTERNAL_SERVER_ERROR, false, FAST)).isEqualTo("error");
+        assertThat(filter.reason(HttpStatus.OK, false, SLOW)).isEqualTo("slow");
+        assertThat(filter.reason(HttpStatus.NOT_FOUND, false, FAST)).isNull();
+        assertThat(filter.reason(null, true, FAST)).isEqualTo("error");
+        assertThat(filter.reason(HttpStatus.OK, true, FAST)).isEqualTo("error");
+    }
+
+    @Test
+    @DisplayName("Should log requests whose error propagates past the filter without a status")
+    void shouldLogPropagatedErrors() {
+        // Given
+        AccessLogWebFilter filter = filter(0.0, () -> 0.0);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices"));
+
+        // When
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.error(new IllegalStateException("boom"))))
+                .verifyErrorMessage("boom");
+
+        // Then
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .satisfies(line -> assertThat(line).contains("status=-").endsWith("reason=error"));
+    }
+
+    @Test
+    @DisplayName("Should sample ordinary requests at the configured rate")
+    void shouldSampleOrdinaryRequests() {
+        // Given
+        AccessLogWebFilter filter = filter(0.25, () -> 0.3);
+        AccessLogWebFilter lucky = filter(0.25, () -> 0.2);
+
+        // When / Then
+        assertThat(filter.reason(HttpStatus.OK, false, FAST)).isNull();
+        assertThat(lucky.reason(HttpStatus.OK, false, FAST)).isEqualTo("sampled");
+    }
+
+    @Test
+    @DisplayName("Should write one key=value line per logged request")
+    void shouldWriteSingleLineRecord() {
+        // Given
+        AccessLogWebFilter filter = filter(1.0, () -> 0.0);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/prices?productId=35455&brandId=1"));
+
+        // When
+        StepVerifier.create(filter.filter(exchange, ex -> {
+                    ex.getResponse().setStatusCode(HttpStatus.OK);
+                    return Mono.empty();
+                }))
+                .verifyComplete();
+
+        // Then
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .asString()
+                .startsWith("method=GET path=/api/v1/prices query=\"productId=35455&brandId=1\" status=200 duration_ms=")
+                .endsWith(" reason=sampled")
+                .doesNotContain("\n");
+    }
+
+    @Test
+    @DisplayName("Should not log requests left out of the sample")
+    void shouldSkipUnsampledRequests() {
+        // Given
+        AccessLogWebFilter filter = filter(0.0, () -> 0.0);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices"));
+
+        // When
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+
+        // Then
+        assertThat(appender.list).isEmpty();
+    }
+
+    private static AccessLogWebFilter filter(double sampleRate, DoubleSupplier random) {
+        return new AccessLogWebFilter(new AccessLogProperties(true, sampleRate, Duration.ofMillis(500)), random);
+    }
+}
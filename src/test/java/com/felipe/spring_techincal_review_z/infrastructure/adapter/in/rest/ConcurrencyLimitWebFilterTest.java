@@ -0,0 +1,106 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitWebFilter Unit Tests")
+class ConcurrencyLimitWebFilterTest {
+
+    private static final ConcurrencyLimitProperties PROPERTIES = new ConcurrencyLimitProperties(true,
+            List.of("/api/v1/prices"), 4, 1, 10, 1.5, 0.2, Duration.ofMillis(100), 10, Duration.ofSeconds(2));
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Sinks.Empty<Void> response = Sinks.empty();
+    private final WebFilterChain slowChain = exchange -> response.asMono();
+    private GradientConcurrencyLimit limit;
+    private ConcurrencyLimitWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limit = new GradientConcurrencyLimit(PROPERTIES);
+        filter = new ConcurrencyLimitWebFilter(limit, PROPERTIES, meterRegistry, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Should shed requests beyond the limit with 503, Retry-After and the error body")
+    void shouldShedBeyondLimit() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            filter.filter(lookup(), slowChain).subscribe();
+        }
+        MockServerWebExchange rejected = lookup();
+
+        // When
+        StepVerifier.create(filter.filter(rejected, slowChain)).verifyComplete();
+
+        // Then
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(rejected.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        StepVerifier.create(rejected.getResponse().getBodyAsString())
+                .assertNext(body -> assertThat(body)
+                        .contains("\"status\":503")
+                        .contains("\"error\":\"Service Unavailable\"")
+                        .contains("\"path\":\"/api/v1/prices\""))
+                .verifyComplete();
+        assertThat(meterRegistry.get(ConcurrencyLimitWebFilter.SHED_METRIC).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ConcurrencyLimitWebFilter.IN_FLIGHT_METRIC).gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get(ConcurrencyLimitWebFilter.LIMIT_METRIC).gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should free the slot once the response completes")
+    void shouldReleaseOnCompletion() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            filter.filter(lookup(), slowChain).subscribe();
+        }
+
+        // When
+        response.tryEmitEmpty();
+
+        // Then
+        assertThat(limit.inFlight()).isZero();
+        StepVerifier.create(filter.filter(lookup(), exchange -> Mono.empty())).verifyComplete();
+        assertThat(meterRegistry.get(ConcurrencyLimitWebFilter.SHED_METRIC).counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave other paths unlimited")
+    void shouldIgnoreOtherPaths() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            filter.filter(lookup(), slowChain).subscribe();
+        }
+        MockServerWebExchange timeline = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices/timeline"));
+
+        // When
+        StepVerifier.create(filter.filter(timeline, exchange -> Mono.empty())).verifyComplete();
+
+        // Then
+        assertThat(timeline.getResponse().getStatusCode()).isNull();
+        assertThat(limit.inFlight()).isEqualTo(4);
+    }
+
+    private static MockServerWebExchange lookup() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices?productId=35455&brandId=1"));
+    }
+}
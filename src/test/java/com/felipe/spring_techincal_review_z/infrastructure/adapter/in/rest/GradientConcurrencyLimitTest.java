@@ -0,0 +1,95 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GradientConcurrencyLimit Unit Tests")
+class GradientConcurrencyLimitTest {
+
+    private static final long WINDOW = Duration.ofMillis(100).toNanos();
+    private static final long FAST = Duration.ofMillis(2).toNanos();
+
+    private long now;
+
+    @Test
+    @DisplayName("Should admit requests up to the limit only")
+    void shouldAdmitUpToLimit() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties(2, 1));
+
+        // When / Then
+        assertThat(limit.tryAcquire()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isEqualTo(2);
+        assertThat(limit.tryAcquire()).isZero();
+        limit.release();
+        assertThat(limit.tryAcquire()).isEqualTo(2);
+        assertThat(limit.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should grow while latency holds steady under load")
+    void shouldGrowWithSteadyLatency() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties(20, 4));
+
+        // When
+        windows(limit, 20, FAST, 20);
+
+        // Then
+        assertThat(limit.limit()).isGreaterThan(25);
+    }
+
+    @Test
+    @DisplayName("Should shrink, never below the minimum, once latency rises")
+    void shouldShrinkWhenLatencyRises() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties(20, 18));
+        windows(limit, 5, FAST, 20);
+        int before = limit.limit();
+
+        // When
+        int lowest = before;
+        for (int w = 0; w < 10; w++) {
+            windows(limit, 1, FAST * 100, 20);
+            lowest = Math.min(lowest, limit.limit());
+        }
+
+        // Then
+        assertThat(before).isGreaterThan(20);
+        assertThat(lowest).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("Should not grow while most of the limit goes unused")
+    void shouldNotGrowWhenAppLimited() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties(20, 4));
+
+        // When
+        windows(limit, 20, FAST, 3);
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    // Feeds windows of samples, each just long and large enough to move the limit
+    private void windows(GradientConcurrencyLimit limit, int windows, long rttNanos, int inFlight) {
+        for (int w = 0; w < windows; w++) {
+            for (int i = 0; i < GradientConcurrencyLimit.MIN_WINDOW_SAMPLES; i++) {
+                now += WINDOW / GradientConcurrencyLimit.MIN_WINDOW_SAMPLES;
+                limit.tryAcquire();
+                limit.release(rttNanos, inFlight, now);
+            }
+        }
+    }
+
+    private static ConcurrencyLimitProperties properties(int initialLimit, int minLimit) {
+        return new ConcurrencyLimitProperties(true, List.of(), initialLimit, minLimit, 200, 1.5, 0.2,
+                Duration.ofMillis(100), 50, Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,118 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.api.model.PriceResponse;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceResponseBodies Unit Tests")
+class PriceResponseBodiesTest {
+
+    private static final CompactPrice PRICE = new CompactPrice(2L, 1L, 35455L, 2,
+            1592146800L, 1592159400L, 2545L, "EUR", 1);
+    private static final ResolvableType TYPE = ResolvableType.forClass(PriceResponse.class);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PreEncodedJsonEncoder encoder = new PreEncodedJsonEncoder(objectMapper);
+    private final AtomicInteger mapped = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should map and serialize each price once")
+    void shouldEncodeOncePerPrice() {
+        // Given
+        PriceResponseBodies bodies = bodies(true);
+
+        // When
+        PriceResponse first = bodies.get(PRICE, counting(PriceResponseBodiesTest::map));
+        PriceResponse second = bodies.get(new CompactPrice(2L, 1L, 35455L, 2,
+                1592146800L, 1592159400L, 2545L, "EUR", 1), counting(PriceResponseBodiesTest::map));
+
+        // Then
+        assertThat(first).isInstanceOf(EncodedPriceResponse.class).isSameAs(second);
+        assertThat(first.getPriceList()).isEqualTo(2);
+        assertThat(mapped).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should write the same bytes Jackson writes for a fresh response")
+    void shouldMatchJacksonEncoding() {
+        // Given
+        PriceResponse encoded = bodies(true).get(PRICE, PriceResponseBodiesTest::map);
+
+        // When / Then
+        assertThat(encode(encoded, MediaType.APPLICATION_JSON)).isEqualTo(encode(map(PRICE), MediaType.APPLICATION_JSON));
+        assertThat(encode(encoded, MediaType.APPLICATION_JSON)).contains("\"priceList\":2", "\"price\":25.45");
+    }
+
+    @Test
+    @DisplayName("Should fall back to Jackson for charsets other than UTF-8")
+    void shouldFallBackForOtherCharsets() {
+        // Given
+        PriceResponse encoded = bodies(true).get(PRICE, PriceResponseBodiesTest::map);
+        MediaType utf16 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_16BE);
+
+        // When
+        DataBuffer buffer = encoder.encodeValue(encoded, DefaultDataBufferFactory.sharedInstance, TYPE, utf16, Map.of());
+
+        // Then
+        assertThat(buffer.toString(StandardCharsets.UTF_16BE)).isEqualTo(encode(map(PRICE), MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should map a new response per request when disabled")
+    void shouldMapEveryTimeWhenDisabled() {
+        // Given
+        PriceResponseBodies bodies = bodies(false);
+
+        // When
+        PriceResponse first = bodies.get(PRICE, counting(PriceResponseBodiesTest::map));
+        PriceResponse second = bodies.get(PRICE, counting(PriceResponseBodiesTest::map));
+
+        // Then
+        assertThat(first).isNotInstanceOf(EncodedPriceResponse.class).isNotSameAs(second);
+        assertThat(mapped).hasValue(2);
+    }
+
+    private PriceResponseBodies bodies(boolean enabled) {
+        return new PriceResponseBodies(new PriceResponseBodyProperties(enabled, 100),
+                objectMapper.writerFor(PriceResponse.class), new SimpleMeterRegistry(), "test");
+    }
+
+    private Function<CompactPrice, PriceResponse> counting(Function<CompactPrice, PriceResponse> mapper) {
+        return price -> {
+            mapped.incrementAndGet();
+            return mapper.apply(price);
+        };
+    }
+
+    private String encode(PriceResponse response, MediaType mediaType) {
+        return encoder.encodeValue(response, DefaultDataBufferFactory.sharedInstance, TYPE, mediaType, Map.of())
+                .toString(StandardCharsets.UTF_8);
+    }
+
+    private static PriceResponse map(CompactPrice price) {
+        return new PriceResponse()
+                .productId(price.productId())
+                .brandId(price.brandId())
+                .priceList(price.priceList())
+                .startDate(price.startDate().atOffset(ZoneOffset.UTC))
+                .endDate(price.endDate().atOffset(ZoneOffset.UTC))
+                .price(price.amountAsDouble())
+                .currency(price.currency());
+    }
+}
@@ -0,0 +1,150 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceResponseCaching Unit Tests")
+class PriceResponseCachingTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2020-06-14T16:00:00");
+    private static final CompactPrice PRICE = new CompactPrice(2L, 1L, 35455L, 2,
+            1592146800L, 1592159400L, 2545L, "EUR", 1);
+
+    private final PriceResponseCaching caching = new PriceResponseCaching(
+            new PriceHttpCacheProperties(true, Duration.ofMinutes(10)),
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Should cache until the price stops applying, capped by the configured max-age")
+    void shouldCapMaxAge() {
+        assertThat(caching.cacheControl(NOW.plusMinutes(3).plusNanos(1)).getHeaderValue())
+                .isEqualTo("max-age=180, public");
+        assertThat(caching.cacheControl(NOW.plusHours(2)).getHeaderValue())
+                .isEqualTo("max-age=600, public");
+    }
+
+    @Test
+    @DisplayName("Should not let prices that no longer apply be reused without revalidation")
+    void shouldRevalidateExpiredPrices() {
+        assertThat(caching.cacheControl(NOW).getHeaderValue()).isEqualTo("no-cache");
+        assertThat(caching.cacheControl(NOW.plusNanos(500_000_000)).getHeaderValue()).isEqualTo("no-cache");
+        assertThat(caching.cacheControl(NOW.minusDays(1)).getHeaderValue()).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("Should derive the same entity tag for the same price only")
+    void shouldDeriveStableEntityTag() {
+        CompactPrice repriced = new CompactPrice(2L, 1L, 35455L, 2, 1592146800L, 1592159400L, 2546L, "EUR", 1);
+
+        assertThat(PriceResponseCaching.etag(PRICE, MediaType.APPLICATION_JSON))
+                .isEqualTo(PriceResponseCaching.etag(new CompactPrice(2L, 1L, 35455L, 2,
+                        1592146800L, 1592159400L, 2545L, "EUR", 1), MediaType.APPLICATION_JSON))
+                .isNotEqualTo(PriceResponseCaching.etag(repriced, MediaType.APPLICATION_JSON))
+                .isNotEqualTo(PriceResponseCaching.etag(PRICE, MediaType.APPLICATION_CBOR))
+                .startsWith("\"")
+                .endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the client already holds the current price")
+    void shouldAnswerNotModified() {
+        // Given
+        ApplicablePrice applicable = new ApplicablePrice(PRICE, NOW.plusHours(2));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices")
+                .header(HttpHeaders.IF_NONE_MATCH, PriceResponseCaching.etag(PRICE, MediaType.APPLICATION_JSON)));
+
+        // When
+        boolean notModified = caching.notModified(exchange, applicable);
+
+        // Then
+        assertThat(notModified).isTrue();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(exchange.getResponse().getHeaders().getETag()).isEqualTo(PriceResponseCaching.etag(PRICE, MediaType.APPLICATION_JSON));
+        assertThat(exchange.getResponse().getHeaders().getCacheControl()).isEqualTo("max-age=600, public");
+    }
+
+    @Test
+    @DisplayName("Should vary on Accept and tag each representation apart")
+    void shouldTagEachRepresentation() {
+        // Given
+        ApplicablePrice applicable = new ApplicablePrice(PRICE, NOW.plusHours(2));
+        MockServerWebExchange json = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices"));
+        MockServerWebExchange cbor = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices")
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, PriceResponseCaching.etag(PRICE, MediaType.APPLICATION_JSON)));
+
+        // When
+        caching.notModified(json, applicable);
+        boolean notModified = caching.notModified(cbor, applicable);
+
+        // Then
+        assertThat(notModified).isFalse();
+        assertThat(json.getResponse().getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(cbor.getResponse().getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(cbor.getResponse().getHeaders().getETag())
+                .isEqualTo(PriceResponseCaching.etag(PRICE, MediaType.APPLICATION_CBOR))
+                .isNotEqualTo(json.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should resolve the representation the way the response encoder does")
+    void shouldNegotiateRepresentation() {
+        assertThat(negotiated()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(negotiated("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(negotiated("application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(negotiated("*/*", "application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(negotiated("application/cbor;q=0.5", "application/json")).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    @DisplayName("Should neither tag a stale price nor validate a cached copy with it")
+    void shouldRevalidateStalePrices() {
+        // Given
+        ApplicablePrice applicable = new ApplicablePrice(PRICE, NOW.plusHours(2)).asStale();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices")
+                .header(HttpHeaders.IF_NONE_MATCH, PriceResponseCaching.etag(PRICE, MediaType.APPLICATION_JSON)));
+
+        // When
+        boolean notModified = caching.notModified(exchange, applicable);
+
+        // Then
+        assertThat(notModified).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+        assertThat(exchange.getResponse().getHeaders().getETag()).isNull();
+        assertThat(exchange.getResponse().getHeaders().getCacheControl()).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("Should leave the response untouched when HTTP caching is disabled")
+    void shouldSkipWhenDisabled() {
+        // Given
+        PriceResponseCaching disabled = new PriceResponseCaching(new PriceHttpCacheProperties(false, null),
+                Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/prices")
+                .header(HttpHeaders.IF_NONE_MATCH, PriceResponseCaching.etag(PRICE, MediaType.APPLICATION_JSON)));
+
+        // When / Then
+        assertThat(disabled.notModified(exchange, new ApplicablePrice(PRICE, NOW))).isFalse();
+        assertThat(exchange.getResponse().getHeaders()).doesNotContainKeys(HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL);
+    }
+
+    private static MediaType negotiated(String... accept) {
+        return PriceResponseCaching.negotiatedType(MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/prices").header(HttpHeaders.ACCEPT, accept)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceUpdateHeartbeat Unit Tests")
+class PriceUpdateHeartbeatTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(15);
+
+    @Test
+    @DisplayName("Should send a comment every interval between updates")
+    void shouldInterleaveHeartbeats() {
+        // Given
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        PriceUpdateHeartbeat heartbeat = new PriceUpdateHeartbeat(INTERVAL, scheduler);
+        Sinks.Many<String> updates = Sinks.many().unicast().onBackpressureBuffer();
+
+        // When / Then
+        StepVerifier.withVirtualTime(() -> heartbeat.events(updates.asFlux()), () -> scheduler, Long.MAX_VALUE)
+                .then(() -> updates.tryEmitNext("initial"))
+                .assertNext(event -> assertThat(event.data()).isEqualTo("initial"))
+                .thenAwait(INTERVAL)
+                .assertNext(PriceUpdateHeartbeatTest::assertHeartbeat)
+                .thenAwait(INTERVAL)
+                .assertNext(PriceUpdateHeartbeatTest::assertHeartbeat)
+                .then(() -> updates.tryEmitNext("boundary"))
+                .assertNext(event -> assertThat(event.data()).isEqualTo("boundary"))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should fail the stream, heartbeats included, when the updates fail")
+    void shouldStopWithFailedUpdates() {
+        // Given
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        PriceUpdateHeartbeat heartbeat = new PriceUpdateHeartbeat(INTERVAL, scheduler);
+        Sinks.Many<String> updates = Sinks.many().unicast().onBackpressureBuffer();
+
+        // When / Then
+        StepVerifier.withVirtualTime(() -> heartbeat.events(updates.asFlux()), () -> scheduler, Long.MAX_VALUE)
+                .thenAwait(INTERVAL)
+                .assertNext(PriceUpdateHeartbeatTest::assertHeartbeat)
+                .then(() -> updates.tryEmitError(new IllegalStateException("Catalog unavailable")))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should complete the stream when the updates complete")
+    void shouldStopWithCompletedUpdates() {
+        // Given
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        PriceUpdateHeartbeat heartbeat = new PriceUpdateHeartbeat(INTERVAL, scheduler);
+
+        // When / Then
+        StepVerifier.withVirtualTime(() -> heartbeat.events(Flux.just("initial")), () -> scheduler, Long.MAX_VALUE)
+                .assertNext(event -> assertThat(event.data()).isEqualTo("initial"))
+                .verifyComplete();
+    }
+
+    private static void assertHeartbeat(ServerSentEvent<String> event) {
+        assertThat(event.comment()).isEqualTo(PriceUpdateHeartbeat.COMMENT);
+        assertThat(event.data()).isNull();
+    }
+}
@@ -0,0 +1,224 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.domain.model.PriceTimeline;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingPriceRepository Unit Tests")
+class CachingPriceRepositoryTest {
+
+    private static final Price BASE = new Price(
+            1L, 1L, 35455L, 1,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            new BigDecimal("35.50"), "EUR", 0
+    );
+    private static final Price PROMOTION = new Price(
+            2L, 1L, 35455L, 2,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            new BigDecimal("25.45"), "EUR", 1
+    );
+
+    @Mock
+    private PriceRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+    }
+
+    @Test
+    @DisplayName("Should load a key once and resolve every instant in memory")
+    void shouldLoadKeyOnce() {
+        // Given
+        when(delegate.findTimeline(35455L, 1L)).thenReturn(Mono.just(PriceTimeline.of(List.of(BASE, PROMOTION))));
+        CachingPriceRepository repository = new CachingPriceRepository(delegate, caffeine());
+
+        // When & Then
+        StepVerifier.create(repository.findApplicablePrice(LocalDateTime.of(2020, 6, 14, 10, 0), 35455L, 1L))
+                .expectNext(new ApplicablePrice(CompactPrice.of(BASE), LocalDateTime.of(2020, 6, 14, 15, 0)))
+                .verifyComplete();
+        StepVerifier.create(repository.findApplicablePrice(LocalDateTime.of(2020, 6, 14, 16, 0, 17), 35455L, 1L))
+                .expectNext(new ApplicablePrice(CompactPrice.of(PROMOTION), LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1)))
+                .verifyComplete();
+        StepVerifier.create(repository.findApplicablePrice(LocalDateTime.of(2021, 1, 1, 0, 0), 35455L, 1L))
+                .verifyComplete();
+
+        verify(delegate, times(1)).findTimeline(35455L, 1L);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should forward only uncached batch queries to the delegate")
+    void shouldForwardOnlyUncachedBatchQueries() {
+        // Given
+        PriceQuery cached = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L);
+        PriceQuery uncached = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 12345L, 2L);
+        when(delegate.findTimeline(35455L, 1L)).thenReturn(Mono.just(PriceTimeline.of(List.of(BASE, PROMOTION))));
+        when(delegate.findApplicablePrices(List.of(uncached))).thenReturn(Mono.just(Map.of()));
+        CachingPriceRepository repository = new CachingPriceRepository(delegate, lru(10));
+        repository.findTimeline(35455L, 1L).block();
+
+        // When & Then
+        StepVerifier.create(repository.findApplicablePrices(List.of(cached, uncached)))
+                .assertNext(found -> assertThat(found).containsExactly(Map.entry(cached, PROMOTION)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not call the delegate when the whole batch is cached")
+    void shouldNotCallDelegateForCachedBatch() {
+        // Given
+        when(delegate.findTimeline(35455L, 1L)).thenReturn(Mono.just(PriceTimeline.of(List.of(BASE))));
+        CachingPriceRepository repository = new CachingPriceRepository(delegate, lru(10));
+        repository.findTimeline(35455L, 1L).block();
+
+        // When
+        repository.findApplicablePrices(List.of(new PriceQuery(LocalDateTime.of(2020, 7, 1, 0, 0), 35455L, 1L))).block();
+
+        // Then
+        verify(delegate, never()).findApplicablePrices(any());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used key when full")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        LruPriceTimelineCache cache = lru(2);
+        cache.get(new PriceKey(1, 1), key -> Mono.just(PriceTimeline.empty())).block();
+        cache.get(new PriceKey(2, 1), key -> Mono.just(PriceTimeline.empty())).block();
+        cache.get(new PriceKey(1, 1), key -> Mono.just(PriceTimeline.empty())).block();
+
+        // When
+        cache.get(new PriceKey(3, 1), key -> Mono.just(PriceTimeline.empty())).block();
+
+        // Then
+        assertThat(cache.getIfPresent(new PriceKey(1, 1))).isNotNull();
+        assertThat(cache.getIfPresent(new PriceKey(2, 1))).isNull();
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reload a key once its TTL has elapsed")
+    void shouldExpireAfterTtl() {
+        // Given
+        LruPriceTimelineCache cache = lru(10);
+        PriceKey key = new PriceKey(35455, 1);
+        cache.get(key, k -> Mono.just(PriceTimeline.empty())).block();
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        // Then
+        assertThat(cache.getIfPresent(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not cache failed loads")
+    void shouldNotCacheFailures() {
+        // Given
+        LruPriceTimelineCache cache = lru(10);
+        PriceKey key = new PriceKey(35455, 1);
+
+        // When
+        StepVerifier.create(cache.get(key, k -> Mono.error(new IllegalStateException("boom"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        assertThat(cache.getIfPresent(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep serving cached timelines until a full reload swaps the new ones in")
+    void shouldServeOldTimelinesUntilReloaded() {
+        for (PriceTimelineCache cache : everyPolicy()) {
+            // Given
+            PriceKey key = new PriceKey(35455, 1);
+            PriceTimeline before = PriceTimeline.of(List.of(BASE));
+            PriceTimeline after = PriceTimeline.of(List.of(BASE, PROMOTION));
+            cache.get(key, k -> Mono.just(before)).block();
+            Sinks.One<PriceTimeline> reload = Sinks.one();
+
+            // When & Then
+            StepVerifier.create(cache.reloadAll(k -> reload.asMono()))
+                    .then(() -> assertThat(cache.getIfPresent(key)).isSameAs(before))
+                    .then(() -> reload.tryEmitValue(after))
+                    .verifyComplete();
+            assertThat(cache.getIfPresent(key)).isSameAs(after);
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop timelines whose reload fails and leave invalidated ones out")
+    void shouldDropFailedAndInvalidatedReloads() {
+        for (PriceTimelineCache cache : everyPolicy()) {
+            // Given
+            PriceKey failing = new PriceKey(35455, 1);
+            PriceKey invalidated = new PriceKey(35455, 2);
+            cache.get(failing, k -> Mono.just(PriceTimeline.empty())).block();
+            cache.get(invalidated, k -> Mono.just(PriceTimeline.empty())).block();
+            Sinks.Empty<Void> reload = Sinks.empty();
+
+            // When
+            StepVerifier.create(cache.reloadAll(k -> reload.asMono().then(k.equals(failing)
+                            ? Mono.error(new IllegalStateException("boom"))
+                            : Mono.just(PriceTimeline.of(List.of(BASE))))))
+                    .then(() -> cache.invalidate(invalidated))
+                    .then(reload::tryEmitEmpty)
+                    .verifyComplete();
+
+            // Then
+            assertThat(cache.getIfPresent(failing)).isNull();
+            assertThat(cache.getIfPresent(invalidated)).isNull();
+        }
+    }
+
+    private List<PriceTimelineCache> everyPolicy() {
+        // Both policies publish cache.gets, as meters of different types; keep them in separate registries
+        return List.of(caffeine(), new LruPriceTimelineCache(
+                10, Duration.ofMinutes(10).toNanos(), new SimpleMeterRegistry(), "test", clock::get));
+    }
+
+    private CaffeinePriceTimelineCache caffeine() {
+        return new CaffeinePriceTimelineCache(100, Duration.ofMinutes(10), meterRegistry, "test");
+    }
+
+    private LruPriceTimelineCache lru(long maximumSize) {
+        return new LruPriceTimelineCache(maximumSize, Duration.ofMinutes(10).toNanos(), meterRegistry, "test", clock::get);
+    }
+}
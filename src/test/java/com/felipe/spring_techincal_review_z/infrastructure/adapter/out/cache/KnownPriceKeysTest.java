@@ -0,0 +1,134 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KnownPriceKeys Unit Tests")
+class KnownPriceKeysTest {
+
+    private static final PriceKey LOADED = new PriceKey(35455L, 1L);
+    private static final PriceKey IMPORTED = new PriceKey(35456L, 1L);
+    private static final PriceKey UNKNOWN = new PriceKey(99999L, 9L);
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec countSpec;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec scanSpec;
+
+    @Mock
+    private RowsFetchSpec<Long> countRows;
+
+    @Mock
+    private RowsFetchSpec<PriceKey> scanRows;
+
+    private final AtomicBoolean writesPending = new AtomicBoolean();
+    private KnownPriceKeys knownPriceKeys;
+
+    @BeforeEach
+    void setUp() {
+        when(databaseClient.sql("SELECT COUNT(*) FROM (SELECT DISTINCT PRODUCT_ID, BRAND_ID FROM PRICES)")).thenReturn(countSpec);
+        when(databaseClient.sql("SELECT DISTINCT PRODUCT_ID, BRAND_ID FROM PRICES")).thenReturn(scanSpec);
+        doReturn(countRows).when(countSpec).map(any(Function.class));
+        doReturn(scanRows).when(scanSpec).map(any(Function.class));
+        when(countRows.one()).thenReturn(Mono.just(1L));
+        knownPriceKeys = new KnownPriceKeys(databaseClient, writesPending::get, 1_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should report keys absent only after the first load")
+    void shouldReportAbsentAfterFirstLoad() {
+        // Given
+        when(scanRows.all()).thenReturn(Flux.just(LOADED));
+        assertThat(knownPriceKeys.isCertainlyAbsent(UNKNOWN)).isFalse();
+
+        // When
+        StepVerifier.create(knownPriceKeys.onCatalogChanged(PriceCatalogChangedEvent.all())).verifyComplete();
+
+        // Then
+        assertThat(knownPriceKeys.isCertainlyAbsent(LOADED)).isFalse();
+        assertThat(knownPriceKeys.isCertainlyAbsent(UNKNOWN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not report keys absent while a catalog write is pending")
+    void shouldNotShortCircuitWhileWritePending() {
+        // Given
+        when(scanRows.all()).thenReturn(Flux.just(LOADED));
+        StepVerifier.create(knownPriceKeys.onCatalogChanged(PriceCatalogChangedEvent.all())).verifyComplete();
+
+        // When
+        writesPending.set(true);
+
+        // Then
+        assertThat(knownPriceKeys.isCertainlyAbsent(IMPORTED)).isFalse();
+        writesPending.set(false);
+        assertThat(knownPriceKeys.isCertainlyAbsent(IMPORTED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep keys added while a rebuild scans the table")
+    void shouldKeepKeysAddedDuringRebuild() {
+        // Given
+        Sinks.Many<PriceKey> scan = Sinks.many().unicast().onBackpressureBuffer();
+        when(scanRows.all()).thenReturn(Flux.just(LOADED), scan.asFlux());
+        StepVerifier.create(knownPriceKeys.onCatalogChanged(PriceCatalogChangedEvent.all())).verifyComplete();
+
+        // When
+        StepVerifier.create(knownPriceKeys.onCatalogChanged(PriceCatalogChangedEvent.all()))
+                .then(() -> {
+                    scan.tryEmitNext(LOADED);
+                    knownPriceKeys.onCatalogChanged(PriceCatalogChangedEvent.forKeys(Set.of(IMPORTED))).block();
+                    scan.tryEmitComplete();
+                })
+                .verifyComplete();
+
+        // Then
+        assertThat(knownPriceKeys.isCertainlyAbsent(LOADED)).isFalse();
+        assertThat(knownPriceKeys.isCertainlyAbsent(IMPORTED)).isFalse();
+        assertThat(knownPriceKeys.isCertainlyAbsent(UNKNOWN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not let an older rebuild replace a newer one")
+    void shouldIgnoreOutOfOrderRebuilds() {
+        // Given
+        Sinks.Many<PriceKey> olderScan = Sinks.many().unicast().onBackpressureBuffer();
+        when(scanRows.all()).thenReturn(olderScan.asFlux(), Flux.just(LOADED, IMPORTED));
+        var older = knownPriceKeys.onCatalogChanged(PriceCatalogChangedEvent.all()).subscribe();
+
+        // When
+        StepVerifier.create(knownPriceKeys.onCatalogChanged(PriceCatalogChangedEvent.all())).verifyComplete();
+        olderScan.tryEmitNext(LOADED);
+        olderScan.tryEmitComplete();
+
+        // Then
+        assertThat(older.isDisposed()).isTrue();
+        assertThat(knownPriceKeys.isCertainlyAbsent(IMPORTED)).isFalse();
+    }
+}
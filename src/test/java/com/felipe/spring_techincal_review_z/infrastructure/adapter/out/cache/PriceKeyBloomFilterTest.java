@@ -0,0 +1,55 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.cache;
+
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PriceKeyBloomFilter Unit Tests")
+class PriceKeyBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added key as absent")
+    void shouldHaveNoFalseNegatives() {
+        // Given
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(50_000, 0.01);
+        for (long product = 1; product <= 50_000; product++) {
+            filter.add(new PriceKey(product, product % 7 + 1));
+        }
+
+        // When & Then
+        for (long product = 1; product <= 50_000; product++) {
+            assertThat(filter.mightContain(new PriceKey(product, product % 7 + 1))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false positives close to the configured probability")
+    void shouldRespectFalsePositiveProbability() {
+        // Given
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(50_000, 0.01);
+        for (long product = 1; product <= 50_000; product++) {
+            filter.add(new PriceKey(product, 1));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (long product = 1; product <= 100_000; product++) {
+            if (filter.mightContain(new PriceKey(product, 2))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid false positive probabilities")
+    void shouldRejectInvalidProbability() {
+        assertThatThrownBy(() -> PriceKeyBloomFilter.create(10, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
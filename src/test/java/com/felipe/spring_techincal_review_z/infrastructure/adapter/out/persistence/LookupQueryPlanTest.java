@@ -0,0 +1,104 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.SchemaMigrations;
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the execution plans of the {@code PRICES} lookups: on a catalog large enough for the
+ * planner to care, the winner must come from {@code idx_prices_priority} walked in index order,
+ * never from sorting the candidates.
+ */
+@DisplayName("Lookup Query Plan Unit Tests")
+class LookupQueryPlanTest {
+
+    private static final long ROWS = 200_000;
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    // Four overlapping prices per product, the shape of data.sql, spread over five brands
+    private static final String GENERATE_PRICES = "INSERT INTO PRICES " +
+            "(BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+            "SELECT 1 + MOD(PRODUCT_ID, 5), " +
+            "CASE V WHEN 0 THEN TIMESTAMP '2020-06-14 00:00:00' WHEN 1 THEN TIMESTAMP '2020-06-14 15:00:00' " +
+            "WHEN 2 THEN TIMESTAMP '2020-06-15 00:00:00' ELSE TIMESTAMP '2020-06-15 16:00:00' END, " +
+            "CASE V WHEN 0 THEN TIMESTAMP '2020-12-31 23:59:59' WHEN 1 THEN TIMESTAMP '2020-06-14 18:30:00' " +
+            "WHEN 2 THEN TIMESTAMP '2020-06-15 11:00:00' ELSE TIMESTAMP '2020-12-31 23:59:59' END, " +
+            "V + 1, PRODUCT_ID, CASE V WHEN 0 THEN 0 ELSE 1 END, 10 + MOD(PRODUCT_ID, 90) + V, 'EUR' " +
+            "FROM (SELECT 100000 + (X - 1) / 4 AS PRODUCT_ID, MOD(X - 1, 4) AS V FROM SYSTEM_RANGE(1, " + ROWS + "))";
+
+    private static CloseableConnectionFactory database;
+    private static DatabaseClient client;
+
+    @BeforeAll
+    static void setUp() {
+        database = H2ConnectionFactory.inMemory("lookup_query_plan");
+        client = DatabaseClient.create(database);
+
+        new SchemaMigrations(database).migrate().block();
+        client.sql(GENERATE_PRICES).then().block();
+        client.sql("ANALYZE").then().block();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("Should resolve a single lookup from the priority index without sorting")
+    void shouldResolveSingleLookupInIndexOrder() {
+        // Given / When
+        String plan = explain(SinglePriceLookup.FROM_PRICES)
+                .bind("applicationDate", APPLICATION_DATE)
+                .bind("productId", 120_000L)
+                .bind("brandId", 1L)
+                .map(row -> row.get(0, String.class))
+                .one()
+                .block();
+
+        // Then
+        assertResolvedInIndexOrder(plan);
+        assertThat(plan).doesNotContainIgnoringCase("table scan");
+    }
+
+    @Test
+    @DisplayName("Should resolve every batch query from the priority index without sorting")
+    void shouldResolveBatchInIndexOrder() {
+        // Given
+        String values = "(0, CAST(:p0 AS BIGINT), CAST(:b0 AS BIGINT), CAST(:d0 AS TIMESTAMP(9))), " +
+                "(1, CAST(:p1 AS BIGINT), CAST(:b1 AS BIGINT), CAST(:d1 AS TIMESTAMP(9)))";
+
+        // When
+        String plan = explain(BatchPriceLookup.fromPricesStatement(values))
+                .bind("p0", 120_000L).bind("b0", 1L).bind("d0", APPLICATION_DATE)
+                .bind("p1", 130_001L).bind("b1", 2L).bind("d1", APPLICATION_DATE)
+                .map(row -> row.get(0, String.class))
+                .one()
+                .block();
+
+        // Then
+        assertResolvedInIndexOrder(plan);
+        assertThat(plan).doesNotContainIgnoringCase("window");
+    }
+
+    private static DatabaseClient.GenericExecuteSpec explain(String sql) {
+        return client.sql("EXPLAIN " + sql);
+    }
+
+    private static void assertResolvedInIndexOrder(String plan) {
+        assertThat(plan)
+                .as("lookup plan%n%s", plan)
+                .contains("IDX_PRICES_PRIORITY")
+                .contains("/* index sorted */")
+                .doesNotContain("index sorted:");
+    }
+}
@@ -0,0 +1,96 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot.PriceSnapshotProperties;
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.SchemaMigrations;
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("MappedPriceRepositoryAdapter Unit Tests")
+class MappedPriceRepositoryAdapterTest {
+
+    private static final String INSERT = "INSERT INTO PRICES " +
+            "(BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+            "VALUES (1, TIMESTAMP '2020-06-14 00:00:00', TIMESTAMP '2020-12-31 23:59:59', 1, %d, 0, 35.50, 'EUR')";
+
+    @TempDir
+    private Path directory;
+
+    private CloseableConnectionFactory database;
+    private DatabaseClient client;
+    private MappedPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = H2ConnectionFactory.inMemory("mapped_price_repository");
+        client = mock(DatabaseClient.class, delegatesTo(DatabaseClient.create(database)));
+        new SchemaMigrations(database).migrate().block();
+        adapter = new MappedPriceRepositoryAdapter(client, new MappingR2dbcConverter(new R2dbcMappingContext()),
+                new PriceEntityMapper(), new PriceSnapshotProperties(directory.resolve("prices.snapshot")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("Should serve the exported catalog once a change has been applied")
+    void shouldServeExportedCatalog() {
+        // Given
+        client.sql(INSERT.formatted(35455L)).then().block();
+
+        // When
+        adapter.onCatalogChanged(PriceCatalogChangedEvent.all()).block(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(adapter.findApplicablePrice(LocalDateTime.of(2020, 6, 14, 10, 0), 35455L, 1L).block())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should coalesce changes arriving during an export into one follow-up export")
+    void shouldCoalesceChangesDuringExport() {
+        // Given
+        Flux.range(0, 5).concatMap(product -> client.sql(INSERT.formatted(40000L + product)).then()).blockLast();
+
+        // When
+        List<Mono<Void>> applied = new ArrayList<>();
+        applied.add(adapter.onCatalogChanged(PriceCatalogChangedEvent.all()));
+        IntStream.range(0, 5).forEach(product -> applied.add(adapter.onCatalogChanged(
+                PriceCatalogChangedEvent.forKeys(Set.of(new PriceKey(40000L + product, 1L))))));
+        Mono.when(applied).block(Duration.ofSeconds(10));
+
+        // Then
+        verify(client, times(2)).sql(startsWith("SELECT COUNT(*)"));
+        IntStream.range(0, 5).forEach(product -> assertThat(adapter.findApplicablePrice(
+                LocalDateTime.of(2020, 6, 14, 10, 0), 40000L + product, 1L).block()).isNotNull());
+    }
+}
@@ -0,0 +1,159 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShard;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShards;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceRepositoryAdapter Unit Tests")
+class PriceRepositoryAdapterTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0, 250_000_000);
+    private static final ApplicablePrice PRICE = new ApplicablePrice(new CompactPrice(2L, 1L, 35455L, 2,
+            1592146800L, 1592159400L, 2545L, "EUR", 1), LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1));
+
+    @Mock
+    private SinglePriceLookup singleLookup;
+
+    @Mock
+    private ObjectProvider<PriceShards> shards;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new PriceRepositoryAdapter(null, null, singleLookup, null,
+                new PriceLookupMetrics(meterRegistry), meterRegistry, shards);
+    }
+
+    @Test
+    @DisplayName("Should share one query between identical concurrent lookups")
+    void shouldCoalesceConcurrentLookups() {
+        // Given
+        Sinks.One<ApplicablePrice> result = Sinks.one();
+        when(singleLookup.fromPrices(any(), eq(35455L), eq(1L))).thenReturn(result.asMono());
+
+        // When
+        Mono<ApplicablePrice> first = adapter.findApplicablePrice(APPLICATION_DATE, 35455L, 1L).cache();
+        Mono<ApplicablePrice> second = adapter.findApplicablePrice(APPLICATION_DATE.plusNanos(500_000_000), 35455L, 1L).cache();
+        first.subscribe();
+        second.subscribe();
+        assertThat(meterRegistry.get(PriceRepositoryAdapter.IN_FLIGHT_METRIC).gauge().value()).isEqualTo(1.0);
+        result.tryEmitValue(PRICE);
+
+        // Then
+        StepVerifier.create(first).expectNext(PRICE).verifyComplete();
+        StepVerifier.create(second).expectNext(PRICE).verifyComplete();
+        verify(singleLookup, times(1)).fromPrices(any(), eq(35455L), eq(1L));
+        assertThat(meterRegistry.get(PriceRepositoryAdapter.COALESCED_METRIC).counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(PriceRepositoryAdapter.IN_FLIGHT_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should query again once the previous lookup has finished")
+    void shouldQueryAgainAfterCompletion() {
+        // Given
+        when(singleLookup.fromPrices(APPLICATION_DATE, 35455L, 1L)).thenReturn(Mono.just(PRICE));
+
+        // When
+        adapter.findApplicablePrice(APPLICATION_DATE, 35455L, 1L).block();
+        adapter.findApplicablePrice(APPLICATION_DATE, 35455L, 1L).block();
+
+        // Then
+        verify(singleLookup, times(2)).fromPrices(APPLICATION_DATE, 35455L, 1L);
+        assertThat(meterRegistry.get(PriceRepositoryAdapter.COALESCED_METRIC).counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cancel the query once its last caller cancels and start afresh for the next one")
+    void shouldRestartAfterCancellation() {
+        // Given
+        Sinks.One<ApplicablePrice> cancelled = Sinks.one();
+        Sinks.One<ApplicablePrice> restarted = Sinks.one();
+        when(singleLookup.fromPrices(APPLICATION_DATE, 35455L, 1L))
+                .thenReturn(cancelled.asMono())
+                .thenReturn(restarted.asMono());
+        adapter.findApplicablePrice(APPLICATION_DATE, 35455L, 1L).subscribe().dispose();
+
+        // When
+        Mono<ApplicablePrice> first = adapter.findApplicablePrice(APPLICATION_DATE, 35455L, 1L).cache();
+        Mono<ApplicablePrice> second = adapter.findApplicablePrice(APPLICATION_DATE, 35455L, 1L).cache();
+        first.subscribe();
+        second.subscribe();
+        restarted.tryEmitValue(PRICE);
+
+        // Then
+        assertThat(cancelled.currentSubscriberCount()).isZero();
+        StepVerifier.create(first).expectNext(PRICE).verifyComplete();
+        StepVerifier.create(second).expectNext(PRICE).verifyComplete();
+        verify(singleLookup, times(2)).fromPrices(APPLICATION_DATE, 35455L, 1L);
+        assertThat(meterRegistry.get(PriceRepositoryAdapter.COALESCED_METRIC).counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(PriceRepositoryAdapter.IN_FLIGHT_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not coalesce a whole second with instants inside it")
+    void shouldKeepWholeSecondApart() {
+        // Given
+        LocalDateTime wholeSecond = APPLICATION_DATE.withNano(0);
+        when(singleLookup.fromPrices(any(), eq(35455L), any())).thenReturn(Mono.never());
+
+        // When
+        adapter.findApplicablePrice(wholeSecond, 35455L, 1L).subscribe();
+        adapter.findApplicablePrice(APPLICATION_DATE, 35455L, 1L).subscribe();
+        adapter.findApplicablePrice(APPLICATION_DATE, 35455L, 2L).subscribe();
+
+        // Then
+        verify(singleLookup, times(1)).fromPrices(wholeSecond, 35455L, 1L);
+        verify(singleLookup, times(1)).fromPrices(APPLICATION_DATE, 35455L, 1L);
+        verify(singleLookup, times(1)).fromPrices(APPLICATION_DATE, 35455L, 2L);
+        assertThat(meterRegistry.get(PriceRepositoryAdapter.COALESCED_METRIC).counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should send single lookups to the shard holding the key when sharded")
+    void shouldRouteLookupsToShard() {
+        // Given
+        PriceShards priceShards = mock(PriceShards.class);
+        PriceShard shard = mock(PriceShard.class);
+        SinglePriceLookup shardLookup = mock(SinglePriceLookup.class);
+        when(shards.getIfAvailable()).thenReturn(priceShards);
+        when(priceShards.route(35455L, 1L)).thenReturn(shard);
+        when(shard.singleLookup()).thenReturn(shardLookup);
+        when(shardLookup.fromPrices(APPLICATION_DATE, 35455L, 1L)).thenReturn(Mono.just(PRICE));
+        PriceRepositoryAdapter sharded = new PriceRepositoryAdapter(null, null, singleLookup, null,
+                new PriceLookupMetrics(meterRegistry), meterRegistry, shards);
+
+        // When / Then
+        StepVerifier.create(sharded.findApplicablePrice(APPLICATION_DATE, 35455L, 1L))
+                .expectNext(PRICE)
+                .verifyComplete();
+        verifyNoInteractions(singleLookup);
+    }
+}
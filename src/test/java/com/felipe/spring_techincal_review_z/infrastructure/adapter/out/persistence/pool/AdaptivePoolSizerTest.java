@@ -0,0 +1,112 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AdaptivePoolSizer Unit Tests")
+class AdaptivePoolSizerTest {
+
+    private static final ConnectionPoolSizingProperties PROPERTIES =
+            new ConnectionPoolSizingProperties(true, 2, Duration.ofMillis(5), Duration.ofSeconds(1), 3);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PoolMetrics metrics = mock(PoolMetrics.class);
+    private final MicrometerPoolMetricsRecorder recorder = new MicrometerPoolMetricsRecorder(meterRegistry, "test");
+    private AdjustableAllocationStrategy strategy;
+    private AdaptivePoolSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionPool pool = mock(ConnectionPool.class);
+        when(pool.getMetrics()).thenReturn(Optional.of(metrics));
+        strategy = new AdjustableAllocationStrategy(2, 10, 4);
+        sizer = new AdaptivePoolSizer(pool, "test", strategy, recorder, PROPERTIES, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should grow up to the maximum while acquirers are queued")
+    void shouldGrowWhileAcquirersWait() {
+        // Given
+        when(metrics.pendingAcquireSize()).thenReturn(3);
+        when(metrics.acquiredSize()).thenReturn(4);
+
+        // When
+        sizer.resize();
+        int first = strategy.limit();
+        for (int i = 0; i < 10; i++) {
+            sizer.resize();
+        }
+
+        // Then
+        assertThat(first).isEqualTo(5);
+        assertThat(strategy.limit()).isEqualTo(10);
+        assertThat(meterRegistry.get(AdaptivePoolSizer.LIMIT_METRIC).gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should grow when the mean acquire latency exceeds the target")
+    void shouldGrowOnSlowAcquires() {
+        // Given
+        recorder.recordPendingSuccessAndLatency(2);
+        recorder.recordPendingSuccessAndLatency(20);
+        when(metrics.acquiredSize()).thenReturn(4);
+
+        // When
+        sizer.resize();
+        sizer.resize();
+
+        // Then
+        assertThat(strategy.limit()).isEqualTo(5);
+        assertThat(meterRegistry.get(AdaptivePoolSizer.RESIZED_METRIC).tag("direction", "grow").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should shrink one connection after enough idle intervals, never below the minimum")
+    void shouldShrinkSlowlyWhenIdle() {
+        // Given
+        when(metrics.acquiredSize()).thenReturn(1);
+
+        // When
+        sizer.resize();
+        sizer.resize();
+        int beforeThreshold = strategy.limit();
+        sizer.resize();
+        int afterThreshold = strategy.limit();
+        for (int i = 0; i < 30; i++) {
+            sizer.resize();
+        }
+
+        // Then
+        assertThat(beforeThreshold).isEqualTo(4);
+        assertThat(afterThreshold).isEqualTo(3);
+        assertThat(strategy.limit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should hold the limit while the pool is busy without queueing")
+    void shouldHoldWhenBusy() {
+        // Given
+        when(metrics.acquiredSize()).thenReturn(3);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            sizer.resize();
+        }
+
+        // Then
+        assertThat(strategy.limit()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,76 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.pool.PooledRefMetadata;
+
+import java.time.Duration;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AdjustableAllocationStrategy Unit Tests")
+class AdjustableAllocationStrategyTest {
+
+    @Test
+    @DisplayName("Should warm up to the minimum and grant no more than the limit")
+    void shouldGrantWithinLimit() {
+        // Given
+        AdjustableAllocationStrategy strategy = new AdjustableAllocationStrategy(2, 10, 4);
+
+        // When / Then
+        assertThat(strategy.getPermits(0)).isEqualTo(2);
+        assertThat(strategy.getPermits(5)).isEqualTo(2);
+        assertThat(strategy.getPermits(1)).isZero();
+        assertThat(strategy.estimatePermitCount()).isZero();
+
+        strategy.returnPermits(1);
+        assertThat(strategy.getPermits(1)).isEqualTo(1);
+        assertThat(strategy.permitGranted()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should clamp limit changes to the bounds and stop granting after a shrink")
+    void shouldClampLimit() {
+        // Given
+        AdjustableAllocationStrategy strategy = new AdjustableAllocationStrategy(2, 10, 4);
+        strategy.getPermits(4);
+
+        // When / Then
+        assertThat(strategy.limit(50)).isEqualTo(10);
+        assertThat(strategy.getPermits(3)).isEqualTo(3);
+        assertThat(strategy.limit(0)).isEqualTo(2);
+        assertThat(strategy.getPermits(1)).isZero();
+        assertThatThrownBy(() -> strategy.returnPermits(8)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should evict surplus connections as well as idle and expired ones")
+    void shouldEvictSurplus() {
+        // Given
+        AdjustableAllocationStrategy strategy = new AdjustableAllocationStrategy(1, 10, 4);
+        BiPredicate<Object, PooledRefMetadata> evict =
+                strategy.evictionPredicate(Duration.ofMinutes(30), Duration.ofMillis(-1));
+        PooledRefMetadata fresh = metadata(0, 1_000);
+        strategy.getPermits(4);
+
+        // When / Then
+        assertThat(evict.test(new Object(), fresh)).isFalse();
+        assertThat(evict.test(new Object(), metadata(Duration.ofMinutes(30).toMillis(), 1_000))).isTrue();
+
+        strategy.limit(3);
+        assertThat(evict.test(new Object(), fresh)).isTrue();
+        strategy.returnPermits(1);
+        assertThat(evict.test(new Object(), fresh)).isFalse();
+    }
+
+    private static PooledRefMetadata metadata(long idleTime, long lifeTime) {
+        PooledRefMetadata metadata = mock(PooledRefMetadata.class);
+        when(metadata.idleTime()).thenReturn(idleTime);
+        when(metadata.lifeTime()).thenReturn(lifeTime);
+        return metadata;
+    }
+}
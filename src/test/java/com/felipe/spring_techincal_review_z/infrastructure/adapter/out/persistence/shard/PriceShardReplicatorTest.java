@@ -0,0 +1,96 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.repository.R2dbcPriceRepository;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShardingProperties.Strategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PriceShardReplicator Unit Tests")
+class PriceShardReplicatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    private final PriceEntityMapper mapper = new PriceEntityMapper();
+    private final R2dbcPriceRepository r2dbcRepository = mock(R2dbcPriceRepository.class);
+    private final Map<PriceShard, List<Price>> replicated = new ConcurrentHashMap<>();
+
+    @Test
+    @DisplayName("Should scan the primary once and give each shard only the rows routed to it")
+    void shouldFanOutOneScan() {
+        // Given
+        List<PriceShard> all = List.of(shard(0), shard(1), shard(2));
+        PriceShards shards = new PriceShards(all, Strategy.BRAND_PRODUCT);
+        List<Price> prices = LongStream.range(0, 60).mapToObj(PriceShardReplicatorTest::price).toList();
+        AtomicInteger scans = new AtomicInteger();
+        when(r2dbcRepository.findAll()).thenReturn(Flux.fromIterable(prices)
+                .map(mapper::toEntity)
+                .doOnSubscribe(subscription -> scans.incrementAndGet()));
+        PriceShardReplicator replicator = new PriceShardReplicator(shards, r2dbcRepository, mapper);
+
+        // When
+        StepVerifier.create(replicator.onCatalogChanged(PriceCatalogChangedEvent.all())).verifyComplete();
+
+        // Then
+        assertThat(scans).hasValue(1);
+        assertThat(replicated).containsOnlyKeys(all);
+        replicated.forEach((shard, rows) ->
+                assertThat(rows).isNotEmpty().allMatch(price -> shards.route(PriceKey.of(price)) == shard));
+        assertThat(replicated.values().stream().mapToInt(List::size).sum()).isEqualTo(prices.size());
+    }
+
+    @Test
+    @DisplayName("Should still empty the shards no row is routed to")
+    void shouldReplaceEmptyPartitions() {
+        // Given: one brand, so the brand strategy routes every row to a single shard
+        List<PriceShard> all = List.of(shard(0), shard(1), shard(2));
+        PriceShards shards = new PriceShards(all, Strategy.BRAND);
+        when(r2dbcRepository.findAll()).thenReturn(Flux.range(0, 10).map(i -> mapper.toEntity(price(i))));
+        PriceShardReplicator replicator = new PriceShardReplicator(shards, r2dbcRepository, mapper);
+
+        // When
+        StepVerifier.create(replicator.onCatalogChanged(PriceCatalogChangedEvent.all())).verifyComplete();
+
+        // Then
+        assertThat(replicated).containsOnlyKeys(all);
+        assertThat(replicated.get(shards.route(35_455L, 1L))).hasSize(10);
+        assertThat(replicated.values()).filteredOn(List::isEmpty).hasSize(2);
+    }
+
+    private PriceShard shard(int index) {
+        PriceShard shard = mock(PriceShard.class);
+        when(shard.index()).thenReturn(index);
+        when(shard.initialize()).thenReturn(Mono.empty());
+        when(shard.replaceAll(any())).thenAnswer(invocation -> {
+            Flux<Price> rows = invocation.getArgument(0);
+            return rows.collectList()
+                    .doOnNext(received -> replicated.put(shard, received))
+                    .map(received -> (long) received.size());
+        });
+        return shard;
+    }
+
+    private static Price price(long product) {
+        return new Price(product + 1, 1L, 35_455L + product, 1, START, START.plusDays(1),
+                new BigDecimal("10.00"), "EUR", 0);
+    }
+}
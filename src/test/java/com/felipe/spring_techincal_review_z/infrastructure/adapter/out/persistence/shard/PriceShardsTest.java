@@ -0,0 +1,106 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceQuery;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.BatchPriceLookup;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.shard.PriceShardingProperties.Strategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PriceShards Unit Tests")
+class PriceShardsTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private final List<PriceShard> shards = List.of(shard(0), shard(1), shard(2));
+
+    @Test
+    @DisplayName("Should keep every product of a brand on one shard and spread brands with the brand strategy")
+    void shouldRouteByBrand() {
+        // Given
+        PriceShards priceShards = new PriceShards(shards, Strategy.BRAND);
+
+        // When
+        Set<PriceShard> ofBrand = LongStream.range(0, 100)
+                .mapToObj(product -> priceShards.route(35_455L + product, 1L))
+                .collect(Collectors.toSet());
+        Set<PriceShard> ofBrands = LongStream.rangeClosed(1, 30)
+                .mapToObj(brand -> priceShards.route(35_455L, brand))
+                .collect(Collectors.toSet());
+
+        // Then
+        assertThat(ofBrand).hasSize(1);
+        assertThat(ofBrands).containsExactlyInAnyOrderElementsOf(shards);
+    }
+
+    @Test
+    @DisplayName("Should spread the products of one brand with the brand and product strategy")
+    void shouldRouteByBrandAndProduct() {
+        // Given
+        PriceShards priceShards = new PriceShards(shards, Strategy.BRAND_PRODUCT);
+
+        // When
+        Set<PriceShard> ofBrand = LongStream.range(0, 100)
+                .mapToObj(product -> priceShards.route(35_455L + product, 1L))
+                .collect(Collectors.toSet());
+
+        // Then
+        assertThat(ofBrand).containsExactlyInAnyOrderElementsOf(shards);
+        assertThat(priceShards.route(35_455L, 1L)).isSameAs(priceShards.route(35_455L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should send each shard only its queries and merge the results")
+    void shouldFanOutBatches() {
+        // Given
+        PriceShards priceShards = new PriceShards(shards, Strategy.BRAND_PRODUCT);
+        List<PriceQuery> queries = LongStream.range(0, 30)
+                .mapToObj(product -> new PriceQuery(APPLICATION_DATE, 35_455L + product, 1L))
+                .toList();
+        for (PriceShard shard : shards) {
+            when(shard.batchLookup().fromPrices(anyCollection())).thenAnswer(invocation -> {
+                Collection<PriceQuery> received = invocation.getArgument(0);
+                assertThat(received).allMatch(query -> priceShards.route(query.productId(), query.brandId()) == shard);
+                return Mono.just(received.stream().collect(Collectors.toMap(query -> query, PriceShardsTest::price)));
+            });
+        }
+
+        // When / Then
+        StepVerifier.create(priceShards.findApplicablePrices(queries))
+                .assertNext(results -> {
+                    assertThat(results).containsOnlyKeys(queries);
+                    assertThat(results).allSatisfy((query, price) -> assertThat(price.productId()).isEqualTo(query.productId()));
+                })
+                .verifyComplete();
+        shards.forEach(shard -> verify(shard.batchLookup()).fromPrices(anyCollection()));
+    }
+
+    private static PriceShard shard(int index) {
+        PriceShard shard = mock(PriceShard.class);
+        BatchPriceLookup batchLookup = mock(BatchPriceLookup.class);
+        when(shard.index()).thenReturn(index);
+        when(shard.batchLookup()).thenReturn(batchLookup);
+        return shard;
+    }
+
+    private static Price price(PriceQuery query) {
+        return Price.create(1L, query.brandId(), query.productId(), 1, APPLICATION_DATE.minusDays(1),
+                APPLICATION_DATE.plusDays(1), new BigDecimal("10.00"), "EUR", 0);
+    }
+}
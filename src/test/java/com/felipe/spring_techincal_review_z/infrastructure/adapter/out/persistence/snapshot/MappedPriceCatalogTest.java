@@ -0,0 +1,137 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.snapshot;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MappedPriceCatalog Unit Tests")
+class MappedPriceCatalogTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should resolve the sample scenarios from the mapped file")
+    void shouldResolveSampleScenarios() throws IOException {
+        // Given
+        MappedPriceCatalog catalog = write(List.of(
+                price(1L, 35455L, 1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50", 0),
+                price(2L, 35455L, 2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45", 1),
+                price(3L, 35455L, 3, "2020-06-15T00:00:00", "2020-06-15T11:00:00", "30.50", 1),
+                price(4L, 35455L, 4, "2020-06-15T16:00:00", "2020-12-31T23:59:59", "38.95", 1)));
+
+        // When / Then
+        assertThat(catalog.size()).isEqualTo(4);
+        assertThat(priceListAt(catalog, "2020-06-14T10:00:00")).isEqualTo(1);
+        assertThat(priceListAt(catalog, "2020-06-14T16:00:00")).isEqualTo(2);
+        assertThat(priceListAt(catalog, "2020-06-14T21:00:00")).isEqualTo(1);
+        assertThat(priceListAt(catalog, "2020-06-15T10:00:00")).isEqualTo(3);
+        assertThat(priceListAt(catalog, "2020-06-16T21:00:00")).isEqualTo(4);
+
+        ApplicablePrice found = catalog.find(35455L, 1L, LocalDateTime.parse("2020-06-14T16:00:00"));
+        assertThat(found.price().toPrice()).isEqualTo(price(2L, 35455L, 2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45", 1));
+        assertThat(found.validUntil()).isEqualTo(LocalDateTime.parse("2020-06-14T18:30:00").plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should end the validity where a price taking precedence starts")
+    void shouldEndValidityAtPrecedingStart() throws IOException {
+        // Given
+        MappedPriceCatalog catalog = write(List.of(
+                price(1L, 35455L, 1, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50", 0),
+                price(2L, 35455L, 2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45", 1),
+                price(3L, 35455L, 3, "2020-06-14T16:00:00", "2020-06-14T17:00:00", "20.00", 0)));
+
+        // When / Then
+        assertThat(catalog.find(35455L, 1L, LocalDateTime.parse("2020-06-14T10:00:00")).validUntil())
+                .isEqualTo(LocalDateTime.parse("2020-06-14T15:00:00"));
+        assertThat(catalog.find(35455L, 1L, LocalDateTime.parse("2020-06-14T21:00:00")).validUntil())
+                .isEqualTo(LocalDateTime.parse("2020-12-31T23:59:59").plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should treat period ends as inclusive down to the nanosecond")
+    void shouldTreatEndAsInclusive() throws IOException {
+        // Given
+        MappedPriceCatalog catalog = write(List.of(
+                price(1L, 35455L, 1, "2020-06-14T00:00:00", "2020-06-14T18:30:00", "35.50", 0)));
+
+        // When / Then
+        assertThat(catalog.find(35455L, 1L, LocalDateTime.parse("2020-06-14T00:00:00"))).isNotNull();
+        assertThat(catalog.find(35455L, 1L, LocalDateTime.parse("2020-06-14T18:30:00"))).isNotNull();
+        assertThat(catalog.find(35455L, 1L, LocalDateTime.parse("2020-06-14T18:30:00.000000001"))).isNull();
+        assertThat(catalog.find(35455L, 1L, LocalDateTime.parse("2020-06-13T23:59:59.999"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep keys apart and break priority ties by lowest id")
+    void shouldSeparateKeysAndBreakTies() throws IOException {
+        // Given
+        MappedPriceCatalog catalog = write(List.of(
+                price(7L, 100L, 1, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "10.00", 1),
+                price(5L, 100L, 2, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "12.00", 1),
+                price(6L, 200L, 3, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "20.00", 0)));
+
+        // When / Then
+        assertThat(catalog.find(100L, 1L, LocalDateTime.parse("2020-06-01T00:00:00")).price().id()).isEqualTo(5L);
+        assertThat(catalog.find(200L, 1L, LocalDateTime.parse("2020-06-01T00:00:00")).price().priceList()).isEqualTo(3);
+        assertThat(catalog.find(150L, 1L, LocalDateTime.parse("2020-06-01T00:00:00"))).isNull();
+        assertThat(catalog.find(100L, 2L, LocalDateTime.parse("2020-06-01T00:00:00"))).isNull();
+        assertThat(catalog.prices(100L, 1L)).extracting(Price::id).containsExactly(7L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should reject unsorted rows and discard the unfinished file")
+    void shouldRejectUnsortedRows() throws IOException {
+        // Given
+        Path file = directory.resolve("prices.snapshot");
+
+        // When / Then
+        try (PriceSnapshotWriter writer = PriceSnapshotWriter.open(file, 2)) {
+            writer.append(price(1L, 200L, 1, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "1.00", 0));
+            assertThatThrownBy(() -> writer.append(price(2L, 100L, 1, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "1.00", 0)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("Should refuse files that are not snapshots")
+    void shouldRefuseForeignFiles() throws IOException {
+        Path file = Files.write(directory.resolve("prices.snapshot"), new byte[128]);
+
+        assertThatThrownBy(() -> MappedPriceCatalog.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a price snapshot");
+    }
+
+    private MappedPriceCatalog write(List<Price> prices) throws IOException {
+        Path file = directory.resolve("prices.snapshot");
+        try (PriceSnapshotWriter writer = PriceSnapshotWriter.open(file, prices.size())) {
+            prices.forEach(writer::append);
+            writer.commit();
+        }
+        return MappedPriceCatalog.open(file);
+    }
+
+    private static Integer priceListAt(MappedPriceCatalog catalog, String applicationDate) {
+        return catalog.find(35455L, 1L, LocalDateTime.parse(applicationDate)).price().priceList();
+    }
+
+    private static Price price(Long id, Long productId, int priceList, String start, String end, String amount, int priority) {
+        return new Price(id, 1L, productId, priceList, LocalDateTime.parse(start), LocalDateTime.parse(end),
+                new BigDecimal(amount), "EUR", priority);
+    }
+}
@@ -0,0 +1,214 @@
+package com.felipe.spring_techincal_review_z.infrastructure.adapter.out.resilience;
+
+import com.felipe.spring_techincal_review_z.domain.model.ApplicablePrice;
+import com.felipe.spring_techincal_review_z.domain.model.CompactPrice;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.domain.port.out.PriceRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResilientPriceRepository Unit Tests")
+class ResilientPriceRepositoryTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final ApplicablePrice APPLICABLE = new ApplicablePrice(new CompactPrice(2L, 1L, 35455L, 2,
+            LocalDateTime.of(2020, 6, 14, 15, 0).toEpochSecond(ZoneOffset.UTC),
+            LocalDateTime.of(2020, 6, 14, 18, 30).toEpochSecond(ZoneOffset.UTC),
+            2545L, "EUR", 1), LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+
+    @Mock
+    private PriceRepository delegate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LastKnownPrices lastKnown = new LastKnownPrices(100, Duration.ofHours(1), meterRegistry, "test");
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .build());
+    private final Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private ResilientPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        TimeLimiter timeLimiter = TimeLimiter.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(100)).build());
+        repository = new ResilientPriceRepository(delegate, circuitBreaker, bulkhead, timeLimiter, lastKnown,
+                new LookupResilienceProperties(true, 100, Duration.ofHours(1), Duration.ofSeconds(5),
+                        Duration.ofSeconds(3)), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should return fresh prices and remember them")
+    void shouldRememberFreshPrices() {
+        // Given
+        when(delegate.findApplicablePrice(APPLICATION_DATE, 35455L, 1L)).thenReturn(Mono.just(APPLICABLE));
+
+        // When / Then
+        StepVerifier.create(repository.findApplicablePrice(APPLICATION_DATE, 35455L, 1L))
+                .assertNext(found -> assertThat(found.stale()).isFalse())
+                .verifyComplete();
+        assertThat(lastKnown.find(new PriceKey(35455L, 1L), APPLICATION_DATE)).isEqualTo(APPLICABLE);
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the last known price on timeout and refresh it once the lookup completes")
+    void shouldServeStaleOnTimeoutAndRefreshInBackground() {
+        // Given
+        lastKnown.put(new PriceKey(35455L, 1L), APPLICATION_DATE, APPLICABLE);
+        ApplicablePrice repriced = new ApplicablePrice(APPLICABLE.price(), APPLICATION_DATE.plusHours(1));
+        Sinks.One<ApplicablePrice> slowQuery = Sinks.one();
+        when(delegate.findApplicablePrice(APPLICATION_DATE, 35455L, 1L)).thenReturn(slowQuery.asMono());
+
+        // When
+        StepVerifier.create(repository.findApplicablePrice(APPLICATION_DATE, 35455L, 1L))
+                .assertNext(found -> {
+                    assertThat(found.stale()).isTrue();
+                    assertThat(found.price()).isEqualTo(APPLICABLE.price());
+                })
+                .verifyComplete();
+        int permitsWhileRefreshing = bulkhead.getMetrics().getAvailableConcurrentCalls();
+        slowQuery.tryEmitValue(repriced);
+
+        // Then
+        assertThat(permitsWhileRefreshing).isZero();
+        assertThat(lastKnown.find(new PriceKey(35455L, 1L), APPLICATION_DATE)).isEqualTo(repriced);
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+        assertThat(meterRegistry.get(ResilientPriceRepository.FALLBACK_METRIC)
+                .tags("cause", "timeout", "result", "stale").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer from the last known price without querying while the circuit is open")
+    void shouldNotQueryWhileCircuitIsOpen() {
+        // Given
+        lastKnown.put(new PriceKey(35455L, 1L), APPLICATION_DATE, APPLICABLE);
+        circuitBreaker.transitionToOpenState();
+
+        // When / Then
+        StepVerifier.create(repository.findApplicablePrice(APPLICATION_DATE, 35455L, 1L))
+                .assertNext(found -> assertThat(found.stale()).isTrue())
+                .verifyComplete();
+        verify(delegate, never()).findApplicablePrice(any(), anyLong(), anyLong());
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after failing lookups")
+    void shouldOpenCircuitOnFailures() {
+        // Given
+        when(delegate.findApplicablePrice(APPLICATION_DATE, 35455L, 1L))
+                .thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(repository.findApplicablePrice(APPLICATION_DATE, 35455L, 1L))
+                    .expectError(PriceLookupUnavailableException.class)
+                    .verify();
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        StepVerifier.create(repository.findApplicablePrice(APPLICATION_DATE, 35455L, 1L))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(PriceLookupUnavailableException.class)
+                        .hasMessageContaining("circuit-open"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should refuse lookups beyond the bulkhead and fail when no last known price covers the instant")
+    void shouldShedBeyondBulkhead() {
+        // Given
+        lastKnown.put(new PriceKey(35455L, 1L), APPLICATION_DATE, APPLICABLE);
+        bulkhead.tryAcquirePermission();
+        LocalDateTime uncovered = APPLICABLE.validUntil();
+
+        // When / Then
+        StepVerifier.create(repository.findApplicablePrice(APPLICATION_DATE, 35455L, 1L))
+                .assertNext(found -> assertThat(found.stale()).isTrue())
+                .verifyComplete();
+        StepVerifier.create(repository.findApplicablePrice(uncovered, 35455L, 1L))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(PriceLookupUnavailableException.class);
+                    assertThat(((PriceLookupUnavailableException) error).retryAfter()).isEqualTo(Duration.ofSeconds(3));
+                })
+                .verify();
+        verify(delegate, never()).findApplicablePrice(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should not serve a last known price for instants before the one it was looked up at")
+    void shouldNotServeBeforeLookedUpInstant() {
+        // Given: the price started at 15:00, but was only seen winning from 16:00 on
+        lastKnown.put(new PriceKey(35455L, 1L), APPLICATION_DATE, APPLICABLE);
+        circuitBreaker.transitionToOpenState();
+        LocalDateTime earlier = APPLICATION_DATE.minusMinutes(30);
+
+        // When / Then
+        StepVerifier.create(repository.findApplicablePrice(earlier, 35455L, 1L))
+                .expectError(PriceLookupUnavailableException.class)
+                .verify();
+        StepVerifier.create(repository.findApplicablePrice(APPLICATION_DATE.plusHours(2), 35455L, 1L))
+                .assertNext(found -> assertThat(found.price()).isEqualTo(APPLICABLE.price()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep the last known prices of several intervals of the same key")
+    void shouldKeepIntervalsApart() {
+        // Given: a promotion seen winning from 16:00, the base price seen from 18:30:01
+        PriceKey key = new PriceKey(35455L, 1L);
+        LocalDateTime afterPromotion = APPLICABLE.validUntil();
+        ApplicablePrice base = new ApplicablePrice(new CompactPrice(4L, 1L, 35455L, 4,
+                LocalDateTime.of(2020, 6, 15, 16, 0).toEpochSecond(ZoneOffset.UTC),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC),
+                3895L, "EUR", 1), LocalDateTime.of(2021, 1, 1, 0, 0));
+        ApplicablePrice overlapping = new ApplicablePrice(APPLICABLE.price(), APPLICATION_DATE.plusHours(1));
+
+        // When
+        lastKnown.put(key, APPLICATION_DATE, APPLICABLE);
+        lastKnown.put(key, afterPromotion, base);
+
+        // Then
+        assertThat(lastKnown.find(key, APPLICATION_DATE)).isEqualTo(APPLICABLE);
+        assertThat(lastKnown.find(key, afterPromotion)).isEqualTo(base);
+
+        // When: a newer answer overlapping the promotion replaces it
+        lastKnown.put(key, APPLICATION_DATE.plusMinutes(30), overlapping);
+
+        // Then
+        assertThat(lastKnown.find(key, APPLICATION_DATE)).isNull();
+        assertThat(lastKnown.find(key, APPLICATION_DATE.plusMinutes(45))).isEqualTo(overlapping);
+        assertThat(lastKnown.find(key, afterPromotion)).isEqualTo(base);
+    }
+}
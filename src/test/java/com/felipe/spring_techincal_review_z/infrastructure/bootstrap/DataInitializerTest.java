@@ -0,0 +1,167 @@
+package com.felipe.spring_techincal_review_z.infrastructure.bootstrap;
+
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.infrastructure.bootstrap.DataInitializationProperties.Mode;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogEvents;
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DataInitializer Unit Tests")
+class DataInitializerTest {
+
+    private static final String IMPORTED_PRICE = "INSERT INTO PRICES " +
+            "(BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+            "VALUES (1, TIMESTAMP '2020-06-14 00:00:00', TIMESTAMP '2020-12-31 23:59:59', 9, 99999, 0, 1.00, 'EUR')";
+
+    private static final String V1 = "V1__create_prices";
+    private static final String V2 = "V2__mark_seeded_prices";
+
+    private CloseableConnectionFactory database;
+    private DatabaseClient client;
+    private PriceCatalogEvents catalogEvents;
+    private ObjectProvider<SyntheticCatalogGenerator> generatorProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        database = H2ConnectionFactory.inMemory("data_initializer_" + UUID.randomUUID());
+        client = DatabaseClient.create(database);
+        catalogEvents = mock(PriceCatalogEvents.class);
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        generatorProvider = mock(ObjectProvider.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("Should keep an up to date store untouched on restart in incremental mode")
+    void shouldSkipUnchangedStepsInIncrementalMode() {
+        // Given
+        initializer(Mode.INCREMENTAL).run();
+        client.sql(IMPORTED_PRICE).then().block();
+
+        // When
+        initializer(Mode.INCREMENTAL).run();
+
+        // Then
+        assertThat(countPrices()).isEqualTo(5);
+        assertThat(storeVersions()).containsOnlyKeys(V1, V2, DataInitializer.CATALOG_STEP);
+        verify(catalogEvents, times(2)).publish(PriceCatalogChangedEvent.all());
+    }
+
+    @Test
+    @DisplayName("Should reseed only the seeded rows when the generator settings change in incremental mode")
+    void shouldReseedCatalogWhenGeneratorSettingsChange() {
+        // Given
+        initializer(Mode.INCREMENTAL).run();
+        client.sql(IMPORTED_PRICE).then().block();
+        Map<String, String> migrations = storeVersions();
+        SyntheticCatalogGenerator generator = mock(SyntheticCatalogGenerator.class);
+        when(generator.properties()).thenReturn(new CatalogGeneratorProperties(true, 1, 1, 1, 0.5, 1, 1.0, 500,
+                LocalDateTime.of(2020, 1, 1, 0, 0), Duration.ofDays(1), 10, 7));
+        when(generator.generate()).thenReturn(Mono.just(1L));
+        when(generatorProvider.getIfAvailable()).thenReturn(generator);
+
+        // When
+        initializer(Mode.INCREMENTAL).run();
+        initializer(Mode.INCREMENTAL).run();
+
+        // Then
+        assertThat(countPrices()).isEqualTo(5);
+        assertThat(client.sql("SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID = 99999")
+                .map(row -> row.get(0, Long.class)).one().block()).isEqualTo(1);
+        assertThat(storeVersions())
+                .containsEntry(V1, migrations.get(V1))
+                .containsEntry(V2, migrations.get(V2))
+                .doesNotContainEntry(DataInitializer.CATALOG_STEP, migrations.get(DataInitializer.CATALOG_STEP));
+        verify(generator, times(1)).generate();
+    }
+
+    @Test
+    @DisplayName("Should apply only the migrations the store has not recorded")
+    void shouldApplyPendingMigrationsOnly() {
+        // Given
+        initializer(Mode.INCREMENTAL).run();
+        client.sql("ALTER TABLE PRICES DROP COLUMN SEEDED").then().block();
+        client.sql("DELETE FROM STORE_VERSION WHERE STEP = '" + V2 + "'").then().block();
+
+        // When
+        int applied = new SchemaMigrations(database).migrate().block();
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+        assertThat(storeVersions()).containsKey(V2);
+        assertThat(client.sql("SELECT COUNT(*) FROM PRICES WHERE SEEDED")
+                .map(row -> row.get(0, Long.class)).one().block()).isZero();
+        assertThat(new SchemaMigrations(database).migrate().block()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse to start on a migration changed after it was applied")
+    void shouldRefuseChangedMigration() {
+        // Given
+        initializer(Mode.INCREMENTAL).run();
+        client.sql("UPDATE STORE_VERSION SET CHECKSUM = 'edited' WHERE STEP = '" + V1 + "'").then().block();
+
+        // When / Then
+        StepVerifier.create(new SchemaMigrations(database).migrate())
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining(V1))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reload the catalog on every start in always mode")
+    void shouldReloadOnEveryStartInAlwaysMode() {
+        // Given
+        initializer(Mode.ALWAYS).run();
+        client.sql(IMPORTED_PRICE).then().block();
+
+        // When
+        initializer(Mode.ALWAYS).run();
+
+        // Then
+        assertThat(countPrices()).isEqualTo(4);
+        assertThat(storeVersions()).containsOnlyKeys(V1, V2);
+    }
+
+    private DataInitializer initializer(Mode mode) {
+        return new DataInitializer(database, catalogEvents, generatorProvider, new DataInitializationProperties(mode));
+    }
+
+    private long countPrices() {
+        return client.sql("SELECT COUNT(*) FROM PRICES").map(row -> row.get(0, Long.class)).one().block();
+    }
+
+    private Map<String, String> storeVersions() {
+        return client.sql("SELECT STEP, CHECKSUM FROM STORE_VERSION")
+                .map(row -> Map.entry(row.get("STEP", String.class), row.get("CHECKSUM", String.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+    }
+}
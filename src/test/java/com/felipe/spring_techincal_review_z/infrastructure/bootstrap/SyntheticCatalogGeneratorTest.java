@@ -0,0 +1,110 @@
+package com.felipe.spring_techincal_review_z.infrastructure.bootstrap;
+
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.PriceBulkWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SyntheticCatalogGenerator Unit Tests")
+class SyntheticCatalogGeneratorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final Duration HORIZON = Duration.ofDays(30);
+
+    private final CatalogGeneratorProperties properties = new CatalogGeneratorProperties(
+            true, 3, 10, 4, 0.3, 5, 2.0, 500, START, HORIZON, 7, 1234);
+
+    @Test
+    @DisplayName("Should produce one row per brand, product and price list")
+    void shouldProduceConfiguredNumberOfRows() {
+        // Given
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties, mock(PriceBulkWriter.class));
+
+        // When
+        List<Price> prices = generator.prices().collectList().block();
+
+        // Then
+        assertThat(prices).hasSize(3 * 10 * 4);
+        assertThat(prices).extracting(Price::brandId).containsOnly(1L, 2L, 3L);
+        assertThat(prices).extracting(Price::productId).allMatch(id -> id >= 500 && id < 510);
+    }
+
+    @Test
+    @DisplayName("Should span the horizon with a priority 0 base list")
+    void shouldSpanHorizonWithBaseList() {
+        // Given
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties, mock(PriceBulkWriter.class));
+
+        // When
+        List<Price> prices = generator.prices().collectList().block();
+
+        // Then
+        assertThat(prices).filteredOn(price -> price.priceList() == 1).hasSize(30).allSatisfy(price -> {
+            assertThat(price.priority()).isZero();
+            assertThat(price.startDate()).isEqualTo(START);
+            assertThat(price.endDate()).isEqualTo(START.plus(HORIZON).minusSeconds(1));
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep promotional lists inside the horizon and priority range")
+    void shouldKeepPromotionalListsInRange() {
+        // Given
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties, mock(PriceBulkWriter.class));
+
+        // When
+        List<Price> prices = generator.prices().collectList().block();
+
+        // Then
+        assertThat(prices).filteredOn(price -> price.priceList() > 1).allSatisfy(price -> {
+            assertThat(price.priority()).isBetween(1, 5);
+            assertThat(price.startDate()).isAfterOrEqualTo(START);
+            assertThat(price.endDate()).isBefore(START.plus(HORIZON)).isAfterOrEqualTo(price.startDate());
+        });
+    }
+
+    @Test
+    @DisplayName("Should produce the same catalog for the same seed")
+    void shouldBeReproducible() {
+        // Given
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties, mock(PriceBulkWriter.class));
+
+        // When / Then
+        assertThat(generator.prices().collectList().block()).isEqualTo(generator.prices().collectList().block());
+    }
+
+    @Test
+    @DisplayName("Should write rows in batches and report the total")
+    void shouldWriteInBatches() {
+        // Given
+        PriceBulkWriter writer = mock(PriceBulkWriter.class);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(writer.seed(anyList())).thenAnswer(invocation -> {
+            List<Price> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return Mono.just((long) batch.size());
+        });
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties, writer);
+
+        // When / Then
+        StepVerifier.create(generator.generate())
+                .expectNext(120L)
+                .verifyComplete();
+        verify(writer, times(18)).seed(anyList());
+        assertThat(batchSizes).allMatch(size -> size <= 7);
+    }
+}
@@ -0,0 +1,113 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceImportFileRunner Unit Tests")
+class PriceImportFileRunnerTest {
+
+    private static final Duration WATCH_INTERVAL = Duration.ofSeconds(1);
+
+    @Mock
+    private PriceImporter importer;
+
+    @TempDir
+    private Path directory;
+
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    private PriceImportFileRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        if (runner != null) {
+            runner.destroy();
+        }
+        scheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("Should replace the catalog on startup and again whenever the watched file changes")
+    void shouldReplaceCatalogWhenWatchedFileChanges() throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("prices.csv"), "BRAND_ID\n");
+        when(importer.replacePrices(any(), eq(PriceImportFormat.CSV)))
+                .thenReturn(Mono.just(new PriceImportResult(1, 0, 1, 1)));
+        runner = new PriceImportFileRunner(importer, new PriceImportProperties(true, 1, 1, file, true, WATCH_INTERVAL),
+                scheduler);
+
+        // When
+        runner.importFile();
+        scheduler.advanceTime();
+
+        // Then
+        verify(importer, times(1)).replacePrices(any(), eq(PriceImportFormat.CSV));
+        scheduler.advanceTimeBy(WATCH_INTERVAL.multipliedBy(3));
+        verify(importer, times(1)).replacePrices(any(), any());
+
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        scheduler.advanceTimeBy(WATCH_INTERVAL);
+        verify(importer, times(2)).replacePrices(any(), eq(PriceImportFormat.CSV));
+        verify(importer, never()).importPrices(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should retry a version whose replacement was refused because another one was running")
+    void shouldRetryWhenReplacementInProgress() throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("prices.ndjson"), "{}\n");
+        when(importer.replacePrices(any(), eq(PriceImportFormat.NDJSON)))
+                .thenReturn(Mono.error(new PriceImporter.ReplacementInProgressException()))
+                .thenReturn(Mono.just(new PriceImportResult(1, 0, 1, 1)));
+        runner = new PriceImportFileRunner(importer, new PriceImportProperties(true, 1, 1, file, true, WATCH_INTERVAL),
+                scheduler);
+
+        // When
+        runner.importFile();
+        scheduler.advanceTime();
+
+        // Then
+        verify(importer, times(1)).replacePrices(any(), eq(PriceImportFormat.NDJSON));
+        scheduler.advanceTimeBy(WATCH_INTERVAL);
+        verify(importer, times(2)).replacePrices(any(), eq(PriceImportFormat.NDJSON));
+        scheduler.advanceTimeBy(WATCH_INTERVAL.multipliedBy(3));
+        verify(importer, times(2)).replacePrices(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should append the file once when it is not watched")
+    void shouldImportOnceWhenNotWatched() throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("prices.csv"), "BRAND_ID\n");
+        when(importer.importPrices(any(), eq(PriceImportFormat.CSV)))
+                .thenReturn(Mono.just(new PriceImportResult(1, 0, 1, 1)));
+        runner = new PriceImportFileRunner(importer, new PriceImportProperties(true, 1, 1, file, false, null));
+
+        // When
+        runner.importFile();
+
+        // Then
+        verify(importer, times(1)).importPrices(any(), eq(PriceImportFormat.CSV));
+        verify(importer, never()).replacePrices(any(), any());
+    }
+}
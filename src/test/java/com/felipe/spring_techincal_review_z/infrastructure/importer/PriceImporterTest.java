@@ -0,0 +1,390 @@
+package com.felipe.spring_techincal_review_z.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.felipe.spring_techincal_review_z.domain.event.PriceCatalogChangedEvent;
+import com.felipe.spring_techincal_review_z.domain.model.Price;
+import com.felipe.spring_techincal_review_z.domain.model.PriceKey;
+import com.felipe.spring_techincal_review_z.infrastructure.adapter.out.persistence.PriceBulkWriter;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogEvents;
+import com.felipe.spring_techincal_review_z.infrastructure.catalog.PriceCatalogWrites;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceImporter Unit Tests")
+class PriceImporterTest {
+
+    private static final String CSV_HEADER = "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR";
+
+    @Mock
+    private PriceBulkWriter writer;
+
+    @Mock
+    private PriceCatalogEvents catalogEvents;
+
+    private final PriceCatalogWrites catalogWrites = new PriceCatalogWrites();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<List<Price>> batches = new ArrayList<>();
+    private PriceImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new PriceImporter(writer, catalogEvents, catalogWrites, objectMapper, new PriceImportProperties(true, 2, 1, null, false, null));
+    }
+
+    @Test
+    @DisplayName("Should parse CSV rows by header name and write them in batches")
+    void shouldImportCsv() {
+        // Given
+        givenWriterAccepts();
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                "PRODUCT_ID,BRAND_ID,PRICE_LIST,START_DATE,END_DATE,PRIORITY,PRICE,CURR\n",
+                "35455,1,1,2020-06-14-00.00.00,2020-12-31-23.59.59,0,35.50,EUR\n",
+                "35455,1,2,2020-06-14 15:00:00,2020-06-14 18:30:00,1,25.45,EUR\n",
+                "35455,1,3,2020-06-15T00:00:00,2020-06-15T11:00:00,1,30.50,EUR\n");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.CSV))
+                .assertNext(result -> {
+                    assertThat(result.imported()).isEqualTo(3);
+                    assertThat(result.rejected()).isZero();
+                })
+                .verifyComplete();
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        Price first = batches.get(0).get(0);
+        assertThat(first.id()).isNull();
+        assertThat(first.productId()).isEqualTo(35455L);
+        assertThat(first.brandId()).isEqualTo(1L);
+        assertThat(first.startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(first.endDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        assertThat(first.price()).isEqualByComparingTo(new BigDecimal("35.50"));
+        verify(catalogEvents).publish(PriceCatalogChangedEvent.forKeys(Set.of(new PriceKey(35455L, 1L))));
+    }
+
+    @Test
+    @DisplayName("Should keep the import pending until its catalog change has been published")
+    void shouldKeepImportPendingUntilPublished() {
+        // Given
+        givenWriterAccepts();
+        List<Boolean> pendingWhilePublishing = new ArrayList<>();
+        when(catalogEvents.publish(any())).thenReturn(Mono.fromRunnable(() -> pendingWhilePublishing.add(catalogWrites.pending())));
+        Flux<DataBuffer> content = content(CSV_HEADER + "\n", "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n")
+                .doOnNext(buffer -> pendingWhilePublishing.add(catalogWrites.pending()));
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.CSV))
+                .assertNext(result -> assertThat(result.imported()).isEqualTo(1))
+                .verifyComplete();
+        assertThat(pendingWhilePublishing).containsOnly(true).hasSize(3);
+        assertThat(catalogWrites.pending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse NDJSON rows keyed by the CSV column names across buffer boundaries")
+    void shouldImportNdjson() {
+        // Given
+        givenWriterAccepts();
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                "{\"BRAND_ID\":1,\"PRODUCT_ID\":35455,\"PRICE_LIST\":1,\"START_DATE\":\"2020-06-14T00:00:00\",",
+                "\"END_DATE\":\"2020-12-31T23:59:59\",\"PRICE\":35.50,\"CURR\":\"EUR\",\"PRIORITY\":0}\n",
+                "{\"id\":99,\"brand_id\":2,\"product_id\":35455,\"price_list\":2,\"start_date\":\"2020-06-14T00:00:00\",",
+                "\"end_date\":\"2020-12-31T23:59:59\",\"price\":20.00,\"curr\":\"EUR\",\"priority\":1}");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.NDJSON))
+                .assertNext(result -> assertThat(result.imported()).isEqualTo(2))
+                .verifyComplete();
+
+        assertThat(batches.get(0)).extracting(Price::id).containsOnlyNulls();
+        assertThat(batches.get(0)).extracting(Price::brandId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should truncate sub-second periods to whole seconds")
+    void shouldTruncateSubSecondPeriods() {
+        // Given
+        givenWriterAccepts();
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                "{\"BRAND_ID\":1,\"PRODUCT_ID\":35455,\"PRICE_LIST\":1,\"START_DATE\":\"2020-06-14T00:00:00.600\",",
+                "\"END_DATE\":\"2020-12-31T23:59:59.999999999\",\"PRICE\":35.50,\"CURR\":\"EUR\",\"PRIORITY\":0}\n");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.NDJSON))
+                .assertNext(result -> assertThat(result.imported()).isEqualTo(1))
+                .verifyComplete();
+
+        Price imported = batches.get(0).get(0);
+        assertThat(imported.startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(imported.endDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    }
+
+    @Test
+    @DisplayName("Should skip and count invalid lines")
+    void shouldRejectInvalidLines() {
+        // Given
+        givenWriterAccepts();
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                CSV_HEADER + "\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n",
+                "1,not-a-date,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n",
+                "1,2020-06-14 00:00:00,2020-06-13 00:00:00,1,35455,0,35.50,EUR\n",
+                "1,2020-06-14 00:00:00\n",
+                "\n");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.CSV))
+                .assertNext(result -> {
+                    assertThat(result.imported()).isEqualTo(1);
+                    assertThat(result.rejected()).isEqualTo(3);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read quoted CSV fields and reject malformed quoting")
+    void shouldReadQuotedFields() {
+        // Given
+        givenWriterAccepts();
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                "\"BRAND_ID\",START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,\"PRICE\",CURR\n",
+                "\"1\",\"2020-06-14 00:00:00\",2020-12-31 23:59:59,1,35455,0, \"35.50\" ,\"EUR\"\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,\"35.50,EUR\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,\"35\".50,EUR\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35\".50,EUR\n");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.CSV))
+                .assertNext(result -> {
+                    assertThat(result.imported()).isEqualTo(1);
+                    assertThat(result.rejected()).isEqualTo(3);
+                })
+                .verifyComplete();
+        assertThat(batches.get(0).get(0).price()).isEqualByComparingTo(new BigDecimal("35.50"));
+        assertThat(batches.get(0).get(0).currency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("Should reject prices that do not fit DECIMAL(10, 2) as line errors")
+    void shouldRejectPricesOutsideColumnPrecision() {
+        // Given
+        givenWriterAccepts();
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                CSV_HEADER + "\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,99999999.99,EUR\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,2,35455,0,35.500,EUR\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,3,35455,0,35.505,EUR\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,4,35455,0,100000000,EUR\n");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.CSV))
+                .assertNext(result -> {
+                    assertThat(result.imported()).isEqualTo(2);
+                    assertThat(result.rejected()).isEqualTo(2);
+                })
+                .verifyComplete();
+        assertThat(batches).flatMap(batch -> batch).extracting(Price::priceList).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should fail when the CSV header lacks a column")
+    void shouldFailOnIncompleteHeader() {
+        // Given
+        Flux<DataBuffer> content = content("BRAND_ID,PRODUCT_ID\n", "1,35455\n");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.CSV))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(writer, never()).insert(anyList());
+    }
+
+    @Test
+    @DisplayName("Should publish a full reload when too many keys were written")
+    void shouldPublishFullReloadForLargeImports() {
+        // Given
+        givenWriterAccepts();
+        ArgumentCaptor<PriceCatalogChangedEvent> event = ArgumentCaptor.forClass(PriceCatalogChangedEvent.class);
+        when(catalogEvents.publish(event.capture())).thenReturn(Mono.empty());
+        String rows = IntStream.rangeClosed(0, PriceImporter.MAX_TRACKED_KEYS)
+                .mapToObj(product -> "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1," + product + ",0,1.00,EUR\n")
+                .collect(Collectors.joining());
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content(CSV_HEADER + "\n", rows), PriceImportFormat.CSV))
+                .assertNext(result -> assertThat(result.imported()).isEqualTo(PriceImporter.MAX_TRACKED_KEYS + 1))
+                .verifyComplete();
+        assertThat(event.getValue().fullReload()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not publish a catalog change when nothing was imported")
+    void shouldNotPublishWhenNothingImported() {
+        // When / Then
+        StepVerifier.create(importer.importPrices(content(CSV_HEADER + "\n"), PriceImportFormat.CSV))
+                .assertNext(result -> assertThat(result.imported()).isZero())
+                .verifyComplete();
+        verify(catalogEvents, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Should publish the keys of the committed batches when a later batch fails")
+    void shouldPublishCommittedKeysWhenImportFails() {
+        // Given
+        when(writer.insert(anyList()))
+                .thenReturn(Mono.just(2L))
+                .thenReturn(Mono.error(new IllegalStateException("database unavailable")));
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                CSV_HEADER + "\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n",
+                "2,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35456,0,35.50,EUR\n",
+                "2,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35456,0,35.50,EUR\n");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.CSV))
+                .expectErrorMessage("database unavailable")
+                .verify();
+        verify(catalogEvents).publish(PriceCatalogChangedEvent.forKeys(
+                Set.of(new PriceKey(35455L, 1L), new PriceKey(35455L, 2L))));
+    }
+
+    @Test
+    @DisplayName("Should publish the keys of the committed batches when the import is cancelled")
+    void shouldPublishCommittedKeysWhenImportIsCancelled() {
+        // Given
+        when(writer.insert(anyList()))
+                .thenReturn(Mono.just(2L))
+                .thenReturn(Mono.never());
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                CSV_HEADER + "\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n",
+                "2,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35456,0,35.50,EUR\n");
+
+        // When / Then
+        StepVerifier.create(importer.importPrices(content, PriceImportFormat.CSV))
+                .expectSubscription()
+                .then(() -> verify(writer, timeout(5_000).times(2)).insert(anyList()))
+                .thenCancel()
+                .verify();
+        verify(catalogEvents).publish(PriceCatalogChangedEvent.forKeys(
+                Set.of(new PriceKey(35455L, 1L), new PriceKey(35455L, 2L))));
+        assertThat(catalogWrites.pending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stage a replacement and swap it in as a full reload")
+    void shouldReplaceCatalogThroughStaging() {
+        // Given
+        when(writer.clearStaged()).thenReturn(Mono.empty());
+        when(writer.stage(anyList())).thenAnswer(invocation -> Mono.just((long) invocation.<List<Price>>getArgument(0).size()));
+        when(writer.replaceWithStaged()).thenReturn(Mono.just(3L));
+        when(catalogEvents.publish(any())).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(
+                CSV_HEADER + "\n",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n",
+                "1,2020-06-14 15:00:00,2020-06-14 18:30:00,2,35455,1,25.45,EUR\n",
+                "1,2020-06-15 00:00:00,2020-06-15 11:00:00,3,35455,1,30.50,EUR\n");
+
+        // When / Then
+        StepVerifier.create(importer.replacePrices(content, PriceImportFormat.CSV))
+                .assertNext(result -> assertThat(result.imported()).isEqualTo(3))
+                .verifyComplete();
+
+        InOrder order = inOrder(writer, catalogEvents);
+        order.verify(writer).clearStaged();
+        order.verify(writer, times(2)).stage(anyList());
+        order.verify(writer).replaceWithStaged();
+        order.verify(catalogEvents).publish(PriceCatalogChangedEvent.all());
+        verify(writer, never()).insert(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep the current catalog when a replacement has no valid rows")
+    void shouldRefuseEmptyReplacement() {
+        // Given
+        when(writer.clearStaged()).thenReturn(Mono.empty());
+        Flux<DataBuffer> content = content(CSV_HEADER + "\n", "1,not-a-date,2020-12-31 23:59:59,1,35455,0,35.50,EUR\n");
+
+        // When / Then
+        StepVerifier.create(importer.replacePrices(content, PriceImportFormat.CSV))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(writer, never()).replaceWithStaged();
+        verify(catalogEvents, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Should refuse a replacement while another one is running")
+    void shouldRefuseConcurrentReplacement() {
+        // Given
+        when(writer.clearStaged()).thenReturn(Mono.never());
+        var first = importer.replacePrices(content(CSV_HEADER + "\n"), PriceImportFormat.CSV).subscribe();
+
+        // When / Then
+        StepVerifier.create(importer.replacePrices(content(CSV_HEADER + "\n"), PriceImportFormat.CSV))
+                .expectError(PriceImporter.ReplacementInProgressException.class)
+                .verify();
+
+        assertThat(catalogWrites.pending()).isTrue();
+        first.dispose();
+        assertThat(catalogWrites.pending()).isFalse();
+        when(writer.clearStaged()).thenReturn(Mono.error(new IllegalStateException("database unavailable")));
+        StepVerifier.create(importer.replacePrices(content(CSV_HEADER + "\n"), PriceImportFormat.CSV))
+                .expectErrorMessage("database unavailable")
+                .verify();
+    }
+
+    private void givenWriterAccepts() {
+        when(writer.insert(anyList())).thenAnswer(invocation -> {
+            List<Price> batch = invocation.getArgument(0);
+            batches.add(List.copyOf(batch));
+            return Mono.just((long) batch.size());
+        });
+    }
+
+    private static Flux<DataBuffer> content(String... chunks) {
+        return Flux.fromArray(chunks)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.felipe.spring_techincal_review_z.infrastructure.metrics;
+
+import com.felipe.spring_techincal_review_z.domain.exception.PriceNotFoundException;
+import com.felipe.spring_techincal_review_z.infrastructure.metrics.PriceLookupMetrics.Stage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceLookupMetrics Unit Tests")
+class PriceLookupMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PriceLookupMetrics metrics = new PriceLookupMetrics(registry);
+
+    @Test
+    @DisplayName("Should tag a lookup emitting a value as found")
+    void shouldRecordFound() {
+        // When
+        StepVerifier.create(metrics.time(Stage.CONTROLLER, 1L, Mono.just("price")))
+                .expectNext("price")
+                .verifyComplete();
+
+        // Then
+        assertThat(timer("controller", "found", "1").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tag empty lookups and PriceNotFoundException as not-found")
+    void shouldRecordNotFound() {
+        // When
+        StepVerifier.create(metrics.time(Stage.REPOSITORY, 2L, Mono.empty())).verifyComplete();
+        StepVerifier.create(metrics.time(Stage.REPOSITORY, 2L, Mono.error(new PriceNotFoundException("missing"))))
+                .verifyError(PriceNotFoundException.class);
+
+        // Then
+        assertThat(timer("repository", "not-found", "2").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should tag other failures as error")
+    void shouldRecordError() {
+        // When
+        StepVerifier.create(metrics.time(Stage.USE_CASE, 1L, Mono.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+
+        // Then
+        assertThat(timer("use-case", "error", "1").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time each subscription separately")
+    void shouldTimeEachSubscription() {
+        // Given
+        Mono<String> timed = metrics.time(Stage.REPOSITORY_QUERY, 1L, Mono.just("row"));
+
+        // When
+        timed.block();
+        timed.block();
+
+        // Then
+        assertThat(timer("repository.query", "found", "1").count()).isEqualTo(2);
+    }
+
+    private Timer timer(String stage, String outcome, String brand) {
+        return registry.get(PriceLookupMetrics.METRIC)
+                .tags("stage", stage, "outcome", outcome, "brand", brand)
+                .timer();
+    }
+}